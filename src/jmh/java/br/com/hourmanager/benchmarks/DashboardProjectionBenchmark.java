@@ -0,0 +1,83 @@
+package br.com.hourmanager.benchmarks;
+
+import br.com.hourmanager.application.core.calculation.PeriodBalance;
+import br.com.hourmanager.application.core.calculation.PeriodCalculationResult;
+import br.com.hourmanager.application.core.calculation.PeriodCalculationService;
+import br.com.hourmanager.application.core.calculation.PeriodWeekSegments;
+import br.com.hourmanager.application.core.calculation.WeekInPeriod;
+import br.com.hourmanager.application.core.holidays.HolidayCalendar;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.projection.DashboardProjection;
+import br.com.hourmanager.application.core.projection.DashboardProjectionService;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code project} com o cálculo já pronto (só a montagem da projeção): esqueleto de dias em cache
+ * contra um serviço novo a cada chamada (todos os DayInWeek montados de novo, como antes do esqueleto).
+ * Alocação: gradle jmh -Pjmh.includes=DashboardProjectionBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DashboardProjectionBenchmark {
+
+    private static final PeriodBounds BOUNDS = PeriodBounds.builder()
+            .start(LocalDate.of(2025, 1, 21))
+            .end(LocalDate.of(2025, 2, 20))
+            .build();
+    private static final LocalDate REFERENCE = LocalDate.of(2025, 2, 10);
+    private static final BigDecimal EXPECTED = new BigDecimal("40");
+
+    private PeriodCalculationService calculation;
+    private HolidayCalendar holidays;
+    private DashboardProjectionService warmService;
+
+    @Setup
+    public void setUp() {
+        List<WeekInPeriod> weeks = new ArrayList<>();
+        for (PeriodWeekSegments.SegmentBounds segment : PeriodWeekSegments.segmentsWithin(BOUNDS)) {
+            weeks.add(WeekInPeriod.builder()
+                    .weekStart(segment.start())
+                    .weekEnd(segment.end())
+                    .totalWorked(new BigDecimal("32.50"))
+                    .totalAdjusted(BigDecimal.ZERO)
+                    .balance(new BigDecimal("32.50"))
+                    .workingDaysCount(5)
+                    .hoursAvailable(new BigDecimal("40.00"))
+                    .baseWeeklyHours(EXPECTED)
+                    .totalSegmentHours(new BigDecimal("168"))
+                    .build());
+        }
+        PeriodCalculationResult result = PeriodCalculationResult.builder()
+                .summary(PeriodBalance.of(new BigDecimal("162.50"), new BigDecimal("4")))
+                .weeks(weeks)
+                .build();
+        calculation = new PeriodCalculationService(null, null) {
+            @Override
+            public PeriodCalculationResult computeWithWeeklyBreakdown(PeriodBounds bounds, BigDecimal expectedWeeklyHours,
+                                                                      Set<LocalDate> ignored) {
+                return result;
+            }
+        };
+        holidays = HolidayCalendar.build(LocalDate.of(2024, 1, 1), LocalDate.of(2026, 12, 31), Map.of());
+        warmService = new DashboardProjectionService(calculation);
+    }
+
+    @Benchmark
+    public DashboardProjection cachedDaySkeleton() {
+        return warmService.project(BOUNDS, REFERENCE, EXPECTED, holidays);
+    }
+
+    @Benchmark
+    public DashboardProjection daysBuiltPerRequest() {
+        return new DashboardProjectionService(calculation).project(BOUNDS, REFERENCE, EXPECTED, holidays);
+    }
+}
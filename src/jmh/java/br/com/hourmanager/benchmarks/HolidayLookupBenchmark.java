@@ -0,0 +1,85 @@
+package br.com.hourmanager.benchmarks;
+
+import br.com.hourmanager.application.core.holidays.BrazilianHolidayProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feriados nacionais de um período de fechamento (21 dez – 20 jan, dois anos) como no dashboard:
+ * HashSet por ano + Páscoa + removeIf (versão anterior) contra as tabelas por ano memorizadas.
+ * Alocação: gradle jmh -Pjmh.includes=HolidayLookupBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HolidayLookupBenchmark {
+
+    private final LocalDate start = LocalDate.of(2024, 12, 21);
+    private final LocalDate end = LocalDate.of(2025, 1, 20);
+
+    @Benchmark
+    public int rebuildPerRequest() {
+        Set<LocalDate> result = new HashSet<>();
+        for (int y = start.getYear(); y <= end.getYear(); y++) {
+            result.addAll(holidaysForYear(y));
+        }
+        result.removeIf(d -> d.isBefore(start) || d.isAfter(end));
+        return result.size();
+    }
+
+    @Benchmark
+    public int cachedSet() {
+        return BrazilianHolidayProvider.getHolidaysBetween(start, end).size();
+    }
+
+    @Benchmark
+    public int cachedEpochDays() {
+        return BrazilianHolidayProvider.epochDaysBetween(start, end).length;
+    }
+
+    @Benchmark
+    public int cachedCount() {
+        return BrazilianHolidayProvider.countBetween(start, end);
+    }
+
+    /** Cópia da construção por ano anterior às tabelas memorizadas. */
+    private static Set<LocalDate> holidaysForYear(int y) {
+        Set<LocalDate> set = new HashSet<>();
+        set.add(LocalDate.of(y, 1, 1));
+        set.add(LocalDate.of(y, 4, 21));
+        set.add(LocalDate.of(y, 5, 1));
+        set.add(LocalDate.of(y, 9, 7));
+        set.add(LocalDate.of(y, 10, 12));
+        set.add(LocalDate.of(y, 11, 2));
+        set.add(LocalDate.of(y, 11, 15));
+        set.add(LocalDate.of(y, 11, 20));
+        set.add(LocalDate.of(y, 12, 25));
+        LocalDate easter = easter(y);
+        set.add(easter.minusDays(47));
+        set.add(easter.minusDays(2));
+        set.add(easter.plusDays(60));
+        return set;
+    }
+
+    private static LocalDate easter(int year) {
+        int a = year % 19;
+        int b = year / 100;
+        int c = year % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int month = (h + l - 7 * m + 114) / 31;
+        int day = ((h + l - 7 * m + 114) % 31) + 1;
+        return LocalDate.of(year, month, day);
+    }
+}
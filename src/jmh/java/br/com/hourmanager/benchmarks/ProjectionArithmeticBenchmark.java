@@ -0,0 +1,64 @@
+package br.com.hourmanager.benchmarks;
+
+import br.com.hourmanager.application.core.calculation.CentiHours;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contas da projeção (disponibilidade por segmento, mês cheio, ritmo, projeção e razão da meta)
+ * em BigDecimal (versão anterior) contra centésimos em long.
+ * Alocação: gradle jmh -Pjmh.includes=ProjectionArithmeticBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjectionArithmeticBenchmark {
+
+    private static final BigDecimal HOURS_IN_FULL_WEEK = new BigDecimal("168");
+    private static final BigDecimal HOURS_IN_FULL_MONTH = new BigDecimal("720");
+    private static final BigDecimal RISK_THRESHOLD = new BigDecimal("0.70");
+    /** Segmentos de um período 21 jan – 20 fev (dias por segmento). */
+    private static final long[] SEGMENT_DAYS = {5, 7, 7, 7, 5};
+
+    private final BigDecimal expectedWeeklyHours = new BigDecimal("40.00");
+    private final BigDecimal balance = new BigDecimal("123.45");
+    private final long expectedCenti = 4000;
+    private final long balanceCenti = 12345;
+    private final long daysElapsed = 21;
+    private final long totalDays = 31;
+
+    @Benchmark
+    public int bigDecimal() {
+        BigDecimal totalAvailable = BigDecimal.ZERO;
+        for (long days : SEGMENT_DAYS) {
+            totalAvailable = totalAvailable.add(expectedWeeklyHours
+                    .divide(HOURS_IN_FULL_WEEK, 4, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(24 * days))
+                    .setScale(2, RoundingMode.HALF_UP));
+        }
+        BigDecimal fullMonth = expectedWeeklyHours.multiply(HOURS_IN_FULL_MONTH).divide(HOURS_IN_FULL_WEEK, 2, RoundingMode.HALF_UP);
+        BigDecimal target = totalAvailable.setScale(2, RoundingMode.HALF_UP);
+        BigDecimal rate = balance.divide(BigDecimal.valueOf(daysElapsed), 2, RoundingMode.HALF_UP);
+        BigDecimal projected = rate.multiply(BigDecimal.valueOf(totalDays)).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal ratio = projected.divide(target, 4, RoundingMode.HALF_UP);
+        int status = ratio.compareTo(BigDecimal.ONE) >= 0 ? 0 : ratio.compareTo(RISK_THRESHOLD) >= 0 ? 1 : 2;
+        return status + fullMonth.signum();
+    }
+
+    @Benchmark
+    public int centiHours() {
+        long totalAvailable = 0;
+        for (long days : SEGMENT_DAYS) {
+            totalAvailable += CentiHours.availableForSegment(expectedCenti, days);
+        }
+        long fullMonth = CentiHours.fullMonthMax(expectedCenti);
+        long rate = CentiHours.divideHalfUp(balanceCenti, daysElapsed);
+        long projected = rate * totalDays;
+        long ratio = CentiHours.ratio(projected, totalAvailable);
+        int status = ratio >= CentiHours.RATIO_ONE ? 0 : ratio >= 7_000 ? 1 : 2;
+        return status + Long.signum(fullMonth);
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.hourmanager.benchmarks;
+
+import br.com.hourmanager.application.core.calculation.PeriodDayBuckets;
+import br.com.hourmanager.application.core.calculation.PeriodWeekSegments;
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breakdown semanal: implementação anterior (um stream por segmento + um para o total, sobre as entradas)
+ * contra o caminho de produção (linhas do rollup diário, no máximo uma por dia, distribuídas em slots por dia).
+ * Rodar com: gradle jmh -Pjmh.includes=WeeklyBreakdownBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WeeklyBreakdownBenchmark {
+
+    private static final PeriodBounds BOUNDS = PeriodBounds.builder()
+            .start(LocalDate.of(2025, 1, 21))
+            .end(LocalDate.of(2025, 2, 20))
+            .build();
+
+    @Param({"10", "1000", "100000"})
+    public int entriesPerPeriod;
+
+    private List<HourEntry> entries;
+    private List<DailyHourTotal> dailyTotals;
+    private List<PeriodWeekSegments.SegmentBounds> segments;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        entries = new ArrayList<>(entriesPerPeriod);
+        for (int i = 0; i < entriesPerPeriod; i++) {
+            // Ordenadas por data, como em streamByEntryDateBetween
+            LocalDate date = BOUNDS.getStart().plusDays((long) i * 31 / entriesPerPeriod);
+            entries.add(HourEntry.builder()
+                    .entryDate(date)
+                    .hours(BigDecimal.valueOf(1 + random.nextInt(800), 2))
+                    .build());
+        }
+        // O que daily_hour_totals devolve para essas entradas: soma por dia, ordenado por data
+        TreeMap<LocalDate, DailyHourTotal> byDay = new TreeMap<>();
+        for (HourEntry entry : entries) {
+            byDay.merge(entry.getEntryDate(),
+                    DailyHourTotal.builder().entryDate(entry.getEntryDate()).hours(entry.getHours()).entryCount(1).build(),
+                    (a, b) -> DailyHourTotal.builder()
+                            .entryDate(a.getEntryDate())
+                            .hours(a.getHours().add(b.getHours()))
+                            .entryCount(a.getEntryCount() + b.getEntryCount())
+                            .build());
+        }
+        dailyTotals = new ArrayList<>(byDay.values());
+        segments = PeriodWeekSegments.segmentsWithin(BOUNDS);
+    }
+
+    @Benchmark
+    public BigDecimal streamPerSegment() {
+        BigDecimal checksum = BigDecimal.ZERO;
+        for (PeriodWeekSegments.SegmentBounds seg : segments) {
+            BigDecimal worked = entries.stream()
+                    .filter(e -> !e.getEntryDate().isBefore(seg.start()) && !e.getEntryDate().isAfter(seg.end()))
+                    .map(HourEntry::getHours)
+                    .filter(h -> h != null)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            checksum = checksum.add(worked);
+        }
+        BigDecimal total = entries.stream()
+                .map(HourEntry::getHours)
+                .filter(h -> h != null)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return checksum.add(total);
+    }
+
+    @Benchmark
+    public long dailyTotalsBuckets() {
+        PeriodDayBuckets buckets = PeriodDayBuckets.fromDailyTotals(BOUNDS, dailyTotals);
+        long checksum = 0;
+        long total = 0;
+        for (PeriodWeekSegments.SegmentBounds seg : segments) {
+            long worked = buckets.sumCentiBetween(seg.start(), seg.end());
+            checksum += worked;
+            total += worked;
+        }
+        return checksum + total;
+    }
+}
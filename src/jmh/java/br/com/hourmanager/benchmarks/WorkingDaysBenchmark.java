@@ -0,0 +1,63 @@
+package br.com.hourmanager.benchmarks;
+
+import br.com.hourmanager.application.core.calculation.WorkingDaysCalculator;
+import br.com.hourmanager.application.core.holidays.BrazilianHolidayProvider;
+import br.com.hourmanager.application.core.holidays.HolidayCalendar;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dias úteis em intervalos de 1 dia a 10 anos: laço dia a dia com HashSet (versão anterior)
+ * contra a contagem fechada com feriados do Set e do bitset.
+ * Rodar com: gradle jmh -Pjmh.includes=WorkingDaysBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WorkingDaysBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 6);
+
+    @Param({"1", "31", "365", "3650"})
+    public int days;
+
+    private LocalDate end;
+    private Set<LocalDate> holidays;
+    private HolidayCalendar calendar;
+
+    @Setup
+    public void setUp() {
+        end = START.plusDays(days - 1);
+        holidays = BrazilianHolidayProvider.getHolidaysBetween(START, end);
+        calendar = HolidayCalendar.build(START, end, Map.of());
+    }
+
+    @Benchmark
+    public int dayByDayLoop() {
+        int count = 0;
+        LocalDate d = START;
+        while (!d.isAfter(end)) {
+            DayOfWeek dow = d.getDayOfWeek();
+            if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !holidays.contains(d)) {
+                count++;
+            }
+            d = d.plusDays(1);
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int closedFormWithSet() {
+        return WorkingDaysCalculator.countWorkingDays(START, end, holidays);
+    }
+
+    @Benchmark
+    public int closedFormWithBitset() {
+        return WorkingDaysCalculator.countWorkingDays(START, end, calendar);
+    }
+}
@@ -0,0 +1,69 @@
+package br.com.hourmanager.adapters.input.cli;
+
+import br.com.hourmanager.adapters.input.imports.HourImportReader;
+import br.com.hourmanager.application.ports.input.ImportHoursInputGateway;
+import br.com.hourmanager.application.ports.input.ImportHoursInputGateway.ImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Modo linha de comando da importação: com hourmanager.import.file definido, importa o arquivo e encerra.
+ * Ex.: --hourmanager.import.file=horas.csv --spring.main.web-application-type=none
+ * Formato pela extensão ou por hourmanager.import.format (csv, ndjson). Sai com 0, ou 2 se houve linhas rejeitadas.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hourmanager.import.file")
+public class HourImportCommand implements ApplicationRunner {
+
+    private final ImportHoursInputGateway importHoursUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final String format;
+
+    public HourImportCommand(ImportHoursInputGateway importHoursUseCase,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             ConfigurableApplicationContext context,
+                             @Value("${hourmanager.import.file}") Path file,
+                             @Value("${hourmanager.import.format:}") String format) {
+        this.importHoursUseCase = importHoursUseCase;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.context = context;
+        this.file = file;
+        this.format = format;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        HourImportReader.Format importFormat = format.isBlank()
+                ? HourImportReader.Format.ofFileName(file.getFileName().toString())
+                : HourImportReader.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        ImportResult result;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            result = importHoursUseCase.importLines(new HourImportReader(reader, importFormat, objectMapper, validator));
+        }
+        result.errors().forEach(error -> log.warn("Linha {} rejeitada: {}", error.line(), String.join("; ", error.messages())));
+        log.info("Importação de {}: {} entradas, {} ajustes, {} linhas rejeitadas",
+                file, result.entriesImported(), result.adjustmentsImported(), result.linesRejected());
+        int exitCode = result.linesRejected() > 0 ? 2 : 0;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
@@ -1,22 +1,31 @@
 package br.com.hourmanager.adapters.input.controllers;
 
-import br.com.hourmanager.application.core.holidays.BrazilianHolidayProvider;
-import br.com.hourmanager.application.core.period.ClosurePeriodEngine;
 import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
 import br.com.hourmanager.application.core.projection.DashboardProjection;
-import br.com.hourmanager.application.core.projection.DashboardProjectionService;
-import br.com.hourmanager.application.ports.output.repositories.HolidayOverrideRepository;
-import br.com.hourmanager.application.ports.output.repositories.PeriodAdjustmentRepository;
+import br.com.hourmanager.application.core.projection.DashboardProjectionCache;
+import br.com.hourmanager.application.core.projection.DashboardProjectionPatch;
+import br.com.hourmanager.application.core.projection.DashboardProjectionReader;
+import br.com.hourmanager.application.core.projection.GoalScenario;
+import br.com.hourmanager.application.core.projection.GoalScenarioResult;
+import br.com.hourmanager.application.core.projection.ProjectionFields;
+import br.com.hourmanager.application.ports.input.SetHolidayOverrideInputGateway;
+import br.com.hourmanager.application.ports.input.SetPeriodAdjustmentInputGateway;
 import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 /**
  * Projeção do dashboard e overrides de feriados.
@@ -25,85 +34,234 @@ import java.util.Set;
 @RequestMapping("/api/v1/dashboard")
 public class DashboardController {
 
+    /** Cenários por requisição de /projection/scenarios. */
+    private static final int MAX_SCENARIOS = 1000;
+
+    /** Seções que um ajuste do período altera. */
+    private static final ProjectionFields ADJUSTMENT_SECTIONS = ProjectionFields.of(ProjectionFields.Section.TOTALS,
+            ProjectionFields.Section.GOAL_PROJECTION, ProjectionFields.Section.FORECAST);
+
+    /** Seções que um override de feriado altera (a previsão conta 0 em feriado; horas e disponibilidade não mudam). */
+    private static final ProjectionFields HOLIDAY_SECTIONS = ProjectionFields.of(ProjectionFields.Section.FORECAST);
+
     private final SystemConfigRepository systemConfigRepository;
-    private final DashboardProjectionService dashboardProjectionService;
-    private final HolidayOverrideRepository holidayOverrideRepository;
-    private final PeriodAdjustmentRepository periodAdjustmentRepository;
+    private final DashboardProjectionReader dashboardProjectionReader;
+    private final SetHolidayOverrideInputGateway setHolidayOverrideUseCase;
+    private final SetPeriodAdjustmentInputGateway setPeriodAdjustmentUseCase;
+    private final PeriodCalendarProvider periodCalendarProvider;
+    private final DashboardProjectionCache dashboardProjectionCache;
+    private final ProjectionStreamBroadcaster projectionStreamBroadcaster;
 
     public DashboardController(SystemConfigRepository systemConfigRepository,
-                               DashboardProjectionService dashboardProjectionService,
-                               HolidayOverrideRepository holidayOverrideRepository,
-                               PeriodAdjustmentRepository periodAdjustmentRepository) {
+                               DashboardProjectionReader dashboardProjectionReader,
+                               SetHolidayOverrideInputGateway setHolidayOverrideUseCase,
+                               SetPeriodAdjustmentInputGateway setPeriodAdjustmentUseCase,
+                               PeriodCalendarProvider periodCalendarProvider,
+                               DashboardProjectionCache dashboardProjectionCache,
+                               ProjectionStreamBroadcaster projectionStreamBroadcaster) {
         this.systemConfigRepository = systemConfigRepository;
-        this.dashboardProjectionService = dashboardProjectionService;
-        this.holidayOverrideRepository = holidayOverrideRepository;
-        this.periodAdjustmentRepository = periodAdjustmentRepository;
+        this.dashboardProjectionReader = dashboardProjectionReader;
+        this.setHolidayOverrideUseCase = setHolidayOverrideUseCase;
+        this.setPeriodAdjustmentUseCase = setPeriodAdjustmentUseCase;
+        this.periodCalendarProvider = periodCalendarProvider;
+        this.dashboardProjectionCache = dashboardProjectionCache;
+        this.projectionStreamBroadcaster = projectionStreamBroadcaster;
     }
 
     /**
      * Retorna a projeção completa: período, totais, progresso, semanas com dias (S T Q Q S (S)(D)) e feriados.
+     * ?fields=period,totals,progress,goalProjection,weeks,weeks.days limita as seções calculadas (as demais vêm null);
+     * campo desconhecido → 400.
+     * Resposta com ETag; If-None-Match com a ETag atual devolve 304 sem ler o banco.
      */
     @GetMapping("/projection")
     public ResponseEntity<DashboardProjection> getProjection(
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ProjectionFields selected;
+        try {
+            selected = ProjectionFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        LocalDate reference = date != null ? date : LocalDate.now();
+        DashboardProjectionCache.Key key = dashboardProjectionCache.currentKey(reference, selected);
+        String etag = dashboardProjectionCache.etagOf(key);
+        if (matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return projectionResponse(key, etag);
+    }
 
-        return systemConfigRepository.findCurrent()
-                .map(config -> {
-                    LocalDate reference = date != null ? date : LocalDate.now();
-                    PeriodBounds bounds = ClosurePeriodEngine.computePeriodContaining(
-                            reference,
-                            config.getClosureStartDay(),
-                            config.getClosureEndDay()
-                    );
-                    Set<LocalDate> effectiveHolidays = new HashSet<>(
-                            BrazilianHolidayProvider.getHolidaysBetween(bounds.getStart(), bounds.getEnd()));
-                    Map<LocalDate, Boolean> overrides = holidayOverrideRepository.getOverridesBetween(
-                            bounds.getStart(), bounds.getEnd());
-                    overrides.forEach((d, isHoliday) -> {
-                        if (isHoliday) effectiveHolidays.add(d);
-                        else effectiveHolidays.remove(d);
-                    });
-                    Set<LocalDate> overrideDates = new HashSet<>(overrides.keySet());
-                    DashboardProjection projection = dashboardProjectionService.project(
-                            bounds, reference, config.getExpectedWeeklyHours(),
-                            effectiveHolidays, overrideDates);
-                    return ResponseEntity.ok(projection);
-                })
+    /**
+     * Stream SSE (evento "projection", id = ETag) da mesma projeção do GET: enviada ao conectar e de novo
+     * a cada escrita commitada que toca o período (entradas, ajuste, overrides) ou configuração salva.
+     * Mesmos parâmetros do GET; campo desconhecido → 400.
+     */
+    @GetMapping(path = "/projection/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamProjection(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) String fields) {
+        ProjectionFields selected;
+        try {
+            selected = ProjectionFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(projectionStreamBroadcaster.subscribe(date, selected));
+    }
+
+    /**
+     * Avalia cenários hipotéticos da meta contra o estado atual, sem gravar nada (até {@value #MAX_SCENARIOS} por lote).
+     * Body: { "scenarios": [ { "id": "6h", "hoursPerRemainingDay": 6 },
+     * { "id": "ponte", "holidayOverrides": [ { "date": "2025-02-14", "holiday": true } ], "adjustedHours": 4 } ] }
+     */
+    @PostMapping("/projection/scenarios")
+    public ResponseEntity<List<GoalScenarioResult>> evaluateScenarios(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestBody ScenariosRequest request) {
+        if (request.getScenarios() == null || request.getScenarios().size() > MAX_SCENARIOS) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<GoalScenario> scenarios = new ArrayList<>(request.getScenarios().size());
+        for (ScenarioRequest scenario : request.getScenarios()) {
+            Map<LocalDate, Boolean> overrides = new HashMap<>();
+            if (scenario.getHolidayOverrides() != null) {
+                for (HolidayOverrideRequest override : scenario.getHolidayOverrides()) {
+                    if (override.getDate() == null) {
+                        return ResponseEntity.badRequest().build();
+                    }
+                    overrides.put(override.getDate(), override.isHoliday());
+                }
+            }
+            scenarios.add(GoalScenario.builder()
+                    .id(scenario.getId())
+                    .adjustedHours(scenario.getAdjustedHours())
+                    .hoursPerRemainingDay(scenario.getHoursPerRemainingDay())
+                    .holidayOverrides(overrides)
+                    .build());
+        }
+        LocalDate reference = date != null ? date : LocalDate.now();
+        return dashboardProjectionReader.evaluateScenarios(reference, scenarios)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.noContent().build());
     }
 
+    private ResponseEntity<DashboardProjection> projectionResponse(DashboardProjectionCache.Key key, String etag) {
+        return dashboardProjectionReader.read(key)
+                .map(projection -> ResponseEntity.ok().eTag(etag).body(projection))
+                .orElse(ResponseEntity.noContent().build());
+    }
+
+    /** Projeção de hoje depois de uma escrita (versões já atualizadas). */
+    private ResponseEntity<DashboardProjection> currentProjection() {
+        DashboardProjectionCache.Key key = dashboardProjectionCache.currentKey(LocalDate.now());
+        return projectionResponse(key, dashboardProjectionCache.etagOf(key));
+    }
+
+    /** If-None-Match: lista de ETags (fracas ou fortes). */
+    private static boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.startsWith("W/")) {
+                trimmed = trimmed.substring(2);
+            }
+            if (trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
-     * Alterna override de feriado para uma data: persiste apenas o override; projeção recalcula ao refetch.
+     * Alterna override de feriado para uma data: persiste apenas o override.
      * Body: { "date": "2025-01-21", "isHoliday": true } (true = feriado, false = dia útil).
+     * Resposta: patch com o dia alterado e a previsão recalculada (feriado não muda horas nem disponibilidade,
+     * então totais e meta não vêm); ?full=true devolve a projeção completa.
      */
     @PatchMapping("/holiday-overrides")
-    public ResponseEntity<DashboardProjection> toggleHolidayOverride(@RequestBody HolidayOverrideRequest request) {
+    public ResponseEntity<?> toggleHolidayOverride(@RequestBody HolidayOverrideRequest request,
+                                                   @RequestParam(defaultValue = "false") boolean full) {
         if (request.getDate() == null) {
             return ResponseEntity.badRequest().build();
         }
-        holidayOverrideRepository.setOverride(request.getDate(), request.isHoliday());
-        return getProjection(null);
+        setHolidayOverrideUseCase.set(request.getDate(), request.isHoliday());
+        if (full) {
+            return currentProjection();
+        }
+        LocalDate today = LocalDate.now();
+        String etag = currentEtag();
+        DashboardProjection changed = dashboardProjectionReader
+                .read(dashboardProjectionCache.currentKey(today, HOLIDAY_SECTIONS))
+                .orElse(null);
+        return ResponseEntity.ok(DashboardProjectionPatch.builder()
+                .etag(etag)
+                .forecast(changed != null ? changed.getForecast() : null)
+                .days(List.of(DashboardProjectionPatch.DayChange.builder()
+                        .date(request.getDate())
+                        .holiday(request.isHoliday())
+                        .userOverride(true)
+                        .build()))
+                .build());
     }
 
     /**
      * Define as horas ajustadas do período atual (slider). Body: { "adjustedHours": 10.5 }
+     * Resposta: patch com totais, meta e previsão (saldo do cache de cálculo, sem semanas nem dias);
+     * ?full=true devolve a projeção completa.
      */
     @PutMapping("/period-adjustment")
-    public ResponseEntity<DashboardProjection> setPeriodAdjustment(@RequestBody PeriodAdjustmentRequest request) {
+    public ResponseEntity<?> setPeriodAdjustment(@RequestBody PeriodAdjustmentRequest request,
+                                                 @RequestParam(defaultValue = "false") boolean full) {
         return systemConfigRepository.findCurrent()
-                .map(config -> {
-                    PeriodBounds bounds = ClosurePeriodEngine.computePeriodContaining(
-                            LocalDate.now(),
-                            config.getClosureStartDay(),
-                            config.getClosureEndDay()
-                    );
+                .<ResponseEntity<?>>map(config -> {
+                    LocalDate today = LocalDate.now();
+                    PeriodBounds bounds = periodCalendarProvider.forConfig(config).periodOf(today);
                     BigDecimal value = request.getAdjustedHours() != null ? request.getAdjustedHours() : BigDecimal.ZERO;
-                    periodAdjustmentRepository.setAdjustment(bounds.getStart(), bounds.getEnd(), value);
-                    return getProjection(null);
+                    setPeriodAdjustmentUseCase.set(bounds.getStart(), bounds.getEnd(), value);
+                    if (full) {
+                        return currentProjection();
+                    }
+                    String etag = currentEtag();
+                    return dashboardProjectionReader
+                            .read(dashboardProjectionCache.currentKey(today, ADJUSTMENT_SECTIONS))
+                            .<ResponseEntity<?>>map(changed -> ResponseEntity.ok(DashboardProjectionPatch.builder()
+                                    .etag(etag)
+                                    .totals(changed.getTotals())
+                                    .goalProjection(changed.getGoalProjection())
+                                    .forecast(changed.getForecast())
+                                    .build()))
+                            .orElse(ResponseEntity.noContent().build());
                 })
                 .orElse(ResponseEntity.noContent().build());
     }
 
+    /** ETag da projeção completa de hoje (versões já atualizadas pela escrita). */
+    private String currentEtag() {
+        return dashboardProjectionCache.etagOf(dashboardProjectionCache.currentKey(LocalDate.now()));
+    }
+
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class ScenariosRequest {
+        private List<ScenarioRequest> scenarios;
+    }
+
+    @lombok.Data
+    @lombok.NoArgsConstructor
+    @lombok.AllArgsConstructor
+    public static class ScenarioRequest {
+        private String id;
+        private BigDecimal adjustedHours;
+        private BigDecimal hoursPerRemainingDay;
+        private List<HolidayOverrideRequest> holidayOverrides;
+    }
+
     @lombok.Data
     @lombok.NoArgsConstructor
     @lombok.AllArgsConstructor
@@ -2,18 +2,24 @@ package br.com.hourmanager.adapters.input.controllers;
 
 import br.com.hourmanager.adapters.input.controllers.protocols.HourAdjustmentRequest;
 import br.com.hourmanager.adapters.input.controllers.protocols.HourAdjustmentResponse;
+import br.com.hourmanager.adapters.input.exports.HourExportWriter;
 import br.com.hourmanager.application.core.domains.HourAdjustment;
-import br.com.hourmanager.application.core.period.ClosurePeriodEngine;
 import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
 import br.com.hourmanager.application.ports.input.CreateHourAdjustmentInputGateway;
+import br.com.hourmanager.application.ports.input.ExportHoursInputGateway;
 import br.com.hourmanager.application.ports.input.data.HourAdjustmentInputData;
 import br.com.hourmanager.application.ports.output.repositories.HourAdjustmentRepository;
 import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
@@ -27,13 +33,22 @@ public class HourAdjustmentController {
     private final CreateHourAdjustmentInputGateway createHourAdjustmentUseCase;
     private final HourAdjustmentRepository hourAdjustmentRepository;
     private final SystemConfigRepository systemConfigRepository;
+    private final PeriodCalendarProvider periodCalendarProvider;
+    private final ExportHoursInputGateway exportHoursUseCase;
+    private final ObjectMapper objectMapper;
 
     public HourAdjustmentController(CreateHourAdjustmentInputGateway createHourAdjustmentUseCase,
                                    HourAdjustmentRepository hourAdjustmentRepository,
-                                   SystemConfigRepository systemConfigRepository) {
+                                   SystemConfigRepository systemConfigRepository,
+                                    PeriodCalendarProvider periodCalendarProvider,
+                                    ExportHoursInputGateway exportHoursUseCase,
+                                    ObjectMapper objectMapper) {
         this.createHourAdjustmentUseCase = createHourAdjustmentUseCase;
         this.hourAdjustmentRepository = hourAdjustmentRepository;
         this.systemConfigRepository = systemConfigRepository;
+        this.periodCalendarProvider = periodCalendarProvider;
+        this.exportHoursUseCase = exportHoursUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -65,6 +80,42 @@ public class HourAdjustmentController {
         return ResponseEntity.ok(adjustments.stream().map(HourAdjustmentController::toResponse).toList());
     }
 
+    /**
+     * Exporta os ajustes de [start, end] (sem os dois: todos) em NDJSON (padrão) ou CSV ({@code ?format=csv}),
+     * escrito enquanto o cursor lê. O CSV (id,type,date,hours,description) pode ser reimportado em /api/v1/imports/hours.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        HourExportWriter.Format exportFormat;
+        try {
+            exportFormat = HourExportWriter.Format.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if ((start == null) != (end == null) || (start != null && end.isBefore(start))) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> {
+            HourExportWriter writer = new HourExportWriter(out, exportFormat, objectMapper);
+            try {
+                writer.header("id", "type", "date", "hours", "description");
+                exportHoursUseCase.exportAdjustments(start, end, adjustment -> writer.row(toResponse(adjustment),
+                        adjustment.getId(), "adjustment", adjustment.getAdjustmentDate(), adjustment.getDeltaHours(),
+                        adjustment.getDescription()));
+                writer.flush();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"adjustments." + exportFormat.extension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<HourAdjustmentResponse> getById(@PathVariable UUID id) {
         return hourAdjustmentRepository.findById(id)
@@ -75,11 +126,7 @@ public class HourAdjustmentController {
     private List<HourAdjustment> listByCurrentPeriod() {
         return systemConfigRepository.findCurrent()
                 .map(config -> {
-                    PeriodBounds bounds = ClosurePeriodEngine.computePeriodContaining(
-                            LocalDate.now(),
-                            config.getClosureStartDay(),
-                            config.getClosureEndDay()
-                    );
+                    PeriodBounds bounds = periodCalendarProvider.forConfig(config).periodOf(LocalDate.now());
                     return hourAdjustmentRepository.findByAdjustmentDateBetween(bounds.getStart(), bounds.getEnd());
                 })
                 .orElse(List.of());
@@ -2,21 +2,34 @@ package br.com.hourmanager.adapters.input.controllers;
 
 import br.com.hourmanager.adapters.input.controllers.protocols.HourEntryRequest;
 import br.com.hourmanager.adapters.input.controllers.protocols.HourEntryResponse;
+import br.com.hourmanager.adapters.input.exports.HourExportWriter;
+import br.com.hourmanager.application.core.calculation.HourSumIndex;
 import br.com.hourmanager.application.core.domains.HourEntry;
-import br.com.hourmanager.application.core.period.ClosurePeriodEngine;
-import br.com.hourmanager.application.core.period.PeriodBounds;
 import br.com.hourmanager.application.ports.input.CreateHourEntryInputGateway;
+import br.com.hourmanager.application.ports.input.DeleteHourEntryInputGateway;
+import br.com.hourmanager.application.ports.input.ExportHoursInputGateway;
 import br.com.hourmanager.application.ports.input.data.HourEntryInputData;
 import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
-import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.springframework.http.HttpStatus.CREATED;
 
@@ -24,16 +37,31 @@ import static org.springframework.http.HttpStatus.CREATED;
 @RequestMapping("/api/v1/entries")
 public class HourEntryController {
 
+    /** Entradas por requisição de /batch. */
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final CreateHourEntryInputGateway createHourEntryUseCase;
+    private final DeleteHourEntryInputGateway deleteHourEntryUseCase;
     private final HourEntryRepository hourEntryRepository;
-    private final SystemConfigRepository systemConfigRepository;
+    private final HourSumIndex hourSumIndex;
+    private final Validator validator;
+    private final ExportHoursInputGateway exportHoursUseCase;
+    private final ObjectMapper objectMapper;
 
     public HourEntryController(CreateHourEntryInputGateway createHourEntryUseCase,
+                               DeleteHourEntryInputGateway deleteHourEntryUseCase,
                                HourEntryRepository hourEntryRepository,
-                               SystemConfigRepository systemConfigRepository) {
+                               HourSumIndex hourSumIndex,
+                               Validator validator,
+                               ExportHoursInputGateway exportHoursUseCase,
+                               ObjectMapper objectMapper) {
         this.createHourEntryUseCase = createHourEntryUseCase;
+        this.deleteHourEntryUseCase = deleteHourEntryUseCase;
         this.hourEntryRepository = hourEntryRepository;
-        this.systemConfigRepository = systemConfigRepository;
+        this.hourSumIndex = hourSumIndex;
+        this.validator = validator;
+        this.exportHoursUseCase = exportHoursUseCase;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -48,21 +76,119 @@ public class HourEntryController {
         return ResponseEntity.status(CREATED).body(toResponse(created));
     }
 
+    /**
+     * Cria até {@value #MAX_BATCH_SIZE} entradas numa transação (inserts em lote JDBC). Body: array de entradas.
+     * Todas são validadas antes de gravar: com qualquer item inválido nada é gravado e a resposta (400) traz
+     * os erros por item; senão 201 com a entrada criada de cada item, na ordem recebida.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<EntriesBatchResponse> createBatch(@RequestBody List<HourEntryRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<BatchItemResult> invalid = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            List<String> errors = validate(requests.get(i));
+            if (!errors.isEmpty()) {
+                invalid.add(new BatchItemResult(i, null, errors));
+            }
+        }
+        if (!invalid.isEmpty()) {
+            return ResponseEntity.badRequest().body(new EntriesBatchResponse(0, invalid));
+        }
+        List<HourEntry> created = createHourEntryUseCase.createAll(requests.stream()
+                .map(request -> HourEntryInputData.builder()
+                        .entryDate(request.getEntryDate())
+                        .hours(request.getHours())
+                        .description(request.getDescription())
+                        .build())
+                .toList());
+        List<BatchItemResult> results = new ArrayList<>(created.size());
+        for (int i = 0; i < created.size(); i++) {
+            results.add(new BatchItemResult(i, toResponse(created.get(i)), List.of()));
+        }
+        return ResponseEntity.status(CREATED).body(new EntriesBatchResponse(created.size(), results));
+    }
+
+    private List<String> validate(HourEntryRequest request) {
+        if (request == null) {
+            return List.of("entrada obrigatória");
+        }
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .toList();
+    }
+
+    /**
+     * Array JSON escrito enquanto o cursor lê (transação somente leitura no caso de uso): nenhuma lista
+     * intermediária, memória constante qualquer que seja o intervalo.
+     */
     @GetMapping
-    public ResponseEntity<List<HourEntryResponse>> list(
+    public ResponseEntity<StreamingResponseBody> list(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
             @RequestParam(required = false, defaultValue = "false") boolean periodCurrent) {
+        LocalDate today = LocalDate.now();
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                json.writeStartArray();
+                Consumer<HourEntry> sink = entry -> writeJson(json, toResponse(entry));
+                if (periodCurrent) {
+                    exportHoursUseCase.exportCurrentPeriodEntries(today, sink);
+                } else {
+                    exportHoursUseCase.exportEntries(start, end, sink);
+                }
+                json.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private static void writeJson(JsonGenerator json, Object value) {
+        try {
+            json.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        List<HourEntry> entries;
-        if (periodCurrent) {
-            entries = listByCurrentPeriod();
-        } else if (start != null && end != null) {
-            entries = hourEntryRepository.findByEntryDateBetween(start, end);
-        } else {
-            entries = hourEntryRepository.findAll();
+    /**
+     * Exporta as entradas de [start, end] (sem os dois: todas) em NDJSON (padrão) ou CSV ({@code ?format=csv}).
+     * Escrito enquanto o cursor lê: memória constante e o primeiro byte sai logo. O CSV
+     * (id,type,date,hours,description) pode ser reimportado em /api/v1/imports/hours.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        HourExportWriter.Format exportFormat;
+        try {
+            exportFormat = HourExportWriter.Format.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         }
-        return ResponseEntity.ok(entries.stream().map(HourEntryController::toResponse).toList());
+        if ((start == null) != (end == null) || (start != null && end.isBefore(start))) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> {
+            HourExportWriter writer = new HourExportWriter(out, exportFormat, objectMapper);
+            try {
+                writer.header("id", "type", "date", "hours", "description");
+                exportHoursUseCase.exportEntries(start, end, entry -> writer.row(toResponse(entry),
+                        entry.getId(), "entry", entry.getEntryDate(), entry.getHours(), entry.getDescription()));
+                writer.flush();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"entries." + exportFormat.extension() + "\"")
+                .body(body);
     }
 
     /**
@@ -86,6 +212,19 @@ public class HourEntryController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Total de horas em [start, end] (inclusive), respondido pelo índice de somas prefixadas em memória.
+     */
+    @GetMapping("/sum")
+    public ResponseEntity<EntriesSumResponse> sum(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        if (end.isBefore(start)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(new EntriesSumResponse(start, end, hourSumIndex.sumBetween(start, end)));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<HourEntryResponse> getById(@PathVariable UUID id) {
         return hourEntryRepository.findById(id)
@@ -95,26 +234,12 @@ public class HourEntryController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteById(@PathVariable UUID id) {
-        if (!hourEntryRepository.findById(id).isPresent()) {
+        if (!deleteHourEntryUseCase.delete(id)) {
             return ResponseEntity.notFound().build();
         }
-        hourEntryRepository.deleteById(id);
         return ResponseEntity.noContent().build();
     }
 
-    private List<HourEntry> listByCurrentPeriod() {
-        return systemConfigRepository.findCurrent()
-                .map(config -> {
-                    PeriodBounds bounds = ClosurePeriodEngine.computePeriodContaining(
-                            LocalDate.now(),
-                            config.getClosureStartDay(),
-                            config.getClosureEndDay()
-                    );
-                    return hourEntryRepository.findByEntryDateBetween(bounds.getStart(), bounds.getEnd());
-                })
-                .orElse(List.of());
-    }
-
     private static HourEntryResponse toResponse(HourEntry entry) {
         return HourEntryResponse.builder()
                 .id(entry.getId() != null ? entry.getId().toString() : null)
@@ -132,4 +257,24 @@ public class HourEntryController {
             int number,
             int size
     ) {}
+
+    /** Resultado do lote: criadas (0 se algum item foi rejeitado) e o resultado de cada item pelo índice no body. */
+    public record EntriesBatchResponse(
+            int created,
+            List<BatchItemResult> results
+    ) {}
+
+    /** Item do lote: entrada criada ou erros de validação. */
+    public record BatchItemResult(
+            int index,
+            HourEntryResponse entry,
+            List<String> errors
+    ) {}
+
+    /** Total de horas de um intervalo. */
+    public record EntriesSumResponse(
+            LocalDate start,
+            LocalDate end,
+            BigDecimal totalHours
+    ) {}
 }
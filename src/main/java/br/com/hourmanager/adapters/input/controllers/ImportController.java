@@ -0,0 +1,53 @@
+package br.com.hourmanager.adapters.input.controllers;
+
+import br.com.hourmanager.adapters.input.imports.HourImportReader;
+import br.com.hourmanager.application.ports.input.ImportHoursInputGateway;
+import br.com.hourmanager.application.ports.input.ImportHoursInputGateway.ImportResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Importação em massa de entradas e ajustes (migração de outro sistema).
+ */
+@RestController
+@RequestMapping("/api/v1/imports")
+public class ImportController {
+
+    private final ImportHoursInputGateway importHoursUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ImportController(ImportHoursInputGateway importHoursUseCase, ObjectMapper objectMapper, Validator validator) {
+        this.importHoursUseCase = importHoursUseCase;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Body em text/csv ou application/x-ndjson, lido em stream enquanto grava (ver {@link HourImportReader}).
+     * Linhas inválidas são puladas e relatadas; 400 só para cabeçalho CSV inválido.
+     */
+    @PostMapping(value = "/hours", consumes = {"text/csv", "application/x-ndjson", "application/ndjson"})
+    public ResponseEntity<ImportResult> importHours(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                    InputStream body) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        HourImportReader reader;
+        try {
+            reader = new HourImportReader(new InputStreamReader(body, charset), HourImportReader.Format.of(mediaType),
+                    objectMapper, validator);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(importHoursUseCase.importLines(reader));
+    }
+}
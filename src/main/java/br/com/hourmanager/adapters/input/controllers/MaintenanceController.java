@@ -0,0 +1,44 @@
+package br.com.hourmanager.adapters.input.controllers;
+
+import br.com.hourmanager.application.ports.input.DailyHourTotalsMaintenanceInputGateway;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Operações de manutenção de dados derivados (rollups).
+ */
+@RestController
+@RequestMapping("/api/v1/maintenance")
+public class MaintenanceController {
+
+    private final DailyHourTotalsMaintenanceInputGateway dailyHourTotalsMaintenance;
+
+    public MaintenanceController(DailyHourTotalsMaintenanceInputGateway dailyHourTotalsMaintenance) {
+        this.dailyHourTotalsMaintenance = dailyHourTotalsMaintenance;
+    }
+
+    /**
+     * Recria daily_hour_totals a partir de hour_entries (backfill ou correção).
+     */
+    @PostMapping("/daily-hour-totals/rebuild")
+    public ResponseEntity<RebuildResponse> rebuildDailyHourTotals() {
+        int days = dailyHourTotalsMaintenance.rebuild();
+        return ResponseEntity.ok(new RebuildResponse(days));
+    }
+
+    /**
+     * Lista as datas do intervalo em que daily_hour_totals diverge de hour_entries (vazio = consistente).
+     */
+    @GetMapping("/daily-hour-totals/check")
+    public ResponseEntity<List<LocalDate>> checkDailyHourTotals(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+        return ResponseEntity.ok(dailyHourTotalsMaintenance.findInconsistencies(start, end));
+    }
+
+    public record RebuildResponse(int daysWritten) {}
+}
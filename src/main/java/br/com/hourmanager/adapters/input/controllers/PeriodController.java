@@ -4,10 +4,11 @@ import br.com.hourmanager.adapters.input.controllers.protocols.PeriodBalanceResp
 import br.com.hourmanager.adapters.input.controllers.protocols.PeriodCurrentResponse;
 import br.com.hourmanager.application.core.calculation.PeriodBalance;
 import br.com.hourmanager.application.core.calculation.PeriodCalculationService;
-import br.com.hourmanager.application.core.period.ClosurePeriodEngine;
 import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
 import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -15,6 +16,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/period")
@@ -22,11 +25,14 @@ public class PeriodController {
 
     private final SystemConfigRepository systemConfigRepository;
     private final PeriodCalculationService periodCalculationService;
+    private final PeriodCalendarProvider periodCalendarProvider;
 
     public PeriodController(SystemConfigRepository systemConfigRepository,
-                            PeriodCalculationService periodCalculationService) {
+                            PeriodCalculationService periodCalculationService,
+                            PeriodCalendarProvider periodCalendarProvider) {
         this.systemConfigRepository = systemConfigRepository;
         this.periodCalculationService = periodCalculationService;
+        this.periodCalendarProvider = periodCalendarProvider;
     }
 
     /**
@@ -40,11 +46,7 @@ public class PeriodController {
         return systemConfigRepository.findCurrent()
                 .map(config -> {
                     LocalDate reference = date != null ? date : LocalDate.now();
-                    PeriodBounds bounds = ClosurePeriodEngine.computePeriodContaining(
-                            reference,
-                            config.getClosureStartDay(),
-                            config.getClosureEndDay()
-                    );
+                    PeriodBounds bounds = periodCalendarProvider.forConfig(config).periodOf(reference);
                     return ResponseEntity.ok(
                             PeriodCurrentResponse.builder()
                                     .start(bounds.getStart().toString())
@@ -66,22 +68,45 @@ public class PeriodController {
         return systemConfigRepository.findCurrent()
                 .map(config -> {
                     LocalDate reference = date != null ? date : LocalDate.now();
-                    PeriodBounds bounds = ClosurePeriodEngine.computePeriodContaining(
-                            reference,
-                            config.getClosureStartDay(),
-                            config.getClosureEndDay()
-                    );
+                    PeriodBounds bounds = periodCalendarProvider.forConfig(config).periodOf(reference);
                     PeriodBalance balance = periodCalculationService.compute(bounds);
-                    return ResponseEntity.ok(
-                            PeriodBalanceResponse.builder()
-                                    .periodStart(bounds.getStart().toString())
-                                    .periodEnd(bounds.getEnd().toString())
-                                    .totalWorked(balance.getTotalWorked())
-                                    .totalAdjusted(balance.getTotalAdjusted())
-                                    .balance(balance.getBalance())
-                                    .build()
-                    );
+                    return ResponseEntity.ok(toResponse(bounds, balance));
+                })
+                .orElse(ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Saldos de todos os períodos de fechamento que interceptam [from, to], em ordem cronológica.
+     * Entradas e ajustes do intervalo inteiro são lidos uma única vez (em vez de uma chamada a /balance por período).
+     */
+    @GetMapping("/history")
+    public ResponseEntity<List<PeriodBalanceResponse>> getHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        if (to.isBefore(from)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return systemConfigRepository.findCurrent()
+                .map(config -> {
+                    List<PeriodBounds> periods = periodCalendarProvider.forConfig(config).periodsBetween(from, to);
+                    List<PeriodBalance> balances = periodCalculationService.computeHistory(periods);
+                    List<PeriodBalanceResponse> response = new ArrayList<>(periods.size());
+                    for (int i = 0; i < periods.size(); i++) {
+                        response.add(toResponse(periods.get(i), balances.get(i)));
+                    }
+                    return ResponseEntity.ok(response);
                 })
                 .orElse(ResponseEntity.noContent().build());
     }
+
+    private static PeriodBalanceResponse toResponse(PeriodBounds bounds, PeriodBalance balance) {
+        return PeriodBalanceResponse.builder()
+                .periodStart(bounds.getStart().toString())
+                .periodEnd(bounds.getEnd().toString())
+                .totalWorked(balance.getTotalWorked())
+                .totalAdjusted(balance.getTotalAdjusted())
+                .balance(balance.getBalance())
+                .build();
+    }
 }
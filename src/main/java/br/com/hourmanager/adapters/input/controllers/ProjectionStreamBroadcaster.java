@@ -0,0 +1,240 @@
+package br.com.hourmanager.adapters.input.controllers;
+
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.projection.DashboardProjection;
+import br.com.hourmanager.application.core.projection.DashboardProjectionCache;
+import br.com.hourmanager.application.core.projection.DashboardProjectionReader;
+import br.com.hourmanager.application.core.projection.ProjectionFields;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Assinaturas do stream SSE da projeção, agrupadas por (data de referência, seções pedidas).
+ * Conexões ociosas não seguram thread (SseEmitter é resposta assíncrona); todo envio passa por uma única thread,
+ * que recalcula a projeção uma vez por grupo afetado e manda o mesmo objeto a todos os assinantes.
+ * Um grupo é afetado quando os dias da mudança ({@link DashboardProjectionCache.ChangeListener}) tocam o seu período;
+ * configuração salva ou rollup recriado afetam todos (e o período de cada grupo é recalculado).
+ * Mudanças em rajada são coalescidas: o grupo só é recalculado uma vez por passada.
+ * A conexão expira em {@code spring.mvc.async.request-timeout}, como as demais respostas assíncronas.
+ */
+@Slf4j
+@Component
+public class ProjectionStreamBroadcaster implements DashboardProjectionCache.ChangeListener {
+
+    private final DashboardProjectionReader dashboardProjectionReader;
+    private final DashboardProjectionCache dashboardProjectionCache;
+    private final Supplier<SseEmitter> emitters;
+    /** Única thread de envio: toda leitura e escrita de grupos fora de subscribe/changed passa por ela. */
+    private final Executor sender;
+    private final Supplier<LocalDate> today;
+
+    private final Map<GroupKey, Group> groups = new ConcurrentHashMap<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+
+    /** Último dia visto pelo heartbeat: na virada, grupos de "hoje" mudam de referência (e talvez de período). */
+    private volatile LocalDate lastToday;
+
+    @Autowired
+    public ProjectionStreamBroadcaster(DashboardProjectionReader dashboardProjectionReader,
+                                       DashboardProjectionCache dashboardProjectionCache) {
+        this(dashboardProjectionReader, dashboardProjectionCache, SseEmitter::new,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "projection-stream");
+                    thread.setDaemon(true);
+                    return thread;
+                }),
+                LocalDate::now);
+    }
+
+    ProjectionStreamBroadcaster(DashboardProjectionReader dashboardProjectionReader,
+                                DashboardProjectionCache dashboardProjectionCache,
+                                Supplier<SseEmitter> emitters,
+                                Executor sender,
+                                Supplier<LocalDate> today) {
+        this.dashboardProjectionReader = dashboardProjectionReader;
+        this.dashboardProjectionCache = dashboardProjectionCache;
+        this.emitters = emitters;
+        this.sender = sender;
+        this.today = today;
+        this.lastToday = today.get();
+        dashboardProjectionCache.addChangeListener(this);
+    }
+
+    /**
+     * Abre uma assinatura; a projeção atual é enviada logo em seguida (na thread de envio, antes de qualquer atualização).
+     *
+     * @param date data de referência fixa; null → hoje (acompanha a virada do dia)
+     */
+    public SseEmitter subscribe(LocalDate date, ProjectionFields fields) {
+        SseEmitter emitter = emitters.get();
+        GroupKey key = new GroupKey(date, fields);
+        // compute (e não computeIfAbsent + add): atômico com a remoção do grupo vazio em remove()
+        Group group = groups.compute(key, (k, existing) -> {
+            Group target = existing != null ? existing : new Group();
+            target.emitters.add(emitter);
+            return target;
+        });
+        emitter.onCompletion(() -> remove(key, emitter));
+        emitter.onTimeout(() -> remove(key, emitter));
+        emitter.onError(error -> remove(key, emitter));
+        sender.execute(() -> sendInitial(key, group, emitter));
+        return emitter;
+    }
+
+    @Override
+    public void changed(LocalDate from, LocalDate to) {
+        boolean any = false;
+        for (Group group : groups.values()) {
+            PeriodBounds bounds = group.bounds;
+            if (from == null || bounds == null || overlaps(bounds, from, to)) {
+                if (from == null) {
+                    group.boundsStale = true;
+                }
+                group.dirty.set(true);
+                any = true;
+            }
+        }
+        if (any) {
+            scheduleDrain();
+        }
+    }
+
+    /** Comentário periódico: mantém proxies abertos e descobre conexões mortas; na virada do dia, atualiza "hoje". */
+    @Scheduled(fixedDelayString = "${hourmanager.projection-stream.heartbeat-ms:30000}")
+    public void heartbeat() {
+        sender.execute(() -> {
+            LocalDate current = today.get();
+            if (!current.equals(lastToday)) {
+                lastToday = current;
+                groups.forEach((key, group) -> {
+                    if (key.date() == null) {
+                        group.boundsStale = true;
+                        group.dirty.set(true);
+                    }
+                });
+                scheduleDrain();
+            }
+            groups.forEach((key, group) -> {
+                for (SseEmitter emitter : group.emitters) {
+                    send(key, emitter, SseEmitter.event().comment("keep-alive"));
+                }
+            });
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sender instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+        groups.values().forEach(group -> group.emitters.forEach(SseEmitter::complete));
+        groups.clear();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    /** Recalcula cada grupo marcado uma vez e envia a todos os seus assinantes. */
+    private void drain() {
+        drainScheduled.set(false);
+        groups.forEach((key, group) -> {
+            if (!group.dirty.getAndSet(false)) {
+                return;
+            }
+            try {
+                Optional<Update> update = currentUpdate(key, group);
+                if (update.isEmpty() || update.get().etag().equals(group.lastEtag)) {
+                    return;
+                }
+                group.lastEtag = update.get().etag();
+                for (SseEmitter emitter : group.emitters) {
+                    send(key, emitter, event(update.get()));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Projection stream update failed for {}", key, e);
+            }
+        });
+    }
+
+    private void sendInitial(GroupKey key, Group group, SseEmitter emitter) {
+        try {
+            currentUpdate(key, group).ifPresent(update -> send(key, emitter, event(update)));
+        } catch (RuntimeException e) {
+            log.warn("Projection stream initial read failed for {}", key, e);
+        }
+    }
+
+    private Optional<Update> currentUpdate(GroupKey key, Group group) {
+        LocalDate reference = key.date() != null ? key.date() : today.get();
+        if (group.bounds == null || group.boundsStale) {
+            group.boundsStale = false;
+            group.bounds = dashboardProjectionReader.periodOf(reference).orElse(null);
+        }
+        DashboardProjectionCache.Key cacheKey = dashboardProjectionCache.currentKey(reference, key.fields());
+        String etag = dashboardProjectionCache.etagOf(cacheKey);
+        return dashboardProjectionReader.read(cacheKey).map(projection -> new Update(etag, projection));
+    }
+
+    private static SseEmitter.SseEventBuilder event(Update update) {
+        return SseEmitter.event()
+                .id(update.etag())
+                .name("projection")
+                .data(update.projection(), MediaType.APPLICATION_JSON);
+    }
+
+    private void send(GroupKey key, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException | IllegalStateException e) {
+            remove(key, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(GroupKey key, SseEmitter emitter) {
+        groups.computeIfPresent(key, (k, group) -> {
+            group.emitters.remove(emitter);
+            return group.emitters.isEmpty() ? null : group;
+        });
+    }
+
+    private static boolean overlaps(PeriodBounds bounds, LocalDate from, LocalDate to) {
+        return !to.isBefore(bounds.getStart()) && !from.isAfter(bounds.getEnd());
+    }
+
+    /** date null = hoje. */
+    private record GroupKey(LocalDate date, ProjectionFields fields) {
+    }
+
+    private record Update(String etag, DashboardProjection projection) {
+    }
+
+    private static final class Group {
+        final Set<SseEmitter> emitters = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean dirty = new AtomicBoolean();
+        /* Lidos e escritos pela thread de envio; bounds também lido em changed() (só para filtrar). */
+        volatile PeriodBounds bounds;
+        volatile boolean boundsStale;
+        volatile String lastEtag;
+    }
+}
@@ -2,6 +2,7 @@ package br.com.hourmanager.adapters.input.controllers;
 
 import br.com.hourmanager.adapters.input.controllers.protocols.SystemConfigRequest;
 import br.com.hourmanager.adapters.input.controllers.protocols.SystemConfigResponse;
+import br.com.hourmanager.application.core.holidays.HolidayCalendarService;
 import br.com.hourmanager.application.ports.input.SystemConfigInputGateway;
 import br.com.hourmanager.application.ports.input.data.SystemConfigInputData;
 import br.com.hourmanager.application.core.domains.SystemConfig;
@@ -18,20 +19,27 @@ public class SystemConfigController {
 
     private final SystemConfigInputGateway saveSystemConfigUseCase;
     private final SystemConfigRepository systemConfigRepository;
+    private final HolidayCalendarService holidayCalendarService;
 
     public SystemConfigController(SystemConfigInputGateway saveSystemConfigUseCase,
-                                  SystemConfigRepository systemConfigRepository) {
+                                  SystemConfigRepository systemConfigRepository,
+                                  HolidayCalendarService holidayCalendarService) {
         this.saveSystemConfigUseCase = saveSystemConfigUseCase;
         this.systemConfigRepository = systemConfigRepository;
+        this.holidayCalendarService = holidayCalendarService;
     }
 
     @PutMapping
     public ResponseEntity<SystemConfigResponse> save(@Valid @RequestBody SystemConfigRequest request) {
+        if (!holidayCalendarService.supportsRegion(request.getHolidayRegion())) {
+            return ResponseEntity.badRequest().build();
+        }
         saveSystemConfigUseCase.save(
                 SystemConfigInputData.builder()
                         .closureStartDay(request.getClosureStartDay())
                         .closureEndDay(request.getClosureEndDay())
                         .expectedWeeklyHours(request.getExpectedWeeklyHours())
+                        .holidayRegion(request.getHolidayRegion())
                         .build()
         );
         var config = systemConfigRepository.findCurrent().orElseThrow();
@@ -51,6 +59,7 @@ public class SystemConfigController {
                 .closureStartDay(config.getClosureStartDay())
                 .closureEndDay(config.getClosureEndDay())
                 .expectedWeeklyHours(config.getExpectedWeeklyHours())
+                .holidayRegion(config.getHolidayRegion())
                 .createdAt(config.getCreatedAt())
                 .build();
     }
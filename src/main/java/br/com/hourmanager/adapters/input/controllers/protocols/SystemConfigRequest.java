@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,4 +30,8 @@ public class SystemConfigRequest {
     /** Expectativa de horas por semana (ex.: 40); opcional para projeção da meta. */
     @DecimalMin("0.01")
     private BigDecimal expectedWeeklyHours;
+
+    /** Região dos feriados regionais: UF ("SP") ou UF-código IBGE do município ("SP-3550308"); opcional. */
+    @Pattern(regexp = "[A-Z]{2}(-\\d{7})?")
+    private String holidayRegion;
 }
@@ -20,5 +20,6 @@ public class SystemConfigResponse {
     private int closureStartDay;
     private int closureEndDay;
     private BigDecimal expectedWeeklyHours;
+    private String holidayRegion;
     private Instant createdAt;
 }
@@ -0,0 +1,125 @@
+package br.com.hourmanager.adapters.input.exports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Escreve uma exportação linha a linha em NDJSON (o objeto da resposta da API) ou CSV (valores da linha).
+ * Bufferizado; a primeira linha sai logo (flush) e depois a cada {@value #FLUSH_EVERY} linhas.
+ * Os métodos de escrita lançam {@link UncheckedIOException} para poderem ser usados dentro de um consumidor.
+ */
+public class HourExportWriter {
+
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException formato diferente de ndjson ou csv
+         */
+        public static Format of(String name) {
+            return Format.valueOf(name.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final Writer writer;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private long rows;
+
+    public HourExportWriter(OutputStream out, Format format, ObjectMapper objectMapper) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /** Cabeçalho do CSV (ignorado em NDJSON); enviado na hora. */
+    public void header(String... columns) {
+        if (format != Format.CSV) {
+            return;
+        }
+        writeCsv(columns);
+        flush();
+    }
+
+    /**
+     * Uma linha: {@code json} em NDJSON, {@code csvValues} (na ordem do cabeçalho) em CSV.
+     */
+    public void row(Object json, Object... csvValues) {
+        try {
+            if (format == Format.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(json));
+                writer.write('\n');
+            } else {
+                writeCsv(csvValues);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        rows++;
+        if (rows == 1 || rows % FLUSH_EVERY == 0) {
+            flush();
+        }
+    }
+
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(Object[] values) {
+        try {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvValue(values[i]));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** null vazio; aspas quando há vírgula, aspas, quebra de linha ou espaço nas pontas (RFC 4180). */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        boolean quote = text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0
+                || text.indexOf('\r') >= 0 || (!text.isEmpty() && text.strip().length() != text.length());
+        return quote ? '"' + text.replace("\"", "\"\"") + '"' : text;
+    }
+}
@@ -0,0 +1,417 @@
+package br.com.hourmanager.adapters.input.imports;
+
+import br.com.hourmanager.adapters.input.controllers.protocols.HourAdjustmentRequest;
+import br.com.hourmanager.adapters.input.controllers.protocols.HourEntryRequest;
+import br.com.hourmanager.application.ports.input.data.HourAdjustmentInputData;
+import br.com.hourmanager.application.ports.input.data.HourEntryInputData;
+import br.com.hourmanager.application.ports.input.data.HourImportLine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Lê um arquivo de importação sob demanda, um registro por vez, e valida cada um com as mesmas regras de
+ * {@link HourEntryRequest} e {@link HourAdjustmentRequest}. Só o registro atual fica em memória.
+ * <p>
+ * CSV: cabeçalho com date e hours (type e description opcionais; id, das exportações, é ignorado), campos entre aspas podem ter vírgulas e quebras de linha.
+ * NDJSON: um objeto por linha com os campos das requests ({"entryDate", "hours"} ou
+ * {"type": "adjustment", "adjustmentDate", "deltaHours"}). type ausente = entry.
+ * <p>
+ * A leitura é caractere a caractere e nenhum registro passa de {@value #MAX_RECORD_LENGTH} caracteres: o excesso
+ * é descartado até o fim da linha. Aspas que não fecham rejeitam só a linha onde abriram; as linhas seguintes
+ * (já lidas, no máximo um registro) são relidas como registros próprios.
+ */
+public class HourImportReader implements Iterator<HourImportLine> {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /** text/csv ou application/x-ndjson (também application/ndjson). */
+        public static Format of(MediaType mediaType) {
+            if ("csv".equalsIgnoreCase(mediaType.getSubtype())) {
+                return CSV;
+            }
+            if (mediaType.getSubtype().toLowerCase(Locale.ROOT).endsWith("ndjson")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Formato de importação não suportado: " + mediaType);
+        }
+
+        /** Pela extensão do arquivo (.csv, .ndjson ou .jsonl). */
+        public static Format ofFileName(String fileName) {
+            String name = fileName.toLowerCase(Locale.ROOT);
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return NDJSON;
+            }
+            throw new IllegalArgumentException("Extensão de importação não suportada: " + fileName);
+        }
+    }
+
+    private static final String TYPE_ENTRY = "entry";
+    private static final String TYPE_ADJUSTMENT = "adjustment";
+    /** Nenhum registro cresce além disto (mantém a memória limitada em arquivo malformado). */
+    static final int MAX_RECORD_LENGTH = 8192;
+    private static final Set<String> CSV_COLUMNS = Set.of("id", "type", "date", "hours", "description");
+
+    private final Reader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /** Coluna → índice no CSV (lido do cabeçalho). */
+    private Map<String, Integer> columns;
+    /** Linha do próximo caractere a ler (a partir de 1). */
+    private long lineNumber = 1;
+    /** Texto devolvido após aspas não fechadas: lido antes do reader. */
+    private String replay = "";
+    private int replayIndex;
+    /** Caractere lido a mais ao procurar o \n de um \r. */
+    private int pushedBack = -1;
+    private HourImportLine next;
+
+    /**
+     * Lê o cabeçalho (CSV) já na construção.
+     *
+     * @throws IllegalArgumentException cabeçalho CSV ausente ou sem date/hours
+     */
+    public HourImportReader(Reader reader, Format format, ObjectMapper objectMapper, Validator validator) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        if (format == Format.CSV) {
+            readHeader();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readRecord();
+        }
+        return next != null;
+    }
+
+    @Override
+    public HourImportLine next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        HourImportLine line = next;
+        next = null;
+        return line;
+    }
+
+    private void readHeader() {
+        RawRecord raw = readRaw();
+        if (raw == null) {
+            throw new IllegalArgumentException("Arquivo CSV vazio: cabeçalho esperado");
+        }
+        if (raw.error() != null) {
+            throw new IllegalArgumentException("Cabeçalho CSV inválido: " + raw.error());
+        }
+        String header = raw.text();
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        columns = new HashMap<>();
+        List<String> names = splitCsv(header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Coluna CSV desconhecida: " + names.get(i));
+            }
+            columns.put(name, i);
+        }
+        if (!columns.containsKey("date") || !columns.containsKey("hours")) {
+            throw new IllegalArgumentException("Cabeçalho CSV deve ter as colunas date e hours");
+        }
+    }
+
+    /** Próximo registro não vazio; null no fim do arquivo. */
+    private HourImportLine readRecord() {
+        RawRecord raw = readRaw();
+        if (raw == null) {
+            return null;
+        }
+        if (raw.error() != null) {
+            return rejected(raw.start(), List.of(raw.error()));
+        }
+        return format == Format.CSV ? parseCsv(raw.start(), raw.text()) : parseJson(raw.start(), raw.text());
+    }
+
+    private HourImportLine parseCsv(long start, String record) {
+        List<String> fields = splitCsv(record);
+        if (fields.size() > columns.size()) {
+            return rejected(start, List.of("esperadas no máximo " + columns.size() + " colunas, recebidas "
+                    + fields.size()));
+        }
+        String type = field(fields, "type");
+        List<String> errors = new ArrayList<>();
+        LocalDate date = parseDate(field(fields, "date"), errors);
+        BigDecimal hours = parseHours(field(fields, "hours"), errors);
+        if (!errors.isEmpty()) {
+            return rejected(start, errors);
+        }
+        String description = field(fields, "description");
+        if (type == null || TYPE_ENTRY.equalsIgnoreCase(type)) {
+            return entry(start, new HourEntryRequest(date, hours, description));
+        }
+        if (TYPE_ADJUSTMENT.equalsIgnoreCase(type)) {
+            return adjustment(start, new HourAdjustmentRequest(date, hours, description));
+        }
+        return rejected(start, List.of("tipo desconhecido: " + type));
+    }
+
+    private HourImportLine parseJson(long start, String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!(node instanceof ObjectNode object)) {
+                return rejected(start, List.of("objeto JSON esperado"));
+            }
+            JsonNode typeNode = object.remove("type");
+            String type = typeNode == null || typeNode.isNull() ? TYPE_ENTRY : typeNode.asText();
+            if (TYPE_ENTRY.equalsIgnoreCase(type)) {
+                return entry(start, objectMapper.treeToValue(object, HourEntryRequest.class));
+            }
+            if (TYPE_ADJUSTMENT.equalsIgnoreCase(type)) {
+                return adjustment(start, objectMapper.treeToValue(object, HourAdjustmentRequest.class));
+            }
+            return rejected(start, List.of("tipo desconhecido: " + type));
+        } catch (JsonProcessingException e) {
+            return rejected(start, List.of("JSON inválido: " + e.getOriginalMessage()));
+        } catch (IllegalArgumentException e) {
+            return rejected(start, List.of("JSON inválido: " + e.getMessage()));
+        }
+    }
+
+    private HourImportLine entry(long start, HourEntryRequest request) {
+        List<String> errors = validate(request);
+        if (!errors.isEmpty()) {
+            return rejected(start, errors);
+        }
+        return HourImportLine.builder()
+                .lineNumber(start)
+                .entry(HourEntryInputData.builder()
+                        .entryDate(request.getEntryDate())
+                        .hours(request.getHours())
+                        .description(request.getDescription())
+                        .build())
+                .build();
+    }
+
+    private HourImportLine adjustment(long start, HourAdjustmentRequest request) {
+        List<String> errors = validate(request);
+        if (!errors.isEmpty()) {
+            return rejected(start, errors);
+        }
+        return HourImportLine.builder()
+                .lineNumber(start)
+                .adjustment(HourAdjustmentInputData.builder()
+                        .adjustmentDate(request.getAdjustmentDate())
+                        .deltaHours(request.getDeltaHours())
+                        .description(request.getDescription())
+                        .build())
+                .build();
+    }
+
+    private <T> List<String> validate(T request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+    }
+
+    private static HourImportLine rejected(long start, List<String> errors) {
+        return HourImportLine.builder().lineNumber(start).errors(errors).build();
+    }
+
+    /** Valor da coluna; vazio ou coluna ausente = null. */
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate parseDate(String value, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            errors.add("data inválida: " + value);
+            return null;
+        }
+    }
+
+    private static BigDecimal parseHours(String value, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            errors.add("horas inválidas: " + value);
+            return null;
+        }
+    }
+
+    /** Campos de um registro CSV (RFC 4180: aspas delimitam, aspas dobradas escapam). */
+    static List<String> splitCsv(String record) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < record.length(); i++) {
+            char c = record.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < record.length() && record.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Próximo registro não vazio, lido até a quebra de linha fora de aspas (aspas só contam no CSV); null no fim
+     * do arquivo. Registro longo demais ou aspas sem fechamento voltam com {@code error} preenchido.
+     */
+    private RawRecord readRaw() {
+        StringBuilder record = new StringBuilder();
+        while (true) {
+            record.setLength(0);
+            long start = lineNumber;
+            boolean quoted = false;
+            int firstBreak = -1;
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1) {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n' && following != -1) {
+                        pushedBack = following;
+                    }
+                    c = '\n';
+                }
+                if (c == '\n') {
+                    lineNumber++;
+                    if (!quoted) {
+                        break;
+                    }
+                    if (firstBreak < 0) {
+                        firstBreak = record.length();
+                    }
+                } else if (c == '"' && format == Format.CSV) {
+                    quoted = !quoted;
+                }
+                record.append((char) c);
+                if (record.length() > MAX_RECORD_LENGTH) {
+                    if (quoted && firstBreak >= 0) {
+                        return unterminated(start, record, firstBreak);
+                    }
+                    skipLine();
+                    return new RawRecord(start, null, "registro com mais de " + MAX_RECORD_LENGTH + " caracteres");
+                }
+                c = read();
+            }
+            if (quoted) {
+                if (firstBreak >= 0) {
+                    return unterminated(start, record, firstBreak);
+                }
+                return new RawRecord(start, null, "campo entre aspas não fechado");
+            }
+            if (!record.toString().isBlank()) {
+                return new RawRecord(start, record.toString(), null);
+            }
+        }
+    }
+
+    /** Rejeita só a primeira linha do registro e devolve as demais para serem relidas. */
+    private RawRecord unterminated(long start, StringBuilder record, int firstBreak) {
+        String pending = pushedBack != -1 ? String.valueOf((char) pushedBack) : "";
+        replay = record.substring(firstBreak + 1) + pending + replay.substring(replayIndex);
+        replayIndex = 0;
+        pushedBack = -1;
+        lineNumber = start + 1;
+        return new RawRecord(start, null, "campo entre aspas não fechado");
+    }
+
+    /** Descarta o resto da linha atual sem guardar nada. */
+    private void skipLine() {
+        int c = read();
+        while (c != -1 && c != '\n' && c != '\r') {
+            c = read();
+        }
+        if (c == '\r') {
+            int following = read();
+            if (following != '\n' && following != -1) {
+                pushedBack = following;
+            }
+        }
+        if (c != -1) {
+            lineNumber++;
+        }
+    }
+
+    private int read() {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        if (replayIndex < replay.length()) {
+            return replay.charAt(replayIndex++);
+        }
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Registro bruto: {@code text} ou {@code error}. */
+    private record RawRecord(long start, String text, String error) {
+    }
+}
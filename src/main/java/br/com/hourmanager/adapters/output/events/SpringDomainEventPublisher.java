@@ -0,0 +1,17 @@
+package br.com.hourmanager.adapters.output.events;
+
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+@RequiredArgsConstructor
+public class SpringDomainEventPublisher implements DomainEventPublisher {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void publish(HourDomainEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.hourmanager.adapters.output.holidays;
+
+import br.com.hourmanager.application.ports.output.holidays.HolidayCalendarProvider;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Feriados regionais lidos uma única vez do recurso pré-compilado holidays/regional-holidays.bin
+ * (gerado por {@code gradle compileRegionalHolidays} a partir de src/main/holidays/regional-holidays.txt).
+ * Cada região vira um int[] de dias epoch ordenados; municípios já vêm mesclados com a UF,
+ * então a consulta é uma busca binária por ponta do intervalo, como nos feriados nacionais.
+ */
+public class BinaryRegionalHolidayProvider implements HolidayCalendarProvider {
+
+    public static final String DEFAULT_RESOURCE = "holidays/regional-holidays.bin";
+
+    private static final int MAGIC = 0x484D4843; // "HMHC"
+    private static final int VERSION = 1;
+    private static final Set<String> STATES = Set.of(
+            "AC", "AL", "AM", "AP", "BA", "CE", "DF", "ES", "GO", "MA", "MG", "MS", "MT", "PA",
+            "PB", "PE", "PI", "PR", "RJ", "RN", "RO", "RR", "RS", "SC", "SE", "SP", "TO");
+
+    private final Map<String, int[]> regions;
+
+    public BinaryRegionalHolidayProvider() {
+        this(DEFAULT_RESOURCE);
+    }
+
+    public BinaryRegionalHolidayProvider(String resource) {
+        try (InputStream in = BinaryRegionalHolidayProvider.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Recurso de feriados regionais não encontrado: " + resource);
+            }
+            this.regions = mergeMunicipalitiesWithStates(read(new DataInputStream(new BufferedInputStream(in))));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler feriados regionais de " + resource, e);
+        }
+    }
+
+    @Override
+    public boolean supports(String region) {
+        return regions.containsKey(region) || STATES.contains(region);
+    }
+
+    @Override
+    public int[] epochDaysBetween(String region, LocalDate start, LocalDate end) {
+        int[] days = regions.get(region);
+        if (days == null || end.isBefore(start)) {
+            return new int[0];
+        }
+        int from = lowerBound(days, (int) start.toEpochDay());
+        int to = lowerBound(days, (int) end.toEpochDay() + 1);
+        return Arrays.copyOfRange(days, from, to);
+    }
+
+    private static Map<String, int[]> read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readUnsignedShort() != VERSION) {
+            throw new IOException("Formato de feriados regionais desconhecido");
+        }
+        in.readUnsignedShort(); // primeiro ano
+        in.readUnsignedShort(); // último ano
+        int regionCount = in.readUnsignedShort();
+        Map<String, int[]> result = new HashMap<>(regionCount * 2);
+        for (int r = 0; r < regionCount; r++) {
+            String code = in.readUTF();
+            int[] days = new int[in.readInt()];
+            for (int i = 0; i < days.length; i++) {
+                days[i] = in.readInt();
+            }
+            result.put(code, days);
+        }
+        return result;
+    }
+
+    /** "UF-código" passa a conter também os feriados da UF. */
+    private static Map<String, int[]> mergeMunicipalitiesWithStates(Map<String, int[]> raw) {
+        Map<String, int[]> merged = new HashMap<>(raw);
+        raw.forEach((code, days) -> {
+            int dash = code.indexOf('-');
+            if (dash > 0) {
+                int[] state = raw.getOrDefault(code.substring(0, dash), new int[0]);
+                int[] both = new int[state.length + days.length];
+                System.arraycopy(state, 0, both, 0, state.length);
+                System.arraycopy(days, 0, both, state.length, days.length);
+                merged.put(code, Arrays.stream(both).sorted().distinct().toArray());
+            }
+        });
+        return Map.copyOf(merged);
+    }
+
+    /** Primeiro índice com valor &gt;= key. */
+    private static int lowerBound(int[] days, int key) {
+        int low = 0;
+        int high = days.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (days[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
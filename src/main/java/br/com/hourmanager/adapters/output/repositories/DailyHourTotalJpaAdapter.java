@@ -0,0 +1,53 @@
+package br.com.hourmanager.adapters.output.repositories;
+
+import br.com.hourmanager.adapters.output.repositories.jpa.DailyHourTotalJpaRepository;
+import br.com.hourmanager.adapters.output.repositories.protocols.DailyHourTotalEntity;
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DailyHourTotalJpaAdapter implements DailyHourTotalRepository {
+
+    private final DailyHourTotalJpaRepository repository;
+
+    @Override
+    public List<DailyHourTotal> findBetween(LocalDate start, LocalDate end) {
+        return repository.findByEntryDateBetweenOrderByEntryDateAsc(start, end).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<DailyHourTotal> findAll() {
+        return repository.findAllByOrderByEntryDateAsc().stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void applyDelta(LocalDate entryDate, BigDecimal hoursDelta, int entryCountDelta) {
+        repository.upsertDelta(entryDate, hoursDelta != null ? hoursDelta : BigDecimal.ZERO, entryCountDelta);
+        if (entryCountDelta < 0) {
+            repository.deleteIfEmpty(entryDate);
+        }
+    }
+
+    @Override
+    public int rebuildAll() {
+        repository.deleteAllRows();
+        return repository.insertFromHourEntries();
+    }
+
+    private DailyHourTotal toDomain(DailyHourTotalEntity entity) {
+        return DailyHourTotal.builder()
+                .entryDate(entity.getEntryDate())
+                .hours(entity.getTotalHours())
+                .entryCount(entity.getEntryCount())
+                .build();
+    }
+}
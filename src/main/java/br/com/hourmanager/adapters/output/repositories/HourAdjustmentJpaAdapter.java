@@ -4,17 +4,20 @@ import br.com.hourmanager.adapters.output.repositories.jpa.HourAdjustmentJpaRepo
 import br.com.hourmanager.adapters.output.repositories.protocols.HourAdjustmentEntity;
 import br.com.hourmanager.application.core.domains.HourAdjustment;
 import br.com.hourmanager.application.ports.output.repositories.HourAdjustmentRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class HourAdjustmentJpaAdapter implements HourAdjustmentRepository {
 
     private final HourAdjustmentJpaRepository repository;
+    private final EntityManager entityManager;
 
     @Override
     public Optional<HourAdjustment> findById(UUID id) {
@@ -47,6 +50,22 @@ public class HourAdjustmentJpaAdapter implements HourAdjustmentRepository {
                 .toList();
     }
 
+    @Override
+    public Stream<HourAdjustment> streamByAdjustmentDateBetween(LocalDate start, LocalDate end) {
+        return repository.streamByAdjustmentDateBetween(start, end).map(this::detachToDomain);
+    }
+
+    @Override
+    public Stream<HourAdjustment> streamAll() {
+        return repository.streamAll().map(this::detachToDomain);
+    }
+
+    /** Tira a entidade do contexto de persistência, para que ele não cresça com o cursor. */
+    private HourAdjustment detachToDomain(HourAdjustmentEntity entity) {
+        entityManager.detach(entity);
+        return toDomain(entity);
+    }
+
     private HourAdjustment toDomain(HourAdjustmentEntity entity) {
         return HourAdjustment.builder()
                 .id(entity.getId())
@@ -0,0 +1,92 @@
+package br.com.hourmanager.adapters.output.repositories;
+
+import br.com.hourmanager.application.core.domains.HourAdjustment;
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.period.PeriodCalendar;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.ports.output.repositories.HourBulkLoadRepository;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Carga em massa pelo protocolo COPY do PostgreSQL (CopyManager), na conexão da transação corrente.
+ * Cada chamada vira um único COPY com o lote em CSV; a memória é a do lote.
+ */
+@RequiredArgsConstructor
+public class HourBulkLoadCopyAdapter implements HourBulkLoadRepository {
+
+    private static final String COPY_ENTRIES =
+            "COPY hour_entries (id, entry_date, hours, description, period_start) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_ADJUSTMENTS =
+            "COPY hour_adjustments (id, adjustment_date, delta_hours, description) FROM STDIN WITH (FORMAT csv)";
+
+    private final EntityManager entityManager;
+    private final SystemConfigRepository systemConfigRepository;
+    private final PeriodCalendarProvider periodCalendarProvider;
+
+    @Override
+    public long copyEntries(List<HourEntry> entries) {
+        Optional<PeriodCalendar> calendar = systemConfigRepository.findCurrent().map(periodCalendarProvider::forConfig);
+        StringBuilder csv = new StringBuilder(entries.size() * 80);
+        for (HourEntry entry : entries) {
+            csv.append(UUID.randomUUID()).append(',')
+                    .append(entry.getEntryDate()).append(',')
+                    .append(entry.getHours().toPlainString()).append(',');
+            appendText(csv, entry.getDescription());
+            csv.append(',');
+            LocalDate periodStart = calendar
+                    .map(c -> HourEntryJpaAdapter.periodStartOf(c, entry.getEntryDate()))
+                    .orElse(null);
+            if (periodStart != null) {
+                csv.append(periodStart);
+            }
+            csv.append('\n');
+        }
+        return copy(COPY_ENTRIES, csv);
+    }
+
+    @Override
+    public long copyAdjustments(List<HourAdjustment> adjustments) {
+        StringBuilder csv = new StringBuilder(adjustments.size() * 80);
+        for (HourAdjustment adjustment : adjustments) {
+            csv.append(UUID.randomUUID()).append(',')
+                    .append(adjustment.getAdjustmentDate()).append(',')
+                    .append(adjustment.getDeltaHours().toPlainString()).append(',');
+            appendText(csv, adjustment.getDescription());
+            csv.append('\n');
+        }
+        return copy(COPY_ADJUSTMENTS, csv);
+    }
+
+    private long copy(String sql, CharSequence csv) {
+        if (csv.isEmpty()) {
+            return 0;
+        }
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /** Texto entre aspas (aspas dobradas); null fica vazio sem aspas, que o COPY csv lê como NULL. */
+    private static void appendText(StringBuilder csv, String text) {
+        if (text == null) {
+            return;
+        }
+        csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -1,9 +1,16 @@
 package br.com.hourmanager.adapters.output.repositories;
 
 import br.com.hourmanager.adapters.output.repositories.jpa.HourEntryJpaRepository;
+import br.com.hourmanager.adapters.output.repositories.protocols.DailyHoursProjection;
 import br.com.hourmanager.adapters.output.repositories.protocols.HourEntryEntity;
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
 import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendar;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
 import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 
@@ -11,11 +18,15 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 public class HourEntryJpaAdapter implements HourEntryRepository {
 
     private final HourEntryJpaRepository repository;
+    private final EntityManager entityManager;
+    private final SystemConfigRepository systemConfigRepository;
+    private final PeriodCalendarProvider periodCalendarProvider;
 
     @Override
     public Optional<HourEntry> findById(UUID id) {
@@ -34,22 +45,72 @@ public class HourEntryJpaAdapter implements HourEntryRepository {
                 .entryDate(hourEntry.getEntryDate())
                 .hours(hourEntry.getHours())
                 .description(hourEntry.getDescription())
+                .periodStart(periodStartOf(hourEntry.getEntryDate()))
                 .build();
         HourEntryEntity persisted = repository.save(entity);
         return toDomain(persisted);
     }
 
+    /**
+     * Ids UUID gerados em memória pelo Hibernate: nenhuma ida ao banco por linha, e os inserts saem em lotes
+     * de hibernate.jdbc.batch_size no flush. Configuração e calendário lidos uma vez para todo o lote.
+     */
     @Override
-    public List<HourEntry> findAll() {
-        return repository.findAll().stream()
+    public List<HourEntry> saveAll(List<HourEntry> hourEntries) {
+        Optional<PeriodCalendar> calendar = systemConfigRepository.findCurrent().map(periodCalendarProvider::forConfig);
+        List<HourEntryEntity> entities = hourEntries.stream()
+                .map(hourEntry -> HourEntryEntity.builder()
+                        .id(hourEntry.getId())
+                        .entryDate(hourEntry.getEntryDate())
+                        .hours(hourEntry.getHours())
+                        .description(hourEntry.getDescription())
+                        .periodStart(calendar.map(c -> periodStartOf(c, hourEntry.getEntryDate())).orElse(null))
+                        .build())
+                .toList();
+        return repository.saveAll(entities).stream()
                 .map(this::toDomain)
                 .toList();
     }
 
     @Override
-    public List<HourEntry> findByEntryDateBetween(LocalDate start, LocalDate end) {
-        return repository.findByEntryDateBetweenOrderByEntryDateAsc(start, end).stream()
-                .map(this::toDomain)
+    public Stream<HourEntry> streamByEntryDateBetween(LocalDate start, LocalDate end) {
+        return repository.streamByEntryDateBetween(start, end).map(this::detachToDomain);
+    }
+
+    @Override
+    public Stream<HourEntry> streamAll() {
+        return repository.streamAll().map(this::detachToDomain);
+    }
+
+    @Override
+    public Stream<HourEntry> streamByPeriodStart(LocalDate periodStart) {
+        return repository.streamByPeriodStart(periodStart).map(this::detachToDomain);
+    }
+
+    @Override
+    public Optional<LocalDate> findMinEntryDate() {
+        return repository.findMinEntryDate();
+    }
+
+    @Override
+    public Optional<LocalDate> findMaxEntryDate() {
+        return repository.findMaxEntryDate();
+    }
+
+    @Override
+    public int stampPeriodStart(LocalDate periodStart, LocalDate from, LocalDate to, int limit) {
+        return repository.stampPeriodStart(periodStart, from, to, limit);
+    }
+
+    @Override
+    public int clearPeriodStart(LocalDate start, LocalDate end, int limit) {
+        return repository.clearPeriodStart(start, end, limit);
+    }
+
+    @Override
+    public List<DailyHourTotal> sumHoursByDayBetween(LocalDate start, LocalDate end) {
+        return repository.sumHoursByDayBetween(start, end).stream()
+                .map(this::toDailyTotal)
                 .toList();
     }
 
@@ -67,6 +128,35 @@ public class HourEntryJpaAdapter implements HourEntryRepository {
         );
     }
 
+    /** Início do período que contém a data na configuração atual; null sem configuração ou em dia sem fechamento. */
+    private LocalDate periodStartOf(LocalDate entryDate) {
+        if (entryDate == null) {
+            return null;
+        }
+        return systemConfigRepository.findCurrent()
+                .map(config -> periodStartOf(periodCalendarProvider.forConfig(config), entryDate))
+                .orElse(null);
+    }
+
+    /** Mesma regra para a carga em massa ({@link HourBulkLoadCopyAdapter}). */
+    static LocalDate periodStartOf(PeriodCalendar calendar, LocalDate entryDate) {
+        if (entryDate == null) {
+            return null;
+        }
+        PeriodBounds bounds = calendar.periodOf(entryDate);
+        return contains(bounds, entryDate) ? bounds.getStart() : null;
+    }
+
+    private static boolean contains(PeriodBounds bounds, LocalDate date) {
+        return !date.isBefore(bounds.getStart()) && !date.isAfter(bounds.getEnd());
+    }
+
+    /** Tira a entidade do contexto de persistência, para que ele não cresça com o cursor. */
+    private HourEntry detachToDomain(HourEntryEntity entity) {
+        entityManager.detach(entity);
+        return toDomain(entity);
+    }
+
     private HourEntry toDomain(HourEntryEntity entity) {
         return HourEntry.builder()
                 .id(entity.getId())
@@ -75,4 +165,12 @@ public class HourEntryJpaAdapter implements HourEntryRepository {
                 .description(entity.getDescription())
                 .build();
     }
+
+    private DailyHourTotal toDailyTotal(DailyHoursProjection row) {
+        return DailyHourTotal.builder()
+                .entryDate(row.getEntryDate())
+                .hours(row.getHours())
+                .entryCount(row.getEntryCount())
+                .build();
+    }
 }
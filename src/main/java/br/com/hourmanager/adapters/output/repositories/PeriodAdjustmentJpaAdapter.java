@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @RequiredArgsConstructor
@@ -36,4 +37,11 @@ public class PeriodAdjustmentJpaAdapter implements PeriodAdjustmentRepository {
                         .adjustedHours(value)
                         .build()));
     }
+
+    @Override
+    public List<PeriodAdjustmentValue> findByPeriodStartBetween(LocalDate start, LocalDate end) {
+        return repository.findByPeriodStartBetweenOrderByPeriodStartAsc(start, end).stream()
+                .map(e -> new PeriodAdjustmentValue(e.getPeriodStart(), e.getPeriodEnd(), e.getAdjustedHours()))
+                .toList();
+    }
 }
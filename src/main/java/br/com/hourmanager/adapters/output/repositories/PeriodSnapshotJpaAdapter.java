@@ -0,0 +1,90 @@
+package br.com.hourmanager.adapters.output.repositories;
+
+import br.com.hourmanager.adapters.output.repositories.jpa.PeriodSnapshotJpaRepository;
+import br.com.hourmanager.adapters.output.repositories.protocols.PeriodSnapshotEntity;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshot;
+import br.com.hourmanager.application.ports.output.repositories.PeriodSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class PeriodSnapshotJpaAdapter implements PeriodSnapshotRepository {
+
+    private static final TypeReference<List<WeekJson>> WEEKS_TYPE = new TypeReference<>() {
+    };
+
+    private final PeriodSnapshotJpaRepository repository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Optional<PeriodSnapshot> find(LocalDate periodStart, LocalDate periodEnd) {
+        return repository.findByPeriodStartAndPeriodEnd(periodStart, periodEnd).map(this::toDomain);
+    }
+
+    @Override
+    public void save(PeriodSnapshot snapshot) {
+        repository.save(PeriodSnapshotEntity.builder()
+                .periodStart(snapshot.getPeriodStart())
+                .periodEnd(snapshot.getPeriodEnd())
+                .totalWorked(snapshot.getTotalWorked())
+                .totalAdjusted(snapshot.getTotalAdjusted())
+                .weeksJson(writeWeeks(snapshot.getWeeks()))
+                .frozenAt(snapshot.getFrozenAt())
+                .build());
+    }
+
+    @Override
+    public void delete(LocalDate periodStart, LocalDate periodEnd) {
+        repository.deleteById(new PeriodSnapshotEntity.PeriodSnapshotId(periodStart, periodEnd));
+    }
+
+    @Override
+    public void deleteAll() {
+        repository.deleteAllInBatch();
+    }
+
+    private PeriodSnapshot toDomain(PeriodSnapshotEntity entity) {
+        return PeriodSnapshot.builder()
+                .periodStart(entity.getPeriodStart())
+                .periodEnd(entity.getPeriodEnd())
+                .totalWorked(entity.getTotalWorked())
+                .totalAdjusted(entity.getTotalAdjusted())
+                .weeks(readWeeks(entity.getWeeksJson()))
+                .frozenAt(entity.getFrozenAt())
+                .build();
+    }
+
+    private String writeWeeks(List<PeriodSnapshot.WeekTotal> weeks) {
+        List<WeekJson> rows = weeks.stream()
+                .map(w -> new WeekJson(w.getWeekStart().toString(), w.getWeekEnd().toString(), w.getTotalWorked()))
+                .toList();
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize period snapshot weeks", e);
+        }
+    }
+
+    private List<PeriodSnapshot.WeekTotal> readWeeks(String json) {
+        try {
+            return objectMapper.readValue(json, WEEKS_TYPE).stream()
+                    .map(w -> PeriodSnapshot.WeekTotal.builder()
+                            .weekStart(LocalDate.parse(w.weekStart()))
+                            .weekEnd(LocalDate.parse(w.weekEnd()))
+                            .totalWorked(w.totalWorked())
+                            .build())
+                    .toList();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read period snapshot weeks", e);
+        }
+    }
+
+    record WeekJson(String weekStart, String weekEnd, BigDecimal totalWorked) {}
+}
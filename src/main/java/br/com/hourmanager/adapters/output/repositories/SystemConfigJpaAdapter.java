@@ -27,6 +27,7 @@ public class SystemConfigJpaAdapter implements SystemConfigRepository {
                 .closureStartDay(systemConfig.getClosureStartDay())
                 .closureEndDay(systemConfig.getClosureEndDay())
                 .expectedWeeklyHours(systemConfig.getExpectedWeeklyHours())
+                .holidayRegion(systemConfig.getHolidayRegion())
                 .createdAt(systemConfig.getCreatedAt())
                 .build();
         SystemConfigEntity persisted = repository.save(entity);
@@ -39,6 +40,7 @@ public class SystemConfigJpaAdapter implements SystemConfigRepository {
                 .closureStartDay(entity.getClosureStartDay())
                 .closureEndDay(entity.getClosureEndDay())
                 .expectedWeeklyHours(entity.getExpectedWeeklyHours())
+                .holidayRegion(entity.getHolidayRegion())
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
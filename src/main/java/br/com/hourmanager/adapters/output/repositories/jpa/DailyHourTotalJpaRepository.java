@@ -0,0 +1,45 @@
+package br.com.hourmanager.adapters.output.repositories.jpa;
+
+import br.com.hourmanager.adapters.output.repositories.protocols.DailyHourTotalEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface DailyHourTotalJpaRepository extends JpaRepository<DailyHourTotalEntity, LocalDate> {
+
+    List<DailyHourTotalEntity> findByEntryDateBetweenOrderByEntryDateAsc(LocalDate start, LocalDate end);
+
+    List<DailyHourTotalEntity> findAllByOrderByEntryDateAsc();
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_hour_totals (entry_date, total_hours, entry_count) "
+            + "VALUES (:entryDate, :hours, :count) "
+            + "ON CONFLICT (entry_date) DO UPDATE SET "
+            + "total_hours = daily_hour_totals.total_hours + EXCLUDED.total_hours, "
+            + "entry_count = daily_hour_totals.entry_count + EXCLUDED.entry_count",
+            nativeQuery = true)
+    void upsertDelta(@Param("entryDate") LocalDate entryDate,
+                     @Param("hours") BigDecimal hours,
+                     @Param("count") int count);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_hour_totals WHERE entry_date = :entryDate AND entry_count <= 0", nativeQuery = true)
+    void deleteIfEmpty(@Param("entryDate") LocalDate entryDate);
+
+    @Modifying
+    @Query(value = "DELETE FROM daily_hour_totals", nativeQuery = true)
+    void deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO daily_hour_totals (entry_date, total_hours, entry_count) "
+            + "SELECT entry_date, SUM(hours), COUNT(*) FROM hour_entries GROUP BY entry_date",
+            nativeQuery = true)
+    int insertFromHourEntries();
+}
@@ -1,15 +1,38 @@
 package br.com.hourmanager.adapters.output.repositories.jpa;
 
 import br.com.hourmanager.adapters.output.repositories.protocols.HourAdjustmentEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface HourAdjustmentJpaRepository extends JpaRepository<HourAdjustmentEntity, UUID> {
 
+    String STREAM_FETCH_SIZE = "500";
+
     List<HourAdjustmentEntity> findByAdjustmentDateBetweenOrderByAdjustmentDateAsc(LocalDate start, LocalDate end);
+
+    /** Cursor somente leitura, só para frente, buscando {@value #STREAM_FETCH_SIZE} linhas por ida ao banco. */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM HourAdjustmentEntity a WHERE a.adjustmentDate BETWEEN :start AND :end ORDER BY a.adjustmentDate ASC")
+    Stream<HourAdjustmentEntity> streamByAdjustmentDateBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM HourAdjustmentEntity a ORDER BY a.adjustmentDate ASC")
+    Stream<HourAdjustmentEntity> streamAll();
 }
@@ -1,19 +1,82 @@
 package br.com.hourmanager.adapters.output.repositories.jpa;
 
+import br.com.hourmanager.adapters.output.repositories.protocols.DailyHoursProjection;
 import br.com.hourmanager.adapters.output.repositories.protocols.HourEntryEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface HourEntryJpaRepository extends JpaRepository<HourEntryEntity, UUID> {
 
-    List<HourEntryEntity> findByEntryDateBetweenOrderByEntryDateAsc(LocalDate start, LocalDate end);
+    String STREAM_FETCH_SIZE = "500";
+
+    /** Cursor somente leitura, só para frente, buscando {@value #STREAM_FETCH_SIZE} linhas por ida ao banco. */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM HourEntryEntity e WHERE e.entryDate BETWEEN :start AND :end ORDER BY e.entryDate ASC")
+    Stream<HourEntryEntity> streamByEntryDateBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM HourEntryEntity e ORDER BY e.entryDate ASC")
+    Stream<HourEntryEntity> streamAll();
 
     Page<HourEntryEntity> findByEntryDateBetweenOrderByEntryDateDesc(LocalDate start, LocalDate end, Pageable pageable);
+
+    @Query("SELECT e.entryDate AS entryDate, SUM(e.hours) AS hours, COUNT(e) AS entryCount "
+            + "FROM HourEntryEntity e WHERE e.entryDate BETWEEN :start AND :end "
+            + "GROUP BY e.entryDate ORDER BY e.entryDate ASC")
+    List<DailyHoursProjection> sumHoursByDayBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM HourEntryEntity e WHERE e.periodStart = :periodStart ORDER BY e.entryDate ASC")
+    Stream<HourEntryEntity> streamByPeriodStart(@Param("periodStart") LocalDate periodStart);
+
+    @Query("SELECT MIN(e.entryDate) FROM HourEntryEntity e")
+    Optional<LocalDate> findMinEntryDate();
+
+    @Query("SELECT MAX(e.entryDate) FROM HourEntryEntity e")
+    Optional<LocalDate> findMaxEntryDate();
+
+    /** Grava period_start em até :limit linhas de [:from, :to] que ainda têm outro valor. */
+    @Modifying
+    @Query(value = "UPDATE hour_entries SET period_start = :periodStart WHERE id IN ("
+            + "SELECT id FROM hour_entries WHERE entry_date BETWEEN :from AND :to "
+            + "AND period_start IS DISTINCT FROM :periodStart LIMIT :limit)",
+            nativeQuery = true)
+    int stampPeriodStart(@Param("periodStart") LocalDate periodStart,
+                         @Param("from") LocalDate from,
+                         @Param("to") LocalDate to,
+                         @Param("limit") int limit);
+
+    /** Limpa period_start em até :limit linhas de dias fora de qualquer período. */
+    @Modifying
+    @Query(value = "UPDATE hour_entries SET period_start = NULL WHERE id IN ("
+            + "SELECT id FROM hour_entries WHERE entry_date BETWEEN :start AND :end "
+            + "AND period_start IS NOT NULL LIMIT :limit)",
+            nativeQuery = true)
+    int clearPeriodStart(@Param("start") LocalDate start,
+                         @Param("end") LocalDate end,
+                         @Param("limit") int limit);
 }
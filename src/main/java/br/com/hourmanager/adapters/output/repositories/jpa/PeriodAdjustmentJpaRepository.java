@@ -5,10 +5,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PeriodAdjustmentJpaRepository extends JpaRepository<PeriodAdjustmentEntity, PeriodAdjustmentEntity.PeriodAdjustmentId> {
 
     Optional<PeriodAdjustmentEntity> findByPeriodStartAndPeriodEnd(LocalDate periodStart, LocalDate periodEnd);
+
+    List<PeriodAdjustmentEntity> findByPeriodStartBetweenOrderByPeriodStartAsc(LocalDate start, LocalDate end);
 }
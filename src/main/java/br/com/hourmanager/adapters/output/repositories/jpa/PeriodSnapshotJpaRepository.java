@@ -0,0 +1,14 @@
+package br.com.hourmanager.adapters.output.repositories.jpa;
+
+import br.com.hourmanager.adapters.output.repositories.protocols.PeriodSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface PeriodSnapshotJpaRepository extends JpaRepository<PeriodSnapshotEntity, PeriodSnapshotEntity.PeriodSnapshotId> {
+
+    Optional<PeriodSnapshotEntity> findByPeriodStartAndPeriodEnd(LocalDate periodStart, LocalDate periodEnd);
+}
@@ -0,0 +1,31 @@
+package br.com.hourmanager.adapters.output.repositories.protocols;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Rollup diário de hour_entries: uma linha por data com soma das horas e quantidade de entradas.
+ * Mantido na mesma transação da criação/remoção de entradas.
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "DailyHourTotalEntity")
+@Table(name = "daily_hour_totals")
+public class DailyHourTotalEntity {
+
+    @Id
+    @Column(name = "entry_date", nullable = false)
+    private LocalDate entryDate;
+
+    @Column(name = "total_hours", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalHours;
+
+    @Column(name = "entry_count", nullable = false)
+    private int entryCount;
+}
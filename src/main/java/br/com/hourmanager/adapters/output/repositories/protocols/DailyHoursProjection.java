@@ -0,0 +1,16 @@
+package br.com.hourmanager.adapters.output.repositories.protocols;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projeção do agregado diário de hour_entries (SUM/COUNT agrupado por entry_date).
+ */
+public interface DailyHoursProjection {
+
+    LocalDate getEntryDate();
+
+    BigDecimal getHours();
+
+    long getEntryCount();
+}
@@ -28,4 +28,8 @@ public class HourEntryEntity {
 
     @Column(length = 500)
     private String description;
+
+    /** Início do período de fechamento na configuração vigente; null fora de qualquer período. */
+    @Column(name = "period_start")
+    private LocalDate periodStart;
 }
@@ -0,0 +1,50 @@
+package br.com.hourmanager.adapters.output.repositories.protocols;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity(name = "PeriodSnapshotEntity")
+@Table(name = "period_snapshots")
+@IdClass(PeriodSnapshotEntity.PeriodSnapshotId.class)
+public class PeriodSnapshotEntity {
+
+    @Id
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Id
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "total_worked", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalWorked;
+
+    @Column(name = "total_adjusted", nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalAdjusted;
+
+    /** Segmentos de semana serializados: [{"weekStart","weekEnd","totalWorked"}]. */
+    @Column(name = "weeks_json", nullable = false, columnDefinition = "TEXT")
+    private String weeksJson;
+
+    @Column(name = "frozen_at", nullable = false)
+    private Instant frozenAt;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class PeriodSnapshotId implements java.io.Serializable {
+        private LocalDate periodStart;
+        private LocalDate periodEnd;
+    }
+}
@@ -29,6 +29,9 @@ public class SystemConfigEntity {
     @Column(name = "expected_weekly_hours", precision = 10, scale = 2)
     private BigDecimal expectedWeeklyHours;
 
+    @Column(name = "holiday_region", length = 16)
+    private String holidayRegion;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 }
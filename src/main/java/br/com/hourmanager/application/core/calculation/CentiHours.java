@@ -0,0 +1,70 @@
+package br.com.hourmanager.application.core.calculation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Aritmética de ponto fixo em centésimos de hora (long), usada no caminho quente do cálculo e da projeção.
+ * As colunas são DECIMAL(10,2), então 1 centésimo é a menor unidade; BigDecimal só aparece nas bordas (API/banco).
+ * Os arredondamentos reproduzem exatamente o HALF_UP das contas em BigDecimal que substituem.
+ */
+public final class CentiHours {
+
+    /** Horas em uma semana cheia (7 × 24). */
+    private static final long HOURS_IN_FULL_WEEK = 168;
+    /** Horas em um mês cheio de 30 dias (30 × 24). */
+    private static final long HOURS_IN_FULL_MONTH = 720;
+    /** Fator de 4 casas decimais (razões e proporções intermediárias). */
+    public static final long RATIO_ONE = 10_000;
+
+    private CentiHours() {
+    }
+
+    /** Converte horas para centésimos (HALF_UP se vier com mais de 2 casas); null → 0. */
+    public static long of(BigDecimal hours) {
+        if (hours == null) {
+            return 0;
+        }
+        return hours.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Converte centésimos para horas com escala 2 (borda da API). */
+    public static BigDecimal toBigDecimal(long centiHours) {
+        return BigDecimal.valueOf(centiHours, 2);
+    }
+
+    /** Divisão inteira com arredondamento HALF_UP (meio se afasta de zero), como {@link RoundingMode#HALF_UP}. */
+    public static long divideHalfUp(long numerator, long denominator) {
+        long quotient = numerator / denominator;
+        long remainder = numerator % denominator;
+        if (remainder != 0 && 2 * Math.abs(remainder) >= Math.abs(denominator)) {
+            quotient += (numerator < 0) == (denominator < 0) ? 1 : -1;
+        }
+        return quotient;
+    }
+
+    /**
+     * Disponibilidade do segmento: (expectativa / 168, 4 casas) × (24 × dias), arredondado a 2 casas.
+     * Equivale a {@code expected.divide(168, 4, HALF_UP).multiply(24 × dias).setScale(2, HALF_UP)}.
+     */
+    public static long availableForSegment(long expectedWeeklyCenti, long segmentDays) {
+        if (expectedWeeklyCenti <= 0) {
+            return 0;
+        }
+        long weekRatio = divideHalfUp(expectedWeeklyCenti * 100, HOURS_IN_FULL_WEEK);
+        return divideHalfUp(weekRatio * 24 * segmentDays, 100);
+    }
+
+    /** Horas máximas em mês cheio: expectativa × 720 / 168, 2 casas HALF_UP. */
+    public static long fullMonthMax(long expectedWeeklyCenti) {
+        if (expectedWeeklyCenti <= 0) {
+            return 0;
+        }
+        return divideHalfUp(expectedWeeklyCenti * HOURS_IN_FULL_MONTH, HOURS_IN_FULL_WEEK);
+    }
+
+    /** Razão a / b com 4 casas decimais HALF_UP, em unidades de 1/10000 ({@link #RATIO_ONE} = 1,0). */
+    public static long ratio(long numeratorCenti, long denominatorCenti) {
+        return divideHalfUp(numeratorCenti * RATIO_ONE, denominatorCenti);
+    }
+}
@@ -0,0 +1,231 @@
+package br.com.hourmanager.application.core.calculation;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Estatísticas das horas diárias do histórico, mantidas incrementalmente para a previsão da meta:
+ * soma e soma dos quadrados por dia da semana numa janela móvel de dias encerrados (até ontem)
+ * e média móvel exponencial (EWMA) das horas por dia. Tudo em centésimos de hora.
+ * <p>
+ * Carregado uma vez do rollup; depois cada escrita entra como delta (uma mudança de x para x+h num dia
+ * ajusta a soma, a soma dos quadrados e a EWMA com o peso do dia) e a virada do dia avança a janela.
+ * Mesmo protocolo de escrita em duas fases do {@link HourSumIndex}: carga que coincide com escrita é descartada.
+ */
+public class DailyHoursStatistics {
+
+    private final DailyHourTotalRepository dailyHourTotalRepository;
+    private final Supplier<LocalDate> today;
+    private final int windowDays;
+    private final double alpha;
+
+    /* Protegidos pelo monitor da instância. */
+    private State state;
+    private int writesInFlight;
+    private long generation;
+
+    /**
+     * @param windowDays    dias encerrados considerados nas médias por dia da semana (múltiplo de 7 dá o mesmo peso a todos)
+     * @param ewmaSpanDays  span da EWMA (alpha = 2 / (span + 1))
+     */
+    public DailyHoursStatistics(DailyHourTotalRepository dailyHourTotalRepository, int windowDays, int ewmaSpanDays) {
+        this(dailyHourTotalRepository, windowDays, ewmaSpanDays, LocalDate::now);
+    }
+
+    DailyHoursStatistics(DailyHourTotalRepository dailyHourTotalRepository, int windowDays, int ewmaSpanDays,
+                         Supplier<LocalDate> today) {
+        this.dailyHourTotalRepository = dailyHourTotalRepository;
+        this.windowDays = windowDays;
+        this.alpha = 2.0 / (ewmaSpanDays + 1);
+        this.today = today;
+    }
+
+    /**
+     * Estatísticas até ontem (carrega na primeira chamada).
+     *
+     * @return vazio se uma escrita em andamento impediu a carga
+     */
+    public Optional<Snapshot> snapshot() {
+        long loadGeneration;
+        synchronized (this) {
+            if (state != null) {
+                state.advanceTo(today.get().toEpochDay() - 1);
+                return Optional.of(state.snapshot());
+            }
+            if (writesInFlight > 0) {
+                return Optional.empty();
+            }
+            loadGeneration = generation;
+        }
+
+        State loaded = load(dailyHourTotalRepository.findAll(), today.get().toEpochDay() - 1);
+
+        synchronized (this) {
+            if (state == null && writesInFlight == 0 && generation == loadGeneration) {
+                state = loaded;
+            }
+            if (state == null) {
+                return Optional.empty();
+            }
+            state.advanceTo(today.get().toEpochDay() - 1);
+            return Optional.of(state.snapshot());
+        }
+    }
+
+    /** Marca uma escrita no rollup em andamento; chamar antes do commit. */
+    public synchronized void beginWrite() {
+        writesInFlight++;
+    }
+
+    /** Fim da escrita: aplica o delta do dia se a transação foi confirmada. */
+    public synchronized void endWrite(LocalDate entryDate, long centiDelta, boolean committed) {
+        writesInFlight--;
+        generation++;
+        if (committed && state != null) {
+            state.add(entryDate.toEpochDay(), centiDelta);
+        }
+    }
+
+    /** Fim de uma escrita que reescreve o rollup inteiro: recarrega na próxima consulta. */
+    public synchronized void endWriteInvalidating() {
+        writesInFlight--;
+        generation++;
+        state = null;
+    }
+
+    private State load(List<DailyHourTotal> dailyTotals, long asOf) {
+        State loaded = new State(asOf);
+        for (DailyHourTotal daily : dailyTotals) {
+            long value = CentiHours.of(daily.getHours());
+            if (value != 0) {
+                loaded.totals.merge(daily.getEntryDate().toEpochDay(), value, Long::sum);
+            }
+        }
+        loaded.firstDay = loaded.totals.keySet().stream().mapToLong(Long::longValue).min().orElse(asOf + 1);
+        for (long day = Math.max(loaded.firstDay, asOf - windowDays + 1); day <= asOf; day++) {
+            loaded.include(day, loaded.total(day));
+        }
+        for (long day = loaded.firstDay; day <= asOf; day++) {
+            loaded.ewma = (1 - alpha) * loaded.ewma + alpha * loaded.total(day);
+        }
+        return loaded;
+    }
+
+    /**
+     * Estatísticas imutáveis em centésimos de hora; dia da semana 0 = segunda … 6 = domingo.
+     *
+     * @param days dias encerrados na janela por dia da semana (depois do primeiro dia com horas)
+     */
+    public record Snapshot(long[] days, double[] mean, double[] variance, double ewma) {
+
+        public long sampleDays() {
+            long total = 0;
+            for (long count : days) {
+                total += count;
+            }
+            return total;
+        }
+
+        /** Média diária de todos os dias da janela. */
+        public double overallMean() {
+            long sample = sampleDays();
+            if (sample == 0) {
+                return 0;
+            }
+            double sum = 0;
+            for (int w = 0; w < 7; w++) {
+                sum += mean[w] * days[w];
+            }
+            return sum / sample;
+        }
+    }
+
+    private final class State {
+        final Map<Long, Long> totals = new HashMap<>();
+        final long[] sum = new long[7];
+        final long[] sumSquares = new long[7];
+        long firstDay;
+        long asOf;
+        double ewma;
+
+        State(long asOf) {
+            this.asOf = asOf;
+        }
+
+        long total(long day) {
+            return totals.getOrDefault(day, 0L);
+        }
+
+        void include(long day, long value) {
+            int w = WorkingDaysCalculator.dayOfWeekIndex(day);
+            sum[w] += value;
+            sumSquares[w] += value * value;
+        }
+
+        void add(long day, long delta) {
+            long before = total(day);
+            long after = before + delta;
+            if (after == 0) {
+                totals.remove(day);
+            } else {
+                totals.put(day, after);
+            }
+            if (day <= asOf && day > asOf - windowDays) {
+                int w = WorkingDaysCalculator.dayOfWeekIndex(day);
+                sum[w] += delta;
+                sumSquares[w] += after * after - before * before;
+            }
+            if (day <= asOf) {
+                // Peso do dia na EWMA: alpha × (1 - alpha)^(idade)
+                ewma += alpha * Math.pow(1 - alpha, asOf - day) * delta;
+            }
+            // Dias sem horas não mudam as somas; um primeiro dia mais cedo só aumenta a contagem da janela
+            firstDay = Math.min(firstDay, day);
+        }
+
+        /** Avança até o novo ontem: dias que entram na janela somam, os que saem subtraem; EWMA avança um passo por dia. */
+        void advanceTo(long newAsOf) {
+            while (asOf < newAsOf) {
+                asOf++;
+                long value = total(asOf);
+                include(asOf, value);
+                ewma = (1 - alpha) * ewma + alpha * value;
+                long leaving = total(asOf - windowDays);
+                int w = WorkingDaysCalculator.dayOfWeekIndex(asOf - windowDays);
+                sum[w] -= leaving;
+                sumSquares[w] -= leaving * leaving;
+            }
+        }
+
+        Snapshot snapshot() {
+            long from = Math.max(firstDay, asOf - windowDays + 1);
+            long[] days = new long[7];
+            double[] mean = new double[7];
+            double[] variance = new double[7];
+            for (int w = 0; w < 7; w++) {
+                days[w] = countWeekday(from, asOf, w);
+                if (days[w] > 0) {
+                    mean[w] = (double) sum[w] / days[w];
+                    variance[w] = Math.max((double) sumSquares[w] / days[w] - mean[w] * mean[w], 0);
+                }
+            }
+            return new Snapshot(days, mean, variance, ewma);
+        }
+    }
+
+    /** Dias com o dia da semana w em [from, to]. */
+    private static long countWeekday(long from, long to, int w) {
+        if (to < from) {
+            return 0;
+        }
+        long first = from + Math.floorMod(w - WorkingDaysCalculator.dayOfWeekIndex(from), 7);
+        return first > to ? 0 : (to - first) / 7 + 1;
+    }
+}
@@ -0,0 +1,258 @@
+package br.com.hourmanager.application.core.calculation;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Índice de somas prefixadas (Fenwick) por dia epoch sobre o rollup diário, em centésimos de hora.
+ * Carregado sob demanda a partir do repositório; responde a soma de qualquer [start, end] em O(log n).
+ * <p>
+ * Escritas são sinalizadas em duas fases: {@link #beginWrite()} dentro da transação e
+ * {@link #endWrite(LocalDate, long, boolean)} depois do commit/rollback. Uma carga que coincide com
+ * qualquer escrita em andamento é descartada (a soma cai no rollup), então o índice nunca conta um delta duas vezes.
+ * <p>
+ * Só os dias a até {@value #MAX_INDEXED_YEARS} anos de hoje (na carga) entram no índice, o que limita o array
+ * mesmo com datas absurdas gravadas; a parte de um intervalo fora dessa janela é somada no rollup.
+ */
+public class HourSumIndex {
+
+    /** Folga, em dias, antes do primeiro e depois do último dia conhecido, para absorver escritas sem recarga. */
+    private static final int MARGIN_DAYS = 366;
+    /** Janela indexada, em anos antes e depois de hoje. */
+    private static final int MAX_INDEXED_YEARS = 20;
+
+    private final DailyHourTotalRepository dailyHourTotalRepository;
+    private final Supplier<LocalDate> today;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /* Protegidos por lock. */
+    private FenwickTree tree;
+    private int writesInFlight;
+    private long generation;
+
+    public HourSumIndex(DailyHourTotalRepository dailyHourTotalRepository) {
+        this(dailyHourTotalRepository, LocalDate::now);
+    }
+
+    HourSumIndex(DailyHourTotalRepository dailyHourTotalRepository, Supplier<LocalDate> today) {
+        this.dailyHourTotalRepository = dailyHourTotalRepository;
+        this.today = today;
+    }
+
+    /** Soma das horas em [start, end] (inclusive). */
+    public BigDecimal sumBetween(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return CentiHours.toBigDecimal(0);
+        }
+        IndexedSum indexed = null;
+        lock.readLock().lock();
+        try {
+            if (tree != null) {
+                indexed = tree.sumBetween(start, end);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (indexed == null) {
+            indexed = loadAndSum(start, end);
+        }
+        if (indexed == null) {
+            return CentiHours.toBigDecimal(sumFromRollup(start, end));
+        }
+        return CentiHours.toBigDecimal(indexed.sum() + sumOutsideWindow(indexed, start, end));
+    }
+
+    /** Marca uma escrita no rollup em andamento; chamar antes do commit. */
+    public void beginWrite() {
+        lock.writeLock().lock();
+        try {
+            writesInFlight++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Fim da escrita: aplica o delta ao índice se a transação foi confirmada. */
+    public void endWrite(LocalDate entryDate, long centiDelta, boolean committed) {
+        lock.writeLock().lock();
+        try {
+            writesInFlight--;
+            generation++;
+            if (committed && tree != null && tree.inWindow(entryDate.toEpochDay())
+                    && !tree.add(entryDate.toEpochDay(), centiDelta)) {
+                tree = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Fim de uma escrita que reescreve o rollup inteiro: o índice é recarregado na próxima consulta. */
+    public void endWriteInvalidating() {
+        lock.writeLock().lock();
+        try {
+            writesInFlight--;
+            generation++;
+            tree = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Carrega o índice e responde a soma; null se uma escrita concorrente invalidou a carga. */
+    private IndexedSum loadAndSum(LocalDate start, LocalDate end) {
+        long loadGeneration;
+        lock.writeLock().lock();
+        try {
+            if (tree != null) {
+                return tree.sumBetween(start, end);
+            }
+            if (writesInFlight > 0) {
+                return null;
+            }
+            loadGeneration = generation;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        FenwickTree built = build(dailyHourTotalRepository.findAll());
+
+        lock.writeLock().lock();
+        try {
+            if (tree == null && writesInFlight == 0 && generation == loadGeneration) {
+                tree = built;
+            }
+            return tree != null ? tree.sumBetween(start, end) : null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Trechos de [start, end] fora da janela do índice; em uso normal a consulta cabe na janela e nada é lido. */
+    private long sumOutsideWindow(IndexedSum indexed, LocalDate start, LocalDate end) {
+        long sum = 0;
+        LocalDate windowStart = LocalDate.ofEpochDay(indexed.windowFirstDay());
+        LocalDate windowEnd = LocalDate.ofEpochDay(indexed.windowLastDay());
+        if (start.isBefore(windowStart)) {
+            sum += sumFromRollup(start, end.isBefore(windowStart) ? end : windowStart.minusDays(1));
+        }
+        if (end.isAfter(windowEnd)) {
+            sum += sumFromRollup(start.isAfter(windowEnd) ? start : windowEnd.plusDays(1), end);
+        }
+        return sum;
+    }
+
+    private long sumFromRollup(LocalDate start, LocalDate end) {
+        long sum = 0;
+        for (DailyHourTotal daily : dailyHourTotalRepository.findBetween(start, end)) {
+            if (daily.getHours() != null) {
+                sum += CentiHours.of(daily.getHours());
+            }
+        }
+        return sum;
+    }
+
+    private FenwickTree build(List<DailyHourTotal> dailyTotals) {
+        LocalDate current = today.get();
+        long windowFirst = current.minusYears(MAX_INDEXED_YEARS).toEpochDay();
+        long windowLast = current.plusYears(MAX_INDEXED_YEARS).toEpochDay();
+        long first = current.toEpochDay();
+        long last = first;
+        for (DailyHourTotal daily : dailyTotals) {
+            long day = daily.getEntryDate().toEpochDay();
+            if (day >= windowFirst && day <= windowLast) {
+                first = Math.min(first, day);
+                last = Math.max(last, day);
+            }
+        }
+        long base = Math.max(first - MARGIN_DAYS, windowFirst);
+        long top = Math.min(last + MARGIN_DAYS, windowLast);
+        FenwickTree built = new FenwickTree(base, (int) (top - base) + 1, windowFirst, windowLast);
+        long[] values = new long[built.size()];
+        for (DailyHourTotal daily : dailyTotals) {
+            long day = daily.getEntryDate().toEpochDay();
+            if (daily.getHours() != null && built.inWindow(day)) {
+                values[(int) (day - built.baseEpochDay)] += CentiHours.of(daily.getHours());
+            }
+        }
+        built.fill(values);
+        return built;
+    }
+
+    /** Soma indexada e a janela que ela cobre (epoch days, inclusive). */
+    private record IndexedSum(long sum, long windowFirstDay, long windowLastDay) {
+    }
+
+    /**
+     * Árvore de Fenwick 1-based sobre os dias [baseEpochDay, baseEpochDay + size), contida na janela
+     * [windowFirstDay, windowLastDay]: todo dado da janela está na faixa (escrita fora dela descarta o índice).
+     */
+    private static final class FenwickTree {
+
+        private final long baseEpochDay;
+        private final long[] tree;
+        private final long windowFirstDay;
+        private final long windowLastDay;
+
+        private FenwickTree(long baseEpochDay, int size, long windowFirstDay, long windowLastDay) {
+            this.baseEpochDay = baseEpochDay;
+            this.tree = new long[size + 1];
+            this.windowFirstDay = windowFirstDay;
+            this.windowLastDay = windowLastDay;
+        }
+
+        /** Dias fora da janela nunca entram no índice (são somados no rollup). */
+        private boolean inWindow(long epochDay) {
+            return epochDay >= windowFirstDay && epochDay <= windowLastDay;
+        }
+
+        private int size() {
+            return tree.length - 1;
+        }
+
+        /** Construção em O(n) a partir dos valores por dia. */
+        private void fill(long[] values) {
+            for (int i = 1; i < tree.length; i++) {
+                tree[i] += values[i - 1];
+                int parent = i + (i & -i);
+                if (parent < tree.length) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+
+        /** @return false se o dia está fora da faixa coberta (o índice precisa ser recarregado) */
+        private boolean add(long epochDay, long delta) {
+            long offset = epochDay - baseEpochDay;
+            if (offset < 0 || offset >= size()) {
+                return false;
+            }
+            for (int i = (int) offset + 1; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+            return true;
+        }
+
+        /** Soma de [start, end] na faixa; no resto da janela não há dados (uma escrita lá teria descartado o índice). */
+        private IndexedSum sumBetween(LocalDate start, LocalDate end) {
+            long from = Math.max(start.toEpochDay() - baseEpochDay, 0);
+            long to = Math.min(end.toEpochDay() - baseEpochDay, size() - 1L);
+            long sum = from > to ? 0 : prefix((int) to + 1) - prefix((int) from);
+            return new IndexedSum(sum, windowFirstDay, windowLastDay);
+        }
+
+        private long prefix(int count) {
+            long sum = 0;
+            for (int i = count; i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -8,26 +8,42 @@ import java.math.BigDecimal;
 /**
  * Resultado derivado do cálculo do período: totais e saldo.
  * Nunca persistido; sempre calculado a partir de entradas e ajustes.
+ * Valores internos em centésimos de hora ({@link CentiHours}); getters em BigDecimal para a API.
  */
 @Value
 @Builder
 public class PeriodBalance {
 
     /** Soma das horas das entradas no período. */
-    BigDecimal totalWorked;
+    long totalWorkedCenti;
 
-    /** Soma dos deltas dos ajustes no período. */
-    BigDecimal totalAdjusted;
+    /** Ajuste do período. */
+    long totalAdjustedCenti;
 
     /** Saldo geral do período: totalWorked + totalAdjusted. */
-    BigDecimal balance;
+    long balanceCenti;
+
+    public BigDecimal getTotalWorked() {
+        return CentiHours.toBigDecimal(totalWorkedCenti);
+    }
+
+    public BigDecimal getTotalAdjusted() {
+        return CentiHours.toBigDecimal(totalAdjustedCenti);
+    }
+
+    public BigDecimal getBalance() {
+        return CentiHours.toBigDecimal(balanceCenti);
+    }
 
     public static PeriodBalance of(BigDecimal totalWorked, BigDecimal totalAdjusted) {
-        BigDecimal balance = totalWorked.add(totalAdjusted);
+        return ofCenti(CentiHours.of(totalWorked), CentiHours.of(totalAdjusted));
+    }
+
+    public static PeriodBalance ofCenti(long totalWorkedCenti, long totalAdjustedCenti) {
         return PeriodBalance.builder()
-                .totalWorked(totalWorked)
-                .totalAdjusted(totalAdjusted)
-                .balance(balance)
+                .totalWorkedCenti(totalWorkedCenti)
+                .totalAdjustedCenti(totalAdjustedCenti)
+                .balanceCenti(totalWorkedCenti + totalAdjustedCenti)
                 .build();
     }
 }
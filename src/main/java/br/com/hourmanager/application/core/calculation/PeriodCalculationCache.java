@@ -0,0 +1,112 @@
+package br.com.hourmanager.application.core.calculation;
+
+import br.com.hourmanager.application.core.period.PeriodBounds;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cache dos totais calculados por período (segmentos de semana, total trabalhado e ajuste), em centésimos de hora.
+ * Escritas não invalidam: o delta exato de cada evento é aplicado ao segmento e ao total afetados.
+ * <p>
+ * Mesmo protocolo do {@link HourSumIndex}: {@link #beginWrite()} dentro da transação e um {@code end*} depois
+ * do commit/rollback; um cálculo que coincide com escrita em andamento não é guardado, evitando contar o delta duas vezes.
+ * Entradas são imutáveis (copy-on-write), então podem ser lidas fora do lock.
+ */
+public class PeriodCalculationCache {
+
+    /** Períodos mantidos (LRU); atual, anterior e alguns consultados no histórico. */
+    private static final int MAX_PERIODS = 16;
+
+    private final Map<PeriodBounds, CachedPeriod> periods = new LinkedHashMap<>(MAX_PERIODS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PeriodBounds, CachedPeriod> eldest) {
+            return size() > MAX_PERIODS;
+        }
+    };
+
+    /* Protegidos pelo monitor da instância. */
+    private int writesInFlight;
+    private long generation;
+
+    /** Totais de um período; arrays nunca são alterados depois de publicados. */
+    public record CachedPeriod(List<PeriodWeekSegments.SegmentBounds> segments,
+                               long[] segmentWorkedCenti,
+                               long totalWorkedCenti,
+                               long adjustedCenti) {
+    }
+
+    public synchronized Optional<CachedPeriod> get(PeriodBounds bounds) {
+        return Optional.ofNullable(periods.get(bounds));
+    }
+
+    /**
+     * Marca o início de um cálculo a partir do banco.
+     *
+     * @return token para {@link #put}, ou -1 se há escrita em andamento (o resultado não deve ser guardado)
+     */
+    public synchronized long beginLoad() {
+        return writesInFlight > 0 ? -1 : generation;
+    }
+
+    /** Guarda o cálculo se nenhuma escrita começou ou terminou desde {@link #beginLoad()}. */
+    public synchronized void put(PeriodBounds bounds, CachedPeriod period, long token) {
+        if (token >= 0 && writesInFlight == 0 && generation == token) {
+            periods.put(bounds, period);
+        }
+    }
+
+    public synchronized void beginWrite() {
+        writesInFlight++;
+    }
+
+    /** Fim da escrita de uma entrada: soma o delta no segmento e no total de cada período em cache que contém a data. */
+    public synchronized void endEntryWrite(LocalDate entryDate, long centiDelta, boolean committed) {
+        endWrite();
+        if (!committed || centiDelta == 0) {
+            return;
+        }
+        periods.replaceAll((bounds, cached) -> contains(bounds, entryDate) ? withEntryDelta(cached, entryDate, centiDelta) : cached);
+    }
+
+    /** Fim da escrita de um ajuste: substitui o valor ajustado do período (se estiver em cache). */
+    public synchronized void endAdjustmentWrite(PeriodBounds bounds, long adjustedCenti, boolean committed) {
+        endWrite();
+        if (!committed) {
+            return;
+        }
+        periods.computeIfPresent(bounds, (b, cached) -> new CachedPeriod(
+                cached.segments(), cached.segmentWorkedCenti(), cached.totalWorkedCenti(), adjustedCenti));
+    }
+
+    /** Fim de uma escrita que não se traduz em delta (ex.: rebuild do rollup): descarta tudo. */
+    public synchronized void endWriteInvalidating() {
+        endWrite();
+        periods.clear();
+    }
+
+    private void endWrite() {
+        writesInFlight--;
+        generation++;
+    }
+
+    private static boolean contains(PeriodBounds bounds, LocalDate date) {
+        return !date.isBefore(bounds.getStart()) && !date.isAfter(bounds.getEnd());
+    }
+
+    private static CachedPeriod withEntryDelta(CachedPeriod cached, LocalDate entryDate, long centiDelta) {
+        long[] worked = Arrays.copyOf(cached.segmentWorkedCenti(), cached.segmentWorkedCenti().length);
+        List<PeriodWeekSegments.SegmentBounds> segments = cached.segments();
+        for (int i = 0; i < segments.size(); i++) {
+            if (!entryDate.isAfter(segments.get(i).end())) {
+                worked[i] += centiDelta;
+                break;
+            }
+        }
+        return new CachedPeriod(segments, worked, cached.totalWorkedCenti() + centiDelta, cached.adjustedCenti());
+    }
+}
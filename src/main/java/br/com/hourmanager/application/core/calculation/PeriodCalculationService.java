@@ -1,59 +1,93 @@
 package br.com.hourmanager.application.core.calculation;
 
-import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
 import br.com.hourmanager.application.core.period.PeriodBounds;
-import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshot;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
 import br.com.hourmanager.application.ports.output.repositories.PeriodAdjustmentRepository;
+import br.com.hourmanager.application.ports.output.repositories.PeriodSnapshotRepository;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
  * Serviço central de cálculo do período.
  * Total trabalhado = entradas; total ajustado = um valor por período (slider); saldo = trabalhado + ajustado.
  * Ajuste não aparece nas barras semanais.
+ * As horas vêm do rollup diário (daily_hour_totals): no máximo uma linha por dia do período; nenhuma entrada individual é carregada.
+ * Períodos já encerrados com snapshot congelado são lidos direto do snapshot; os demais passam pelo
+ * {@link PeriodCalculationCache}, que recebe os deltas das escritas em vez de ser invalidado.
+ * Toda a aritmética é feita em centésimos de hora ({@link CentiHours}); BigDecimal só na leitura dos repositórios.
  */
 public class PeriodCalculationService {
 
-    private static final BigDecimal ZERO = BigDecimal.ZERO;
-
-    private final HourEntryRepository hourEntryRepository;
+    private final DailyHourTotalRepository dailyHourTotalRepository;
     private final PeriodAdjustmentRepository periodAdjustmentRepository;
+    /** Opcional: sem repositório de snapshots, todo período é calculado a partir do rollup. */
+    private final PeriodSnapshotRepository periodSnapshotRepository;
+    /** Opcional: sem cache, todo cálculo de período aberto lê o rollup. */
+    private final PeriodCalculationCache periodCalculationCache;
+    /** Opcional: segmentos de semana pré-calculados do calendário de períodos. */
+    private final PeriodCalendarProvider periodCalendarProvider;
 
-    public PeriodCalculationService(HourEntryRepository hourEntryRepository,
+    public PeriodCalculationService(DailyHourTotalRepository dailyHourTotalRepository,
                                    PeriodAdjustmentRepository periodAdjustmentRepository) {
-        this.hourEntryRepository = hourEntryRepository;
+        this(dailyHourTotalRepository, periodAdjustmentRepository, null);
+    }
+
+    public PeriodCalculationService(DailyHourTotalRepository dailyHourTotalRepository,
+                                   PeriodAdjustmentRepository periodAdjustmentRepository,
+                                   PeriodSnapshotRepository periodSnapshotRepository) {
+        this(dailyHourTotalRepository, periodAdjustmentRepository, periodSnapshotRepository, null);
+    }
+
+    public PeriodCalculationService(DailyHourTotalRepository dailyHourTotalRepository,
+                                   PeriodAdjustmentRepository periodAdjustmentRepository,
+                                   PeriodSnapshotRepository periodSnapshotRepository,
+                                   PeriodCalculationCache periodCalculationCache) {
+        this(dailyHourTotalRepository, periodAdjustmentRepository, periodSnapshotRepository, periodCalculationCache, null);
+    }
+
+    public PeriodCalculationService(DailyHourTotalRepository dailyHourTotalRepository,
+                                   PeriodAdjustmentRepository periodAdjustmentRepository,
+                                   PeriodSnapshotRepository periodSnapshotRepository,
+                                   PeriodCalculationCache periodCalculationCache,
+                                   PeriodCalendarProvider periodCalendarProvider) {
+        this.dailyHourTotalRepository = dailyHourTotalRepository;
         this.periodAdjustmentRepository = periodAdjustmentRepository;
+        this.periodSnapshotRepository = periodSnapshotRepository;
+        this.periodCalculationCache = periodCalculationCache;
+        this.periodCalendarProvider = periodCalendarProvider;
     }
 
     /**
      * Calcula total trabalhado (entradas), total ajustado (valor do período) e saldo.
      */
     public PeriodBalance compute(PeriodBounds bounds) {
-        List<HourEntry> entries = hourEntryRepository.findByEntryDateBetween(bounds.getStart(), bounds.getEnd());
-
-        BigDecimal totalWorked = entries.stream()
-                .map(HourEntry::getHours)
-                .filter(h -> h != null)
-                .reduce(ZERO, BigDecimal::add);
-
-        BigDecimal totalAdjusted = periodAdjustmentRepository.getAdjustment(bounds.getStart(), bounds.getEnd())
-                .orElse(ZERO);
-
-        return PeriodBalance.of(totalWorked, totalAdjusted);
+        Optional<PeriodSnapshot> snapshot = findSnapshot(bounds);
+        if (snapshot.isPresent()) {
+            return PeriodBalance.of(snapshot.get().getTotalWorked(), snapshot.get().getTotalAdjusted());
+        }
+        if (periodCalculationCache != null) {
+            PeriodCalculationCache.CachedPeriod totals = cachedTotals(bounds);
+            return PeriodBalance.ofCenti(totals.totalWorkedCenti(), totals.adjustedCenti());
+        }
+        long totalWorked = 0;
+        for (DailyHourTotal daily : dailyHourTotalRepository.findBetween(bounds.getStart(), bounds.getEnd())) {
+            totalWorked += CentiHours.of(daily.getHours());
+        }
+        return PeriodBalance.ofCenti(totalWorked, adjustmentCenti(bounds));
     }
 
-    private static final int SCALE = 2;
-    /** Semana de 7 dias = 168h; proporção (ex.: 40/168) é mantida em qualquer segmento. */
-    private static final BigDecimal HOURS_IN_FULL_WEEK = new BigDecimal("168");
-
     /**
      * Calcula totais do período e distribuição por segmentos de semana recortados pelo período.
+     * Os totais diários são distribuídos em slots por dia em uma única passada; semanas e total do período saem dos slots.
      * Disponibilidade por segmento: proporção da semana (expectativaSemanal / 168) × total de horas do segmento (24 × dias).
      * Ex.: 40h em semana cheia = 23,81%; em semana de 4 dias (96h) → 22,86h disponíveis.
      *
@@ -62,57 +96,162 @@ public class PeriodCalculationService {
      * @param holidays            (não usado para disponibilidade; mantido para compatibilidade)
      */
     public PeriodCalculationResult computeWithWeeklyBreakdown(PeriodBounds bounds, BigDecimal expectedWeeklyHours, Set<LocalDate> holidays) {
-        List<HourEntry> entries = hourEntryRepository.findByEntryDateBetween(bounds.getStart(), bounds.getEnd());
-
-        List<PeriodWeekSegments.SegmentBounds> segments = PeriodWeekSegments.segmentsWithin(bounds);
-        List<WeekInPeriod> weeks = new ArrayList<>();
-
-        for (PeriodWeekSegments.SegmentBounds seg : segments) {
-            LocalDate segStart = seg.start();
-            LocalDate segEnd = seg.end();
-
-            BigDecimal worked = entries.stream()
-                    .filter(e -> !e.getEntryDate().isBefore(segStart) && !e.getEntryDate().isAfter(segEnd))
-                    .map(HourEntry::getHours)
-                    .filter(h -> h != null)
-                    .reduce(ZERO, BigDecimal::add);
-            // Ajuste não aparece por semana; só no total do período
-            weeks.add(WeekInPeriod.builder()
-                    .weekStart(segStart)
-                    .weekEnd(segEnd)
-                    .totalWorked(worked)
-                    .totalAdjusted(ZERO)
-                    .balance(worked)
-                    .workingDaysCount(0)
-                    .hoursAvailable(computeHoursAvailable(expectedWeeklyHours, segStart, segEnd))
-                    .baseWeeklyHours(expectedWeeklyHours != null ? expectedWeeklyHours : ZERO)
-                    .totalSegmentHours(BigDecimal.valueOf(24 * (ChronoUnit.DAYS.between(segStart, segEnd) + 1)))
-                    .build());
+        Optional<PeriodSnapshot> snapshot = findSnapshot(bounds);
+        if (snapshot.isPresent()) {
+            return fromSnapshot(snapshot.get(), expectedWeeklyHours);
         }
+        return toResult(cachedTotals(bounds), CentiHours.of(expectedWeeklyHours));
+    }
 
-        BigDecimal totalWorked = entries.stream()
-                .map(HourEntry::getHours)
-                .filter(h -> h != null)
-                .reduce(ZERO, BigDecimal::add);
-        BigDecimal totalAdjusted = periodAdjustmentRepository.getAdjustment(bounds.getStart(), bounds.getEnd())
-                .orElse(ZERO);
-        PeriodBalance summary = PeriodBalance.of(totalWorked, totalAdjusted);
+    /**
+     * Calcula a partir do rollup diário, ignorando snapshots e cache (usado também para congelar um período).
+     */
+    public PeriodCalculationResult computeLive(PeriodBounds bounds, BigDecimal expectedWeeklyHours) {
+        return toResult(loadTotals(bounds), CentiHours.of(expectedWeeklyHours));
+    }
+
+    /**
+     * Soma da disponibilidade dos segmentos de semana do período, sem montar o breakdown
+     * (mesmo valor da soma de {@link WeekInPeriod#getHoursAvailableCenti()} de {@link #computeWithWeeklyBreakdown}).
+     */
+    public long availableCenti(PeriodBounds bounds, BigDecimal expectedWeeklyHours) {
+        long expectedCenti = CentiHours.of(expectedWeeklyHours);
+        List<PeriodWeekSegments.SegmentBounds> segments = periodCalendarProvider != null
+                ? periodCalendarProvider.segmentsOf(bounds)
+                : PeriodWeekSegments.segmentsWithin(bounds);
+        long total = 0;
+        for (PeriodWeekSegments.SegmentBounds segment : segments) {
+            long segmentDays = ChronoUnit.DAYS.between(segment.start(), segment.end()) + 1;
+            total += CentiHours.availableForSegment(expectedCenti, segmentDays);
+        }
+        return total;
+    }
+
+    private PeriodCalculationCache.CachedPeriod cachedTotals(PeriodBounds bounds) {
+        if (periodCalculationCache == null) {
+            return loadTotals(bounds);
+        }
+        Optional<PeriodCalculationCache.CachedPeriod> cached = periodCalculationCache.get(bounds);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long token = periodCalculationCache.beginLoad();
+        PeriodCalculationCache.CachedPeriod loaded = loadTotals(bounds);
+        periodCalculationCache.put(bounds, loaded, token);
+        return loaded;
+    }
 
+    /** Totais por segmento de semana: os totais diários vão para slots por dia numa única passada. */
+    private PeriodCalculationCache.CachedPeriod loadTotals(PeriodBounds bounds) {
+        List<DailyHourTotal> dailyTotals = dailyHourTotalRepository.findBetween(bounds.getStart(), bounds.getEnd());
+        PeriodDayBuckets buckets = PeriodDayBuckets.fromDailyTotals(bounds, dailyTotals);
+
+        List<PeriodWeekSegments.SegmentBounds> segments = periodCalendarProvider != null
+                ? periodCalendarProvider.segmentsOf(bounds)
+                : PeriodWeekSegments.segmentsWithin(bounds);
+        long[] segmentWorked = new long[segments.size()];
+        long totalWorked = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            segmentWorked[i] = buckets.sumCentiBetween(segments.get(i).start(), segments.get(i).end());
+            totalWorked += segmentWorked[i];
+        }
+        return new PeriodCalculationCache.CachedPeriod(segments, segmentWorked, totalWorked, adjustmentCenti(bounds));
+    }
+
+    private static PeriodCalculationResult toResult(PeriodCalculationCache.CachedPeriod totals, long expectedCenti) {
+        List<PeriodWeekSegments.SegmentBounds> segments = totals.segments();
+        List<WeekInPeriod> weeks = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            weeks.add(toWeek(segments.get(i).start(), segments.get(i).end(), totals.segmentWorkedCenti()[i], expectedCenti));
+        }
         return PeriodCalculationResult.builder()
-                .summary(summary)
+                .summary(PeriodBalance.ofCenti(totals.totalWorkedCenti(), totals.adjustedCenti()))
                 .weeks(weeks)
                 .build();
     }
 
-    private BigDecimal computeHoursAvailable(BigDecimal expectedWeeklyHours, LocalDate segStart, LocalDate segEnd) {
-        long segmentDays = ChronoUnit.DAYS.between(segStart, segEnd) + 1;
-        BigDecimal totalSegmentHours = BigDecimal.valueOf(24 * segmentDays);
-        if (expectedWeeklyHours == null || expectedWeeklyHours.compareTo(ZERO) <= 0) {
-            return ZERO;
+    /**
+     * Saldos de vários períodos consecutivos (ordenados por início) com uma consulta ao rollup e uma aos ajustes
+     * para todo o intervalo; as linhas são atribuídas aos períodos num merge ordenado.
+     *
+     * @return um {@link PeriodBalance} por período, na mesma ordem
+     */
+    public List<PeriodBalance> computeHistory(List<PeriodBounds> periods) {
+        if (periods.isEmpty()) {
+            return List.of();
+        }
+        LocalDate spanStart = periods.get(0).getStart();
+        LocalDate spanEnd = periods.get(periods.size() - 1).getEnd();
+        List<DailyHourTotal> dailyTotals = dailyHourTotalRepository.findBetween(spanStart, spanEnd);
+        List<PeriodAdjustmentRepository.PeriodAdjustmentValue> adjustments =
+                periodAdjustmentRepository.findByPeriodStartBetween(spanStart, spanEnd);
+
+        List<PeriodBalance> result = new ArrayList<>(periods.size());
+        int dayIndex = 0;
+        int adjustmentIndex = 0;
+        for (PeriodBounds period : periods) {
+            while (dayIndex < dailyTotals.size() && dailyTotals.get(dayIndex).getEntryDate().isBefore(period.getStart())) {
+                dayIndex++;
+            }
+            long worked = 0;
+            for (int i = dayIndex; i < dailyTotals.size() && !dailyTotals.get(i).getEntryDate().isAfter(period.getEnd()); i++) {
+                worked += CentiHours.of(dailyTotals.get(i).getHours());
+            }
+
+            while (adjustmentIndex < adjustments.size()
+                    && adjustments.get(adjustmentIndex).periodStart().isBefore(period.getStart())) {
+                adjustmentIndex++;
+            }
+            long adjusted = 0;
+            if (adjustmentIndex < adjustments.size()) {
+                PeriodAdjustmentRepository.PeriodAdjustmentValue candidate = adjustments.get(adjustmentIndex);
+                if (candidate.periodStart().equals(period.getStart()) && candidate.periodEnd().equals(period.getEnd())) {
+                    adjusted = CentiHours.of(candidate.adjustedHours());
+                }
+            }
+            result.add(PeriodBalance.ofCenti(worked, adjusted));
+        }
+        return result;
+    }
+
+    private long adjustmentCenti(PeriodBounds bounds) {
+        return periodAdjustmentRepository.getAdjustment(bounds.getStart(), bounds.getEnd())
+                .map(CentiHours::of)
+                .orElse(0L);
+    }
+
+    /** Só períodos já encerrados podem ter snapshot; o período atual nem consulta a tabela. */
+    private Optional<PeriodSnapshot> findSnapshot(PeriodBounds bounds) {
+        if (periodSnapshotRepository == null || !bounds.getEnd().isBefore(LocalDate.now())) {
+            return Optional.empty();
         }
-        return expectedWeeklyHours
-                .divide(HOURS_IN_FULL_WEEK, SCALE + 2, RoundingMode.HALF_UP)
-                .multiply(totalSegmentHours)
-                .setScale(SCALE, RoundingMode.HALF_UP);
+        return periodSnapshotRepository.find(bounds.getStart(), bounds.getEnd());
+    }
+
+    private PeriodCalculationResult fromSnapshot(PeriodSnapshot snapshot, BigDecimal expectedWeeklyHours) {
+        long expectedCenti = CentiHours.of(expectedWeeklyHours);
+        List<WeekInPeriod> weeks = snapshot.getWeeks().stream()
+                .map(w -> toWeek(w.getWeekStart(), w.getWeekEnd(), CentiHours.of(w.getTotalWorked()), expectedCenti))
+                .toList();
+        return PeriodCalculationResult.builder()
+                .summary(PeriodBalance.of(snapshot.getTotalWorked(), snapshot.getTotalAdjusted()))
+                .weeks(weeks)
+                .build();
+    }
+
+    private static WeekInPeriod toWeek(LocalDate segStart, LocalDate segEnd, long workedCenti, long expectedWeeklyCenti) {
+        long segmentDays = ChronoUnit.DAYS.between(segStart, segEnd) + 1;
+        // Ajuste não aparece por semana; só no total do período
+        return WeekInPeriod.builder()
+                .weekStart(segStart)
+                .weekEnd(segEnd)
+                .totalWorkedCenti(workedCenti)
+                .totalAdjustedCenti(0)
+                .balanceCenti(workedCenti)
+                .workingDaysCount(0)
+                .hoursAvailableCenti(CentiHours.availableForSegment(expectedWeeklyCenti, segmentDays))
+                .baseWeeklyHoursCenti(expectedWeeklyCenti)
+                .totalSegmentHoursCenti(24 * segmentDays * 100)
+                .build();
     }
 }
@@ -0,0 +1,73 @@
+package br.com.hourmanager.application.core.calculation;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Horas do período distribuídas em slots por dia (offset em relação ao início do período), em centésimos de hora.
+ * Preenchido em uma única passada pelo rollup diário; totais de segmento e do período são derivados dos slots,
+ * sem percorrer as linhas novamente.
+ */
+public final class PeriodDayBuckets {
+
+    private final long startEpochDay;
+    private final long[] slots;
+
+    private PeriodDayBuckets(LocalDate start, int days) {
+        this.startEpochDay = start.toEpochDay();
+        this.slots = new long[days];
+    }
+
+    /** Distribui os totais diários (já agregados no banco) nos slots do período. */
+    public static PeriodDayBuckets fromDailyTotals(PeriodBounds bounds, List<DailyHourTotal> dailyTotals) {
+        PeriodDayBuckets buckets = empty(bounds);
+        for (DailyHourTotal daily : dailyTotals) {
+            if (daily.getHours() != null) {
+                buckets.add(daily.getEntryDate(), CentiHours.of(daily.getHours()));
+            }
+        }
+        return buckets;
+    }
+
+    private static PeriodDayBuckets empty(PeriodBounds bounds) {
+        int days = (int) ChronoUnit.DAYS.between(bounds.getStart(), bounds.getEnd()) + 1;
+        return new PeriodDayBuckets(bounds.getStart(), Math.max(days, 0));
+    }
+
+    /** Soma centésimos no slot da data; datas fora do período são ignoradas. */
+    private void add(LocalDate date, long centiHours) {
+        if (date == null) {
+            return;
+        }
+        long offset = date.toEpochDay() - startEpochDay;
+        if (offset < 0 || offset >= slots.length) {
+            return;
+        }
+        slots[(int) offset] += centiHours;
+    }
+
+    /** Soma dos slots em [from, to] (inclusive), recortado pelo período, em centésimos de hora. */
+    public long sumCentiBetween(LocalDate from, LocalDate to) {
+        long first = Math.max(0, from.toEpochDay() - startEpochDay);
+        long last = Math.min(slots.length - 1L, to.toEpochDay() - startEpochDay);
+        long sum = 0;
+        for (long i = first; i <= last; i++) {
+            sum += slots[(int) i];
+        }
+        return sum;
+    }
+
+    /** Centésimos de hora do dia; zero se a data estiver fora do período. */
+    public long centiOn(LocalDate date) {
+        long offset = date.toEpochDay() - startEpochDay;
+        return offset >= 0 && offset < slots.length ? slots[(int) offset] : 0;
+    }
+
+    public int size() {
+        return slots.length;
+    }
+}
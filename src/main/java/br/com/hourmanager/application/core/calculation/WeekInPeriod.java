@@ -10,6 +10,7 @@ import java.time.LocalDate;
  * Segmento de semana recortado pelo período.
  * Disponibilidade = proporção da semana (ex.: 40/168) × total de horas do segmento.
  * Formato para UI: Xh trabalhadas / Yh disponíveis / Zh Totais.
+ * Valores internos em centésimos de hora ({@link CentiHours}); getters e builder aceitam BigDecimal na borda.
  */
 @Value
 @Builder
@@ -21,19 +22,71 @@ public class WeekInPeriod {
     /** Fim do segmento (inclusive). */
     LocalDate weekEnd;
 
-    BigDecimal totalWorked;
-    BigDecimal totalAdjusted;
-    BigDecimal balance;
+    long totalWorkedCenti;
+    long totalAdjustedCenti;
+    long balanceCenti;
 
     /** Reservado (não usado para disponibilidade). */
     int workingDaysCount;
 
     /** Proporção (expectativa/168) × totalSegmentHours. */
-    BigDecimal hoursAvailable;
+    long hoursAvailableCenti;
 
     /** Expectativa em semana cheia (ex.: 40h). */
-    BigDecimal baseWeeklyHours;
+    long baseWeeklyHoursCenti;
 
     /** Total de horas do segmento (24 × dias). Ex.: 7 dias → 168h. */
-    BigDecimal totalSegmentHours;
+    long totalSegmentHoursCenti;
+
+    public BigDecimal getTotalWorked() {
+        return CentiHours.toBigDecimal(totalWorkedCenti);
+    }
+
+    public BigDecimal getTotalAdjusted() {
+        return CentiHours.toBigDecimal(totalAdjustedCenti);
+    }
+
+    public BigDecimal getBalance() {
+        return CentiHours.toBigDecimal(balanceCenti);
+    }
+
+    public BigDecimal getHoursAvailable() {
+        return CentiHours.toBigDecimal(hoursAvailableCenti);
+    }
+
+    public BigDecimal getBaseWeeklyHours() {
+        return CentiHours.toBigDecimal(baseWeeklyHoursCenti);
+    }
+
+    public BigDecimal getTotalSegmentHours() {
+        return CentiHours.toBigDecimal(totalSegmentHoursCenti);
+    }
+
+    /** Setters em BigDecimal para montagem fora do caminho quente (ex.: testes, snapshots). */
+    public static class WeekInPeriodBuilder {
+
+        public WeekInPeriodBuilder totalWorked(BigDecimal hours) {
+            return totalWorkedCenti(CentiHours.of(hours));
+        }
+
+        public WeekInPeriodBuilder totalAdjusted(BigDecimal hours) {
+            return totalAdjustedCenti(CentiHours.of(hours));
+        }
+
+        public WeekInPeriodBuilder balance(BigDecimal hours) {
+            return balanceCenti(CentiHours.of(hours));
+        }
+
+        public WeekInPeriodBuilder hoursAvailable(BigDecimal hours) {
+            return hoursAvailableCenti(CentiHours.of(hours));
+        }
+
+        public WeekInPeriodBuilder baseWeeklyHours(BigDecimal hours) {
+            return baseWeeklyHoursCenti(CentiHours.of(hours));
+        }
+
+        public WeekInPeriodBuilder totalSegmentHours(BigDecimal hours) {
+            return totalSegmentHoursCenti(CentiHours.of(hours));
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package br.com.hourmanager.application.core.calculation;
 
-import java.time.DayOfWeek;
+import br.com.hourmanager.application.core.holidays.HolidayCalendar;
+
 import java.time.LocalDate;
 import java.util.Set;
 
@@ -8,6 +9,8 @@ import java.util.Set;
  * Calcula quantidade de dias úteis em um intervalo (inclusive).
  * Considera fim de semana (sábado e domingo) como não úteis.
  * Opcionalmente exclui feriados.
+ * Dias de semana saem de aritmética sobre o dia epoch (O(1), sem percorrer o intervalo);
+ * só os feriados que caem de segunda a sexta são subtraídos.
  */
 public final class WorkingDaysCalculator {
 
@@ -23,24 +26,57 @@ public final class WorkingDaysCalculator {
      * @return quantidade de dias úteis
      */
     public static int countWorkingDays(LocalDate start, LocalDate end, Set<LocalDate> holidays) {
-        int count = 0;
-        LocalDate d = start;
-        while (!d.isAfter(end)) {
-            DayOfWeek dow = d.getDayOfWeek();
-            if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY) {
-                if (holidays == null || !holidays.contains(d)) {
-                    count++;
+        long startDay = start.toEpochDay();
+        long endDay = end.toEpochDay();
+        long count = countWeekdays(startDay, endDay);
+        if (holidays != null && count > 0) {
+            for (LocalDate holiday : holidays) {
+                long day = holiday.toEpochDay();
+                if (day >= startDay && day <= endDay && isWeekday(day)) {
+                    count--;
                 }
             }
-            d = d.plusDays(1);
         }
-        return count;
+        return (int) count;
+    }
+
+    /**
+     * Conta dias úteis (segunda a sexta) em [start, end], inclusive, excluindo os feriados efetivos do calendário.
+     */
+    public static int countWorkingDays(LocalDate start, LocalDate end, HolidayCalendar holidays) {
+        long count = countWeekdays(start.toEpochDay(), end.toEpochDay());
+        return (int) (count > 0 ? count - holidays.countWeekdayHolidays(start, end) : count);
     }
 
     /**
      * Conta dias úteis sem considerar feriados.
      */
     public static int countWorkingDays(LocalDate start, LocalDate end) {
-        return countWorkingDays(start, end, null);
+        return countWorkingDays(start, end, (Set<LocalDate>) null);
+    }
+
+    /** Segunda a sexta em [startDay, endDay] (dias epoch); 0 se endDay &lt; startDay. */
+    public static long countWeekdays(long startDay, long endDay) {
+        if (endDay < startDay) {
+            return 0;
+        }
+        long days = endDay - startDay + 1;
+        int startDow = dayOfWeekIndex(startDay);
+        int rest = (int) (days % 7);
+        return days / 7 * 5 + weekdaysBefore(startDow + rest) - weekdaysBefore(startDow);
+    }
+
+    /** 0 = segunda … 6 = domingo (1970-01-01 foi quinta). */
+    public static int dayOfWeekIndex(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    public static boolean isWeekday(long epochDay) {
+        return dayOfWeekIndex(epochDay) < 5;
+    }
+
+    /** Dias de semana em [0, x) contando a partir de uma segunda (x até 13). */
+    private static int weekdaysBefore(int x) {
+        return x / 7 * 5 + Math.min(x % 7, 5);
     }
 }
@@ -0,0 +1,23 @@
+package br.com.hourmanager.application.core.domains;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Soma das horas registradas em um dia (agregado das entradas daquela data).
+ * Usado pelo cálculo do período para não trafegar cada entrada individualmente.
+ */
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyHourTotal {
+
+    private LocalDate entryDate;
+    private BigDecimal hours;
+    private long entryCount;
+}
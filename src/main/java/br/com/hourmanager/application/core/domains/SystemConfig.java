@@ -23,5 +23,7 @@ public class SystemConfig {
     private int closureEndDay;
     /** Expectativa de horas por semana (ex.: 40); opcional, usado para projeção da meta. */
     private BigDecimal expectedWeeklyHours;
+    /** Região dos feriados regionais: UF ("SP") ou UF-código IBGE do município ("SP-3550308"); null = só nacionais. */
+    private String holidayRegion;
     private Instant createdAt;
 }
@@ -0,0 +1,29 @@
+package br.com.hourmanager.application.core.events;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Eventos de escrita publicados pelos casos de uso, dentro da transação que os produziu.
+ * Consumidores em memória (índices, caches) só aplicam o efeito depois do commit.
+ */
+public sealed interface HourDomainEvent {
+
+    /** Entrada de horas criada. */
+    record HourEntryCreated(LocalDate entryDate, BigDecimal hours) implements HourDomainEvent {}
+
+    /** Entrada de horas removida. */
+    record HourEntryDeleted(LocalDate entryDate, BigDecimal hours) implements HourDomainEvent {}
+
+    /** Ajuste do período definido (substitui o valor anterior). */
+    record PeriodAdjustmentSet(LocalDate periodStart, LocalDate periodEnd, BigDecimal adjustedHours) implements HourDomainEvent {}
+
+    /** Override de feriado gravado (true = feriado, false = dia útil); não afeta horas. */
+    record HolidayOverrideSet(LocalDate date, boolean holiday) implements HourDomainEvent {}
+
+    /** Rollup diário recriado por inteiro: derivados em memória devem ser descartados. */
+    record DailyHourTotalsRebuilt() implements HourDomainEvent {}
+
+    /** Configuração gravada; closureDaysChanged também na primeira gravação (chaves e calendário de períodos mudam). */
+    record SystemConfigSaved(boolean closureDaysChanged) implements HourDomainEvent {}
+}
@@ -1,16 +1,22 @@
 package br.com.hourmanager.application.core.holidays;
 
 import java.time.LocalDate;
-import java.time.Year;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Feriados nacionais do Brasil que afetam dias úteis.
  * Apenas os que tipicamente são não-trabalho (Confraternização, Carnaval, Sexta Santa, etc.).
+ * A tabela de cada ano é calculada uma vez e guardada como dias epoch ordenados (imutável, nunca exposta);
+ * consultas por intervalo são busca binária nas tabelas.
  */
 public final class BrazilianHolidayProvider {
 
+    private static final ConcurrentMap<Integer, int[]> YEAR_TABLES = new ConcurrentHashMap<>();
+
     private BrazilianHolidayProvider() {
     }
 
@@ -18,35 +24,97 @@ public final class BrazilianHolidayProvider {
      * Retorna os feriados nacionais no intervalo [start, end].
      */
     public static Set<LocalDate> getHolidaysBetween(LocalDate start, LocalDate end) {
-        Set<LocalDate> result = new HashSet<>();
-        int startYear = start.getYear();
-        int endYear = end.getYear();
-        for (int y = startYear; y <= endYear; y++) {
-            result.addAll(getHolidaysForYear(Year.of(y)));
+        int[] days = epochDaysBetween(start, end);
+        Set<LocalDate> result = new HashSet<>(days.length * 2);
+        for (int day : days) {
+            result.add(LocalDate.ofEpochDay(day));
         }
-        result.removeIf(d -> d.isBefore(start) || d.isAfter(end));
         return result;
     }
 
-    private static Set<LocalDate> getHolidaysForYear(Year year) {
-        Set<LocalDate> set = new HashSet<>();
-        int y = year.getValue();
-        // Fixos
-        set.add(LocalDate.of(y, 1, 1));   // Confraternização Universal
-        set.add(LocalDate.of(y, 4, 21));   // Tiradentes
-        set.add(LocalDate.of(y, 5, 1));   // Dia do Trabalho
-        set.add(LocalDate.of(y, 9, 7));   // Independência
-        set.add(LocalDate.of(y, 10, 12)); // N. Sra. Aparecida
-        set.add(LocalDate.of(y, 11, 2));  // Finados
-        set.add(LocalDate.of(y, 11, 15)); // Proclamação da República
-        set.add(LocalDate.of(y, 11, 20)); // Consciência Negra
-        set.add(LocalDate.of(y, 12, 25)); // Natal
-        // Móveis: Carnaval (47 dias antes do Domingo de Páscoa), Sexta-feira Santa, Corpus Christi
+    /**
+     * Feriados nacionais em [start, end] como dias epoch em ordem crescente (cópia; vazio se end &lt; start).
+     */
+    public static int[] epochDaysBetween(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return new int[0];
+        }
+        int startDay = (int) start.toEpochDay();
+        int endDay = (int) end.toEpochDay();
+        int[] result = new int[countBetween(start, end)];
+        int n = 0;
+        for (int y = start.getYear(); y <= end.getYear(); y++) {
+            int[] table = tableFor(y);
+            int from = lowerBound(table, startDay);
+            int to = lowerBound(table, endDay + 1);
+            System.arraycopy(table, from, result, n, to - from);
+            n += to - from;
+        }
+        return result;
+    }
+
+    /** Quantidade de feriados nacionais em [start, end], sem alocar. */
+    public static int countBetween(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            return 0;
+        }
+        int startDay = (int) start.toEpochDay();
+        int endDay = (int) end.toEpochDay();
+        int count = 0;
+        for (int y = start.getYear(); y <= end.getYear(); y++) {
+            int[] table = tableFor(y);
+            count += lowerBound(table, endDay + 1) - lowerBound(table, startDay);
+        }
+        return count;
+    }
+
+    public static boolean isHoliday(LocalDate date) {
+        return Arrays.binarySearch(tableFor(date.getYear()), (int) date.toEpochDay()) >= 0;
+    }
+
+    private static int[] tableFor(int year) {
+        return YEAR_TABLES.computeIfAbsent(year, BrazilianHolidayProvider::buildYearTable);
+    }
+
+    private static int[] buildYearTable(int y) {
         LocalDate easter = computeEaster(y);
-        set.add(easter.minusDays(47));     // Terça de Carnaval
-        set.add(easter.minusDays(2));      // Sexta-feira Santa
-        set.add(easter.plusDays(60));      // Corpus Christi
-        return set;
+        int[] days = {
+                // Fixos
+                epochDay(y, 1, 1),    // Confraternização Universal
+                epochDay(y, 4, 21),   // Tiradentes
+                epochDay(y, 5, 1),    // Dia do Trabalho
+                epochDay(y, 9, 7),    // Independência
+                epochDay(y, 10, 12),  // N. Sra. Aparecida
+                epochDay(y, 11, 2),   // Finados
+                epochDay(y, 11, 15),  // Proclamação da República
+                epochDay(y, 11, 20),  // Consciência Negra
+                epochDay(y, 12, 25),  // Natal
+                // Móveis: Carnaval (47 dias antes do Domingo de Páscoa), Sexta-feira Santa, Corpus Christi
+                (int) easter.minusDays(47).toEpochDay(), // Terça de Carnaval
+                (int) easter.minusDays(2).toEpochDay(),  // Sexta-feira Santa
+                (int) easter.plusDays(60).toEpochDay()   // Corpus Christi
+        };
+        // Sexta Santa pode cair em 21/04; a tabela não tem repetidos
+        return Arrays.stream(days).sorted().distinct().toArray();
+    }
+
+    private static int epochDay(int year, int month, int day) {
+        return (int) LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    /** Primeiro índice com valor &gt;= key. */
+    private static int lowerBound(int[] table, int key) {
+        int low = 0;
+        int high = table.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (table[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
     }
 
     /** Cálculo do Domingo de Páscoa (algoritmo de Anonymous Gregorian). */
@@ -0,0 +1,215 @@
+package br.com.hourmanager.application.core.holidays;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Feriados efetivos (nacionais + regionais + overrides do usuário) de um intervalo, como bitset indexado por dia epoch.
+ * Um bit por dia: {@link #isHoliday} é O(1) e {@link #countHolidays} soma popcount das palavras do intervalo.
+ * Imutável; {@link #withOverride} devolve uma cópia com um dia alterado.
+ * Fora do intervalo coberto valem só os feriados nacionais (regionais e overrides de lá não são conhecidos).
+ */
+public final class HolidayCalendar {
+
+    /** WEEKDAY_MASKS[d]: bits de segunda a sexta numa palavra cujo bit 0 cai no dia da semana d (0 = segunda). */
+    private static final long[] WEEKDAY_MASKS = new long[7];
+
+    static {
+        for (int d = 0; d < 7; d++) {
+            long mask = 0;
+            for (int i = 0; i < 64; i++) {
+                if ((d + i) % 7 < 5) {
+                    mask |= 1L << i;
+                }
+            }
+            WEEKDAY_MASKS[d] = mask;
+        }
+    }
+
+    private final int firstDay;
+    private final int lastDay;
+    /** Bit (dia - firstDay) ligado: feriado efetivo. */
+    private final long[] holidays;
+    /** Bit (dia - firstDay) ligado: dia com override manual. */
+    private final long[] overrides;
+
+    private HolidayCalendar(int firstDay, int lastDay, long[] holidays, long[] overrides) {
+        this.firstDay = firstDay;
+        this.lastDay = lastDay;
+        this.holidays = holidays;
+        this.overrides = overrides;
+    }
+
+    /**
+     * Calendário de [start, end]: feriados nacionais com os overrides aplicados por cima
+     * (true = feriado, false = dia útil).
+     */
+    public static HolidayCalendar build(LocalDate start, LocalDate end, Map<LocalDate, Boolean> userOverrides) {
+        return build(start, end, new int[0], userOverrides);
+    }
+
+    /**
+     * Como {@link #build(LocalDate, LocalDate, Map)}, somando feriados regionais (dias epoch) aos nacionais.
+     */
+    public static HolidayCalendar build(LocalDate start, LocalDate end, int[] regionalEpochDays,
+                                        Map<LocalDate, Boolean> userOverrides) {
+        int firstDay = (int) start.toEpochDay();
+        int lastDay = (int) end.toEpochDay();
+        int words = lastDay >= firstDay ? ((lastDay - firstDay) >>> 6) + 1 : 0;
+        long[] holidayBits = new long[words];
+        long[] overrideBits = new long[words];
+        for (int day : BrazilianHolidayProvider.epochDaysBetween(start, end)) {
+            set(holidayBits, day - firstDay, true);
+        }
+        for (int day : regionalEpochDays) {
+            if (day >= firstDay && day <= lastDay) {
+                set(holidayBits, day - firstDay, true);
+            }
+        }
+        userOverrides.forEach((date, holiday) -> {
+            int day = (int) date.toEpochDay();
+            if (day >= firstDay && day <= lastDay) {
+                set(overrideBits, day - firstDay, true);
+                set(holidayBits, day - firstDay, holiday);
+            }
+        });
+        return new HolidayCalendar(firstDay, lastDay, holidayBits, overrideBits);
+    }
+
+    public LocalDate getStart() {
+        return LocalDate.ofEpochDay(firstDay);
+    }
+
+    public LocalDate getEnd() {
+        return LocalDate.ofEpochDay(lastDay);
+    }
+
+    /** True se [start, end] está inteiro no intervalo do calendário. */
+    public boolean covers(LocalDate start, LocalDate end) {
+        return start.toEpochDay() >= firstDay && end.toEpochDay() <= lastDay;
+    }
+
+    public boolean isHoliday(LocalDate date) {
+        return isHoliday((int) date.toEpochDay());
+    }
+
+    public boolean isHoliday(int epochDay) {
+        if (epochDay < firstDay || epochDay > lastDay) {
+            return BrazilianHolidayProvider.isHoliday(LocalDate.ofEpochDay(epochDay));
+        }
+        return get(holidays, epochDay - firstDay);
+    }
+
+    /** True se o dia tem override manual (flag isUserOverride da UI). */
+    public boolean isUserOverride(LocalDate date) {
+        int day = (int) date.toEpochDay();
+        return day >= firstDay && day <= lastDay && get(overrides, day - firstDay);
+    }
+
+    /** Quantidade de feriados efetivos em [start, end]; 0 se end &lt; start. */
+    public int countHolidays(LocalDate start, LocalDate end) {
+        int from = (int) start.toEpochDay();
+        int to = (int) end.toEpochDay();
+        if (to < from) {
+            return 0;
+        }
+        int count = 0;
+        if (from < firstDay) {
+            count += BrazilianHolidayProvider.countBetween(start, LocalDate.ofEpochDay(Math.min(to, firstDay - 1)));
+        }
+        if (to > lastDay) {
+            count += BrazilianHolidayProvider.countBetween(LocalDate.ofEpochDay(Math.max(from, lastDay + 1)), end);
+        }
+        int coveredFrom = Math.max(from, firstDay);
+        int coveredTo = Math.min(to, lastDay);
+        if (coveredFrom <= coveredTo) {
+            count += popcount(holidays, coveredFrom - firstDay, coveredTo - firstDay);
+        }
+        return count;
+    }
+
+    /** Quantidade de feriados efetivos de segunda a sexta em [start, end]; 0 se end &lt; start. */
+    public int countWeekdayHolidays(LocalDate start, LocalDate end) {
+        int from = (int) start.toEpochDay();
+        int to = (int) end.toEpochDay();
+        if (to < from) {
+            return 0;
+        }
+        int count = 0;
+        if (from < firstDay) {
+            count += nationalWeekdayHolidays(start, LocalDate.ofEpochDay(Math.min(to, firstDay - 1)));
+        }
+        if (to > lastDay) {
+            count += nationalWeekdayHolidays(LocalDate.ofEpochDay(Math.max(from, lastDay + 1)), end);
+        }
+        int coveredFrom = Math.max(from, firstDay) - firstDay;
+        int coveredTo = Math.min(to, lastDay) - firstDay;
+        if (coveredFrom > coveredTo) {
+            return count;
+        }
+        int fromWord = coveredFrom >>> 6;
+        int toWord = coveredTo >>> 6;
+        for (int w = fromWord; w <= toWord; w++) {
+            long bits = holidays[w] & WEEKDAY_MASKS[Math.floorMod(firstDay + (w << 6) + 3, 7)];
+            if (w == fromWord) {
+                bits &= -1L << coveredFrom;
+            }
+            if (w == toWord) {
+                bits &= -1L >>> (63 - (coveredTo & 63));
+            }
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    /** Cópia com o override da data aplicado; datas fora do intervalo devolvem o próprio calendário. */
+    public HolidayCalendar withOverride(LocalDate date, boolean holiday) {
+        int day = (int) date.toEpochDay();
+        if (day < firstDay || day > lastDay) {
+            return this;
+        }
+        long[] holidayBits = holidays.clone();
+        long[] overrideBits = overrides.clone();
+        set(holidayBits, day - firstDay, holiday);
+        set(overrideBits, day - firstDay, true);
+        return new HolidayCalendar(firstDay, lastDay, holidayBits, overrideBits);
+    }
+
+    private static int nationalWeekdayHolidays(LocalDate start, LocalDate end) {
+        int count = 0;
+        for (int day : BrazilianHolidayProvider.epochDaysBetween(start, end)) {
+            if (Math.floorMod(day + 3, 7) < 5) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] bits, int index, boolean value) {
+        if (value) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    /** Bits ligados em [from, to] (índices inclusive). */
+    private static int popcount(long[] bits, int from, int to) {
+        int fromWord = from >>> 6;
+        int toWord = to >>> 6;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> (63 - (to & 63));
+        if (fromWord == toWord) {
+            return Long.bitCount(bits[fromWord] & firstMask & lastMask);
+        }
+        int count = Long.bitCount(bits[fromWord] & firstMask);
+        for (int w = fromWord + 1; w < toWord; w++) {
+            count += Long.bitCount(bits[w]);
+        }
+        return count + Long.bitCount(bits[toWord] & lastMask);
+    }
+}
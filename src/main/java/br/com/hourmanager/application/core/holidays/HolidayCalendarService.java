@@ -0,0 +1,101 @@
+package br.com.hourmanager.application.core.holidays;
+
+import br.com.hourmanager.application.ports.output.holidays.HolidayCalendarProvider;
+import br.com.hourmanager.application.ports.output.repositories.HolidayOverrideRepository;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Mantém em memória o {@link HolidayCalendar} de um horizonte em torno de hoje, carregado na primeira consulta
+ * (uma leitura de overrides). Overrides gravados depois são aplicados por {@link #applyOverride}, sem reler o banco.
+ * Feriados regionais vêm do {@link HolidayCalendarProvider} para a região da configuração (null: só nacionais);
+ * trocar de região reconstrói o calendário. Intervalos fora do horizonte são montados na hora.
+ */
+public class HolidayCalendarService {
+
+    private final HolidayOverrideRepository holidayOverrideRepository;
+    private final HolidayCalendarProvider holidayCalendarProvider;
+    private final int horizonYears;
+    private final Supplier<LocalDate> today;
+    private volatile Loaded loaded;
+
+    /**
+     * @param holidayCalendarProvider feriados regionais; opcional (null → só nacionais)
+     * @param horizonYears            anos cobertos antes e depois da data de construção
+     */
+    public HolidayCalendarService(HolidayOverrideRepository holidayOverrideRepository,
+                                  HolidayCalendarProvider holidayCalendarProvider,
+                                  int horizonYears) {
+        this(holidayOverrideRepository, holidayCalendarProvider, horizonYears, LocalDate::now);
+    }
+
+    HolidayCalendarService(HolidayOverrideRepository holidayOverrideRepository,
+                           HolidayCalendarProvider holidayCalendarProvider,
+                           int horizonYears,
+                           Supplier<LocalDate> today) {
+        this.holidayOverrideRepository = holidayOverrideRepository;
+        this.holidayCalendarProvider = holidayCalendarProvider;
+        this.horizonYears = horizonYears;
+        this.today = today;
+    }
+
+    /** True se a região pode ser usada na configuração (null = só feriados nacionais). */
+    public boolean supportsRegion(String region) {
+        return region == null || (holidayCalendarProvider != null && holidayCalendarProvider.supports(region));
+    }
+
+    /** Calendário da região que cobre [start, end] (o do horizonte, quando possível). */
+    public HolidayCalendar calendarFor(String region, LocalDate start, LocalDate end) {
+        HolidayCalendar current = current(region);
+        if (current.covers(start, end)) {
+            return current;
+        }
+        return build(region, start, end);
+    }
+
+    /**
+     * Override já persistido (após o commit): atualiza o bit do dia.
+     * Idempotente; sincronizado com a carga, então um override commitado durante a leitura inicial não se perde.
+     */
+    public synchronized void applyOverride(LocalDate date, boolean holiday) {
+        Loaded current = loaded;
+        if (current != null) {
+            loaded = new Loaded(current.region(), current.calendar().withOverride(date, holiday));
+        }
+    }
+
+    /** Descarta o calendário; a próxima consulta recarrega do repositório. */
+    public synchronized void invalidate() {
+        loaded = null;
+    }
+
+    private HolidayCalendar current(String region) {
+        Loaded current = loaded;
+        if (current != null && Objects.equals(current.region(), region)) {
+            return current.calendar();
+        }
+        synchronized (this) {
+            if (loaded == null || !Objects.equals(loaded.region(), region)) {
+                LocalDate reference = today.get();
+                loaded = new Loaded(region, build(region,
+                        reference.minusYears(horizonYears).withDayOfYear(1),
+                        reference.plusYears(horizonYears).withMonth(12).withDayOfMonth(31)));
+            }
+            return loaded.calendar();
+        }
+    }
+
+    private HolidayCalendar build(String region, LocalDate start, LocalDate end) {
+        int[] regional = region != null && holidayCalendarProvider != null
+                ? holidayCalendarProvider.epochDaysBetween(region, start, end)
+                : new int[0];
+        Map<LocalDate, Boolean> overrides = holidayOverrideRepository.getOverridesBetween(start, end);
+        return HolidayCalendar.build(start, end, regional, overrides);
+    }
+
+    private record Loaded(String region, HolidayCalendar calendar) {
+    }
+}
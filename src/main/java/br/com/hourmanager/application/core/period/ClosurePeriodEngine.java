@@ -2,6 +2,8 @@ package br.com.hourmanager.application.core.period;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Engine de cálculo do período de fechamento.
@@ -51,6 +53,38 @@ public final class ClosurePeriodEngine {
         }
     }
 
+    /**
+     * Enumera, em ordem, os períodos de fechamento que interceptam [from, to]:
+     * do período que contém {@code from} até o último que começa antes ou em {@code to}.
+     * Com período no mesmo mês (ex.: 1 a 20) os dias fora do intervalo de fechamento são pulados.
+     */
+    public static List<PeriodBounds> periodsBetween(
+            LocalDate from,
+            LocalDate to,
+            int closureStartDay,
+            int closureEndDay) {
+
+        List<PeriodBounds> result = new ArrayList<>();
+        PeriodBounds current = computePeriodContaining(from, closureStartDay, closureEndDay);
+        while (!current.getStart().isAfter(to)) {
+            if (!current.getEnd().isBefore(from)) {
+                result.add(current);
+            }
+            current = nextPeriod(current, closureStartDay, closureEndDay);
+        }
+        return result;
+    }
+
+    /** Período seguinte: o que contém o dia após o fim; se cair no mesmo período (dias sem fechamento), vai ao mês seguinte. */
+    private static PeriodBounds nextPeriod(PeriodBounds current, int closureStartDay, int closureEndDay) {
+        PeriodBounds next = computePeriodContaining(current.getEnd().plusDays(1), closureStartDay, closureEndDay);
+        if (!next.getStart().isAfter(current.getStart())) {
+            LocalDate firstOfNextMonth = YearMonth.from(current.getEnd()).plusMonths(1).atDay(1);
+            next = computePeriodContaining(firstOfNextMonth, closureStartDay, closureEndDay);
+        }
+        return next;
+    }
+
     /**
      * Dia do mês ajustado ao tamanho do mês (ex.: 31 em fev vira 28/29).
      */
@@ -0,0 +1,145 @@
+package br.com.hourmanager.application.core.period;
+
+import br.com.hourmanager.application.core.calculation.PeriodWeekSegments;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Períodos de fechamento pré-calculados para uma configuração (dia início / dia fim) dentro de um horizonte.
+ * Início e fim de cada período ficam em arrays de dia epoch ordenados; data → período é uma busca binária,
+ * sem aritmética de {@code YearMonth}. Fora do horizonte (ou nos dias sem fechamento de configurações no mesmo mês)
+ * o resultado vem do {@link ClosurePeriodEngine}, então as respostas são sempre as mesmas do engine.
+ * Imutável; segmentos de semana de cada período também são pré-calculados.
+ */
+public final class PeriodCalendar {
+
+    /** Índice devolvido por {@link #assign(int[])} para dias fora de qualquer período pré-calculado. */
+    public static final int NO_PERIOD = -1;
+
+    private final int closureStartDay;
+    private final int closureEndDay;
+    private final int[] startEpochDays;
+    private final int[] endEpochDays;
+    private final PeriodBounds[] periods;
+    private final List<List<PeriodWeekSegments.SegmentBounds>> segments;
+
+    private PeriodCalendar(int closureStartDay, int closureEndDay, List<PeriodBounds> bounds) {
+        this.closureStartDay = closureStartDay;
+        this.closureEndDay = closureEndDay;
+        this.periods = bounds.toArray(PeriodBounds[]::new);
+        this.startEpochDays = new int[periods.length];
+        this.endEpochDays = new int[periods.length];
+        List<List<PeriodWeekSegments.SegmentBounds>> weekSegments = new ArrayList<>(periods.length);
+        for (int i = 0; i < periods.length; i++) {
+            startEpochDays[i] = (int) periods[i].getStart().toEpochDay();
+            endEpochDays[i] = (int) periods[i].getEnd().toEpochDay();
+            weekSegments.add(List.copyOf(PeriodWeekSegments.segmentsWithin(periods[i])));
+        }
+        this.segments = List.copyOf(weekSegments);
+    }
+
+    /**
+     * Pré-calcula os períodos que interceptam [horizonStart, horizonEnd].
+     */
+    public static PeriodCalendar build(int closureStartDay, int closureEndDay, LocalDate horizonStart, LocalDate horizonEnd) {
+        return new PeriodCalendar(closureStartDay, closureEndDay,
+                ClosurePeriodEngine.periodsBetween(horizonStart, horizonEnd, closureStartDay, closureEndDay));
+    }
+
+    public boolean matches(int closureStartDay, int closureEndDay) {
+        return this.closureStartDay == closureStartDay && this.closureEndDay == closureEndDay;
+    }
+
+    /** Mesmo resultado de {@link ClosurePeriodEngine#computePeriodContaining}. */
+    public PeriodBounds periodOf(LocalDate date) {
+        int index = indexOf((int) date.toEpochDay());
+        if (index != NO_PERIOD) {
+            return periods[index];
+        }
+        return ClosurePeriodEngine.computePeriodContaining(date, closureStartDay, closureEndDay);
+    }
+
+    /** Mesmo resultado de {@link ClosurePeriodEngine#periodsBetween}. */
+    public List<PeriodBounds> periodsBetween(LocalDate from, LocalDate to) {
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        if (periods.length == 0 || fromDay < startEpochDays[0] || toDay > endEpochDays[periods.length - 1]) {
+            return ClosurePeriodEngine.periodsBetween(from, to, closureStartDay, closureEndDay);
+        }
+        List<PeriodBounds> result = new ArrayList<>();
+        for (int i = firstEndingOnOrAfter(fromDay); i < periods.length && startEpochDays[i] <= toDay; i++) {
+            result.add(periods[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Índice do período de cada dia epoch ({@link #NO_PERIOD} fora do horizonte ou em dia sem fechamento).
+     * Entrada ordenada é percorrida num merge linear; fora de ordem, busca binária por dia.
+     */
+    public int[] assign(int[] epochDays) {
+        int[] result = new int[epochDays.length];
+        int cursor = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            int day = epochDays[i];
+            if (i > 0 && day < epochDays[i - 1]) {
+                result[i] = indexOf(day);
+                cursor = Math.max(result[i], 0);
+                continue;
+            }
+            while (cursor < periods.length && endEpochDays[cursor] < day) {
+                cursor++;
+            }
+            result[i] = cursor < periods.length && startEpochDays[cursor] <= day ? cursor : NO_PERIOD;
+        }
+        return result;
+    }
+
+    /** Período pelo índice devolvido por {@link #assign(int[])}. */
+    public PeriodBounds period(int index) {
+        return periods[index];
+    }
+
+    public int size() {
+        return periods.length;
+    }
+
+    /** Segmentos de semana do período (pré-calculados quando o período está no horizonte). */
+    public List<PeriodWeekSegments.SegmentBounds> segmentsOf(PeriodBounds bounds) {
+        int startDay = (int) bounds.getStart().toEpochDay();
+        int index = Arrays.binarySearch(startEpochDays, startDay);
+        if (index >= 0 && endEpochDays[index] == (int) bounds.getEnd().toEpochDay()) {
+            return segments.get(index);
+        }
+        return PeriodWeekSegments.segmentsWithin(bounds);
+    }
+
+    private int indexOf(int epochDay) {
+        int index = Arrays.binarySearch(startEpochDays, epochDay);
+        if (index < 0) {
+            index = -index - 2; // último início antes do dia
+        }
+        if (index > 0 && endEpochDays[index - 1] >= epochDay) {
+            // Dia ajustado ao fim do mês (ex.: 31 a 30 em abril) é fim de um período e início do seguinte; o engine fica com o anterior
+            index--;
+        }
+        return index >= 0 && epochDay <= endEpochDays[index] ? index : NO_PERIOD;
+    }
+
+    private int firstEndingOnOrAfter(int epochDay) {
+        int low = 0;
+        int high = periods.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (endEpochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
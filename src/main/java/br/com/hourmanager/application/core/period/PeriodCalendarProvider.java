@@ -0,0 +1,54 @@
+package br.com.hourmanager.application.core.period;
+
+import br.com.hourmanager.application.core.calculation.PeriodWeekSegments;
+import br.com.hourmanager.application.core.domains.SystemConfig;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Mantém o {@link PeriodCalendar} da configuração atual, construído na primeira consulta.
+ * Descartado por {@link #invalidate()} quando os dias de fechamento mudam; a configuração recebida em
+ * {@link #forConfig} também é conferida, então um calendário de outra configuração nunca é devolvido.
+ */
+public class PeriodCalendarProvider {
+
+    private final int horizonYears;
+    private final Supplier<LocalDate> today;
+    private volatile PeriodCalendar calendar;
+
+    /**
+     * @param horizonYears anos pré-calculados antes e depois da data de construção
+     */
+    public PeriodCalendarProvider(int horizonYears) {
+        this(horizonYears, LocalDate::now);
+    }
+
+    PeriodCalendarProvider(int horizonYears, Supplier<LocalDate> today) {
+        this.horizonYears = horizonYears;
+        this.today = today;
+    }
+
+    public PeriodCalendar forConfig(SystemConfig config) {
+        PeriodCalendar current = calendar;
+        if (current != null && current.matches(config.getClosureStartDay(), config.getClosureEndDay())) {
+            return current;
+        }
+        LocalDate reference = today.get();
+        PeriodCalendar built = PeriodCalendar.build(config.getClosureStartDay(), config.getClosureEndDay(),
+                reference.minusYears(horizonYears), reference.plusYears(horizonYears));
+        calendar = built;
+        return built;
+    }
+
+    /** Segmentos de semana do período, do calendário em memória quando houver. */
+    public List<PeriodWeekSegments.SegmentBounds> segmentsOf(PeriodBounds bounds) {
+        PeriodCalendar current = calendar;
+        return current != null ? current.segmentsOf(bounds) : PeriodWeekSegments.segmentsWithin(bounds);
+    }
+
+    public void invalidate() {
+        calendar = null;
+    }
+}
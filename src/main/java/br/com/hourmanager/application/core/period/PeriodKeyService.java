@@ -0,0 +1,156 @@
+package br.com.hourmanager.application.core.period;
+
+import br.com.hourmanager.application.core.domains.SystemConfig;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mantém a chave persistida hour_entries.period_start coerente com os dias de fechamento.
+ * Novas entradas já são gravadas com a chave; quando a configuração muda, as existentes são re-key'adas
+ * em lotes pequenos ({@link #runBatch(int)}, chamado periodicamente), sem travar a tabela.
+ * Enquanto o re-key não termina, consultas por período devem usar o intervalo de datas.
+ * <p>
+ * As chaves só são dadas como em dia quando uma passada inteira, começada depois de outra já completa, não altera
+ * nenhuma linha: uma entrada gravada durante o re-key com a configuração antiga (lida antes da troca) é corrigida
+ * pela passada seguinte. E só depois do commit do lote que fechou essa passada ({@link #batchFinished(boolean)}).
+ */
+public class PeriodKeyService {
+
+    private final HourEntryRepository hourEntryRepository;
+    private final SystemConfigRepository systemConfigRepository;
+    private final PeriodCalendarProvider periodCalendarProvider;
+
+    /* Protegidos pelo monitor da instância. */
+    private List<Step> plan;
+    private int cursor;
+    private int plannedStartDay;
+    private int plannedEndDay;
+    /** Linhas alteradas na passada atual (todos os lotes do plano). */
+    private int changedInPass;
+    /** Passadas completas com os dias de fechamento planejados. */
+    private int passesCompleted;
+    /** Dias de uma passada limpa cujo último lote ainda não foi commitado. */
+    private int[] pendingKeyedFor;
+
+    /** Dias de fechamento com que todas as chaves foram verificadas; null enquanto não verificadas (ex.: após restart). */
+    private volatile int[] keyedFor;
+
+    public PeriodKeyService(HourEntryRepository hourEntryRepository,
+                            SystemConfigRepository systemConfigRepository,
+                            PeriodCalendarProvider periodCalendarProvider) {
+        this.hourEntryRepository = hourEntryRepository;
+        this.systemConfigRepository = systemConfigRepository;
+        this.periodCalendarProvider = periodCalendarProvider;
+    }
+
+    /** True se period_start de todas as entradas corresponde aos dias de fechamento da configuração. */
+    public boolean isCurrentFor(SystemConfig config) {
+        int[] keyed = keyedFor;
+        return keyed != null && keyed[0] == config.getClosureStartDay() && keyed[1] == config.getClosureEndDay();
+    }
+
+    /** Dias de fechamento mudaram: descarta o progresso e recomeça o re-key no próximo lote. */
+    public synchronized void requestRekey() {
+        keyedFor = null;
+        plan = null;
+        pendingKeyedFor = null;
+        passesCompleted = 0;
+    }
+
+    /**
+     * Processa um lote do re-key, na transação de quem chama; o resultado só vale depois de
+     * {@link #batchFinished(boolean)}.
+     *
+     * @return quantidade de entradas alteradas (0 quando não há nada a fazer)
+     */
+    public synchronized int runBatch(int batchSize) {
+        Optional<SystemConfig> config = systemConfigRepository.findCurrent();
+        if (config.isEmpty() || isCurrentFor(config.get())) {
+            return 0;
+        }
+        SystemConfig current = config.get();
+        boolean daysChanged = plannedStartDay != current.getClosureStartDay()
+                || plannedEndDay != current.getClosureEndDay();
+        if (plan == null || daysChanged) {
+            if (daysChanged) {
+                passesCompleted = 0;
+            }
+            plan = buildPlan(current);
+            cursor = 0;
+            changedInPass = 0;
+            plannedStartDay = current.getClosureStartDay();
+            plannedEndDay = current.getClosureEndDay();
+        }
+
+        int changed = 0;
+        while (cursor < plan.size() && changed < batchSize) {
+            Step step = plan.get(cursor);
+            int limit = batchSize - changed;
+            int rows = step.periodStart() != null
+                    ? hourEntryRepository.stampPeriodStart(step.periodStart(), step.start(), step.end(), limit)
+                    : hourEntryRepository.clearPeriodStart(step.start(), step.end(), limit);
+            changed += rows;
+            if (rows < limit) {
+                cursor++;
+            }
+        }
+        changedInPass += changed;
+        if (cursor >= plan.size()) {
+            // Só a passada de conferência (min/max relidos) pode fechar o re-key, e só se nada escapou
+            if (changedInPass == 0 && passesCompleted > 0) {
+                pendingKeyedFor = new int[]{plannedStartDay, plannedEndDay};
+            }
+            passesCompleted++;
+            plan = null;
+        }
+        return changed;
+    }
+
+    /**
+     * Fim da transação do último lote: com commit, uma passada limpa passa a valer; com rollback, as linhas
+     * do lote voltaram atrás e a passada recomeça.
+     */
+    public synchronized void batchFinished(boolean committed) {
+        if (committed && pendingKeyedFor != null) {
+            keyedFor = pendingKeyedFor;
+        } else if (!committed) {
+            plan = null;
+        }
+        pendingKeyedFor = null;
+    }
+
+    /** Um passo por período entre a primeira e a última entrada, mais os dias sem fechamento entre eles. */
+    private List<Step> buildPlan(SystemConfig config) {
+        Optional<LocalDate> min = hourEntryRepository.findMinEntryDate();
+        Optional<LocalDate> max = hourEntryRepository.findMaxEntryDate();
+        List<Step> steps = new ArrayList<>();
+        if (min.isEmpty() || max.isEmpty()) {
+            return steps;
+        }
+        LocalDate uncovered = min.get();
+        for (PeriodBounds period : periodCalendarProvider.forConfig(config).periodsBetween(min.get(), max.get())) {
+            if (uncovered.isBefore(period.getStart())) {
+                steps.add(new Step(null, uncovered, period.getStart().minusDays(1)));
+            }
+            // Dia compartilhado por dois períodos (fim de mês ajustado) fica com o anterior, como no engine
+            LocalDate from = uncovered.isAfter(period.getStart()) ? uncovered : period.getStart();
+            if (!from.isAfter(period.getEnd())) {
+                steps.add(new Step(period.getStart(), from, period.getEnd()));
+            }
+            uncovered = period.getEnd().plusDays(1);
+        }
+        if (!uncovered.isAfter(max.get())) {
+            steps.add(new Step(null, uncovered, max.get()));
+        }
+        return steps;
+    }
+
+    /** Grava periodStart nas entradas de [start, end]; periodStart null limpa a chave (dias sem período). */
+    private record Step(LocalDate periodStart, LocalDate start, LocalDate end) {
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 /**
  * Objeto final da projeção para o dashboard.
  * Consumível pelo frontend; apenas dados derivados (nunca persistido).
+ * Seções não pedidas em ?fields= vêm null (ver {@link ProjectionFields}).
  */
 @Value
 @Builder
@@ -30,6 +31,9 @@ public class DashboardProjection {
     /** Projeção até o fim do período e status da meta (null se não houver meta configurada). */
     GoalProjectionInfo goalProjection;
 
+    /** Previsão pelo histórico (null sem meta, sem histórico ou sem estatísticas configuradas). */
+    GoalForecastInfo forecast;
+
     @Value
     @Builder
     public static class PeriodInfo {
@@ -75,6 +79,7 @@ public class DashboardProjection {
         BigDecimal baseWeeklyHours;
         /** Total de horas do segmento (24 × dias). */
         BigDecimal totalSegmentHours;
+        /** Dias do segmento (null quando ?fields= não inclui weeks.days). */
         List<DayInWeek> days;
     }
 
@@ -107,4 +112,25 @@ public class DashboardProjection {
         /** Status: atingível, em risco ou impossível. */
         GoalStatus goalStatus;
     }
+
+    /**
+     * Previsão do saldo ao fim do período pelo histórico: média por dia da semana nos dias úteis restantes,
+     * escalada pelo nível recente (EWMA / média da janela), com faixa de 95% pela variância por dia da semana.
+     */
+    @Value
+    @Builder
+    public static class GoalForecastInfo {
+        BigDecimal projectedBalanceAtEnd;
+        /** Limite inferior da faixa de 95%. */
+        BigDecimal lowerBound;
+        /** Limite superior da faixa de 95%. */
+        BigDecimal upperBound;
+        BigDecimal targetHours;
+        /** Status pela previsão central (mesmos limites da goalProjection). */
+        GoalStatus goalStatus;
+        /** Média móvel exponencial das horas por dia até ontem. */
+        BigDecimal recentDailyHours;
+        /** Dias de histórico usados nas médias. */
+        long historyDays;
+    }
 }
@@ -0,0 +1,106 @@
+package br.com.hourmanager.application.core.projection;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Projeções prontas do dashboard por (versão da configuração, versão dos dados, data de referência, seções pedidas);
+ * o período é derivado da configuração e da data, então fica implícito na chave.
+ * A versão dos dados sobe depois do commit de cada escrita de entrada, ajuste, override ou rollup
+ * (e depois dos derivados em memória já atualizados); a da configuração, a cada configuração salva.
+ * A chave vira a ETag: uma requisição com ETag atual recebe 304 sem ler o banco.
+ * Cada mudança de versão é avisada aos {@link ChangeListener}s com os dias afetados (ex.: stream de projeções).
+ */
+public class DashboardProjectionCache {
+
+    /** Datas de referência mantidas (LRU): hoje e algumas consultadas por ?date=. */
+    private static final int MAX_ENTRIES = 32;
+
+    /** Diferencia ETags de execuções diferentes (as versões recomeçam em 0 a cada subida). */
+    private final String instanceTag = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    private final Map<Key, DashboardProjection> entries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, DashboardProjection> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final List<ChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    /* Protegidos pelo monitor da instância. */
+    private long configVersion;
+    private long dataVersion;
+
+    /** Avisado depois de cada mudança de versão, fora do lock; [from, to] = dias afetados, null/null = todos. */
+    public interface ChangeListener {
+        void changed(LocalDate from, LocalDate to);
+    }
+
+    public record Key(long configVersion, long dataVersion, LocalDate referenceDate, ProjectionFields fields) {
+    }
+
+    /** Chave da projeção completa com as versões atuais. */
+    public Key currentKey(LocalDate referenceDate) {
+        return currentKey(referenceDate, ProjectionFields.ALL);
+    }
+
+    /** Chave com as versões atuais; deve ser obtida antes de calcular a projeção. */
+    public synchronized Key currentKey(LocalDate referenceDate, ProjectionFields fields) {
+        return new Key(configVersion, dataVersion, referenceDate, fields);
+    }
+
+    public String etagOf(Key key) {
+        return "\"" + instanceTag + "-" + key.configVersion() + "-" + key.dataVersion() + "-" + key.referenceDate()
+                + "-" + Integer.toHexString(key.fields().mask()) + "\"";
+    }
+
+    public synchronized Optional<DashboardProjection> get(Key key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /** Guarda a projeção se as versões não mudaram desde {@link #currentKey}. */
+    public synchronized void put(Key key, DashboardProjection projection) {
+        if (key.configVersion() == configVersion && key.dataVersion() == dataVersion) {
+            entries.put(key, projection);
+        }
+    }
+
+    public void addChangeListener(ChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /** Escrita commitada sem dias conhecidos (ex.: rollup recriado): afeta todos os períodos. */
+    public void dataChanged() {
+        dataChanged(null, null);
+    }
+
+    /** Escrita commitada que altera a projeção dos períodos que tocam [from, to] (entradas, ajuste, overrides). */
+    public void dataChanged(LocalDate from, LocalDate to) {
+        synchronized (this) {
+            dataVersion++;
+            entries.clear();
+        }
+        notifyListeners(from, to);
+    }
+
+    /** Configuração salva (dias de fechamento, expectativa semanal, região de feriados). */
+    public void configChanged() {
+        synchronized (this) {
+            configVersion++;
+            entries.clear();
+        }
+        notifyListeners(null, null);
+    }
+
+    private void notifyListeners(LocalDate from, LocalDate to) {
+        for (ChangeListener listener : listeners) {
+            listener.changed(from, to);
+        }
+    }
+}
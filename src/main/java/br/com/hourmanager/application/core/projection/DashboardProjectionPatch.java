@@ -0,0 +1,42 @@
+package br.com.hourmanager.application.core.projection;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Resposta incremental das escritas do dashboard: só as partes da projeção que a escrita altera.
+ * O cliente aplica sobre a projeção que já tem; campos null não mudaram, exceto as seções que a escrita
+ * sempre recalcula (ajuste: totals, goalProjection e forecast; override: forecast), em que null = sem meta ou
+ * sem histórico. etag é a ETag da projeção completa depois da escrita.
+ */
+@Value
+@Builder
+public class DashboardProjectionPatch {
+
+    /** ETag da projeção de hoje com a escrita aplicada (para o próximo If-None-Match). */
+    String etag;
+
+    /** Totais recalculados (ajuste do período). */
+    DashboardProjection.TotalsInfo totals;
+
+    /** Meta recalculada junto com os totais. */
+    DashboardProjection.GoalProjectionInfo goalProjection;
+
+    /** Previsão recalculada (depende do saldo e dos feriados restantes). */
+    DashboardProjection.GoalForecastInfo forecast;
+
+    /** Dias com flag de feriado alterada (override). */
+    List<DayChange> days;
+
+    @Value
+    @Builder
+    public static class DayChange {
+        LocalDate date;
+        /** Feriado efetivo depois do override. */
+        boolean holiday;
+        boolean userOverride;
+    }
+}
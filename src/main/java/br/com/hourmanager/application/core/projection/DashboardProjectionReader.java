@@ -0,0 +1,76 @@
+package br.com.hourmanager.application.core.projection;
+
+import br.com.hourmanager.application.core.holidays.HolidayCalendarService;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Leitura da projeção do dashboard por chave do {@link DashboardProjectionCache}: devolve a do cache
+ * ou calcula com a configuração atual (período da data de referência, feriados da região) e guarda.
+ * Usado pelo GET da projeção e pelo stream, que assim compartilham o mesmo cálculo, e pelos cenários da meta.
+ */
+public class DashboardProjectionReader {
+
+    private final SystemConfigRepository systemConfigRepository;
+    private final PeriodCalendarProvider periodCalendarProvider;
+    private final HolidayCalendarService holidayCalendarService;
+    private final DashboardProjectionService dashboardProjectionService;
+    private final DashboardProjectionCache dashboardProjectionCache;
+
+    public DashboardProjectionReader(SystemConfigRepository systemConfigRepository,
+                                     PeriodCalendarProvider periodCalendarProvider,
+                                     HolidayCalendarService holidayCalendarService,
+                                     DashboardProjectionService dashboardProjectionService,
+                                     DashboardProjectionCache dashboardProjectionCache) {
+        this.systemConfigRepository = systemConfigRepository;
+        this.periodCalendarProvider = periodCalendarProvider;
+        this.holidayCalendarService = holidayCalendarService;
+        this.dashboardProjectionService = dashboardProjectionService;
+        this.dashboardProjectionCache = dashboardProjectionCache;
+    }
+
+    /**
+     * Projeção da chave (obtida com {@link DashboardProjectionCache#currentKey} antes da leitura).
+     *
+     * @return vazio se ainda não há configuração
+     */
+    public Optional<DashboardProjection> read(DashboardProjectionCache.Key key) {
+        return dashboardProjectionCache.get(key)
+                .or(() -> systemConfigRepository.findCurrent().map(config -> {
+                    LocalDate reference = key.referenceDate();
+                    PeriodBounds bounds = periodCalendarProvider.forConfig(config).periodOf(reference);
+                    DashboardProjection projection = dashboardProjectionService.project(
+                            bounds, reference, config.getExpectedWeeklyHours(),
+                            holidayCalendarService.calendarFor(config.getHolidayRegion(), bounds.getStart(), bounds.getEnd()),
+                            key.fields());
+                    dashboardProjectionCache.put(key, projection);
+                    return projection;
+                }));
+    }
+
+    /**
+     * Avalia cenários "e se" no período da data com a configuração atual (uma leitura de configuração e
+     * um saldo para o lote inteiro).
+     *
+     * @return vazio se ainda não há configuração
+     */
+    public Optional<List<GoalScenarioResult>> evaluateScenarios(LocalDate referenceDate, List<GoalScenario> scenarios) {
+        return systemConfigRepository.findCurrent().map(config -> {
+            PeriodBounds bounds = periodCalendarProvider.forConfig(config).periodOf(referenceDate);
+            return dashboardProjectionService.evaluateScenarios(bounds, referenceDate, config.getExpectedWeeklyHours(),
+                    holidayCalendarService.calendarFor(config.getHolidayRegion(), bounds.getStart(), bounds.getEnd()),
+                    scenarios);
+        });
+    }
+
+    /** Período que contém a data na configuração atual (vazio sem configuração). */
+    public Optional<PeriodBounds> periodOf(LocalDate referenceDate) {
+        return systemConfigRepository.findCurrent()
+                .map(config -> periodCalendarProvider.forConfig(config).periodOf(referenceDate));
+    }
+}
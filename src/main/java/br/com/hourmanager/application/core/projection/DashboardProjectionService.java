@@ -1,40 +1,66 @@
 package br.com.hourmanager.application.core.projection;
 
+import br.com.hourmanager.application.core.calculation.CentiHours;
+import br.com.hourmanager.application.core.calculation.DailyHoursStatistics;
+import br.com.hourmanager.application.core.calculation.PeriodBalance;
 import br.com.hourmanager.application.core.calculation.PeriodCalculationResult;
 import br.com.hourmanager.application.core.calculation.PeriodCalculationService;
 import br.com.hourmanager.application.core.calculation.WeekInPeriod;
+import br.com.hourmanager.application.core.calculation.WorkingDaysCalculator;
+import br.com.hourmanager.application.core.holidays.HolidayCalendar;
 import br.com.hourmanager.application.core.period.PeriodBounds;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Camada de projeção para o dashboard.
  * Consome apenas o serviço de cálculo; não acessa repositórios nem persiste nada.
+ * Contas em centésimos de hora ({@link CentiHours}); BigDecimal só ao montar o objeto de saída.
+ * Os dias de cada semana vêm de um {@link PeriodDaySkeleton} guardado por (período, calendário de feriados):
+ * override ou configuração nova geram outro calendário, e com ele outro esqueleto.
  */
 public class DashboardProjectionService {
 
-    private static final BigDecimal ZERO = BigDecimal.ZERO;
-    private static final int SCALE = 2;
-    /** 168h = semana cheia; 720h = 30 dias (mês cheio para proporção). */
-    private static final BigDecimal HOURS_IN_FULL_WEEK = new BigDecimal("168");
-    private static final BigDecimal HOURS_IN_FULL_MONTH = new BigDecimal("720");
-    /** Abaixo de 70% da meta: impossível. Entre 70% e 100%: em risco. >= 100%: atingível. */
-    private static final BigDecimal RISK_THRESHOLD = new BigDecimal("0.70");
+    /** Abaixo de 70% da meta: impossível. Entre 70% e 100%: em risco. >= 100%: atingível (razões em 1/10000). */
+    private static final long RISK_THRESHOLD = 7_000;
+
+    /** Esqueletos mantidos (LRU): período atual e alguns consultados por data. */
+    private static final int MAX_SKELETONS = 8;
+
+    /** A partir deste tamanho, cenários são avaliados em paralelo. */
+    private static final int PARALLEL_SCENARIOS = 256;
+
+    /** z da faixa de confiança de 95% da previsão. */
+    private static final double Z_95 = 1.96;
 
     private final PeriodCalculationService periodCalculationService;
+    /** Opcional: sem estatísticas do histórico, a seção forecast vem null. */
+    private final DailyHoursStatistics dailyHoursStatistics;
+
+    private final Map<SkeletonKey, PeriodDaySkeleton> skeletons = new LinkedHashMap<>(MAX_SKELETONS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SkeletonKey, PeriodDaySkeleton> eldest) {
+            return size() > MAX_SKELETONS;
+        }
+    };
 
     public DashboardProjectionService(PeriodCalculationService periodCalculationService) {
-        this.periodCalculationService = periodCalculationService;
+        this(periodCalculationService, null);
     }
 
-    private static final String[] WEEKDAY_LABELS = {"Dom", "Seg", "Ter", "Qua", "Qui", "Sex", "Sáb"};
+    public DashboardProjectionService(PeriodCalculationService periodCalculationService,
+                                      DailyHoursStatistics dailyHoursStatistics) {
+        this.periodCalculationService = periodCalculationService;
+        this.dailyHoursStatistics = dailyHoursStatistics;
+    }
 
     /**
      * Gera a projeção completa para o dashboard.
@@ -42,159 +68,321 @@ public class DashboardProjectionService {
      * @param bounds               início e fim do período
      * @param referenceDate        data de referência (ex.: hoje) para cálculo do progresso
      * @param expectedWeeklyHours  expectativa de horas por semana (opcional)
-     * @param effectiveHolidays    feriados efetivos (nacionais + overrides) para cálculo de disponibilidade
-     * @param overrideDates       datas que possuem override manual (para flag isUserOverride na UI)
+     * @param holidays             feriados efetivos (nacionais + overrides) e datas com override manual
+     *                             (flag isUserOverride na UI); null → só feriados nacionais
      * @return objeto pronto para o frontend
      */
     public DashboardProjection project(PeriodBounds bounds, LocalDate referenceDate, BigDecimal expectedWeeklyHours,
-                                      Set<LocalDate> effectiveHolidays, Set<LocalDate> overrideDates) {
-        PeriodCalculationResult result = periodCalculationService.computeWithWeeklyBreakdown(
-                bounds, expectedWeeklyHours, effectiveHolidays != null ? effectiveHolidays : Set.of());
+                                      HolidayCalendar holidays) {
+        return project(bounds, referenceDate, expectedWeeklyHours, holidays, ProjectionFields.ALL);
+    }
+
+    /**
+     * Gera só as seções pedidas; as demais vêm null.
+     * Sem "weeks" o breakdown semanal não é montado (saldo via {@link PeriodCalculationService#compute},
+     * disponibilidade somada direto dos segmentos); sem "weeks.days" o esqueleto de dias não é usado.
+     */
+    public DashboardProjection project(PeriodBounds bounds, LocalDate referenceDate, BigDecimal expectedWeeklyHours,
+                                      HolidayCalendar holidays, ProjectionFields fields) {
+        boolean withWeeks = fields.includes(ProjectionFields.Section.WEEKS);
+        boolean withTotals = fields.includes(ProjectionFields.Section.TOTALS);
+        boolean withGoal = fields.includes(ProjectionFields.Section.GOAL_PROJECTION);
+        boolean withForecast = dailyHoursStatistics != null && fields.includes(ProjectionFields.Section.FORECAST);
 
         long totalDays = ChronoUnit.DAYS.between(bounds.getStart(), bounds.getEnd()) + 1;
-        long daysElapsed;
-        if (referenceDate.isBefore(bounds.getStart())) {
-            daysElapsed = 0;
-        } else if (referenceDate.isAfter(bounds.getEnd())) {
-            daysElapsed = totalDays;
-        } else {
-            daysElapsed = ChronoUnit.DAYS.between(bounds.getStart(), referenceDate) + 1;
-        }
+        long daysElapsed = daysElapsed(bounds, referenceDate);
         double percentageElapsed = totalDays > 0 ? (double) daysElapsed / totalDays : 0;
 
-        DashboardProjection.PeriodInfo period = DashboardProjection.PeriodInfo.builder()
-                .start(bounds.getStart())
-                .end(bounds.getEnd())
-                .totalDays(totalDays)
-                .build();
+        DashboardProjection.DashboardProjectionBuilder projection = DashboardProjection.builder();
+        if (fields.includes(ProjectionFields.Section.PERIOD)) {
+            projection.period(DashboardProjection.PeriodInfo.builder()
+                    .start(bounds.getStart())
+                    .end(bounds.getEnd())
+                    .totalDays(totalDays)
+                    .build());
+        }
+        if (fields.includes(ProjectionFields.Section.PROGRESS)) {
+            projection.progress(DashboardProjection.ProgressInfo.builder()
+                    .daysElapsed(daysElapsed)
+                    .totalDays(totalDays)
+                    .percentageElapsed(percentageElapsed)
+                    .build());
+        }
+        if (!withWeeks && !withTotals && !withGoal && !withForecast) {
+            return projection.build();
+        }
 
+        PeriodBalance summary;
+        long totalAvailable = 0;
+        if (withWeeks) {
+            PeriodCalculationResult result = periodCalculationService.computeWithWeeklyBreakdown(
+                    bounds, expectedWeeklyHours, null);
+            summary = result.getSummary();
+            for (WeekInPeriod w : result.getWeeks()) {
+                totalAvailable += w.getHoursAvailableCenti();
+            }
+            projection.weeks(toWeekInfos(result.getWeeks(), bounds, referenceDate, holidays,
+                    fields.includes(ProjectionFields.Section.WEEK_DAYS)));
+        } else {
+            summary = periodCalculationService.compute(bounds);
+            totalAvailable = periodCalculationService.availableCenti(bounds, expectedWeeklyHours);
+        }
+        long expectedCenti = CentiHours.of(expectedWeeklyHours);
 
-        DashboardProjection.ProgressInfo progress = DashboardProjection.ProgressInfo.builder()
-                .daysElapsed(daysElapsed)
-                .totalDays(totalDays)
-                .percentageElapsed(percentageElapsed)
-                .build();
+        if (withTotals) {
+            projection.totals(DashboardProjection.TotalsInfo.builder()
+                    .totalWorked(summary.getTotalWorked())
+                    .totalAdjusted(summary.getTotalAdjusted())
+                    .balance(summary.getBalance())
+                    .fullMonthMaxHours(CentiHours.toBigDecimal(CentiHours.fullMonthMax(expectedCenti)))
+                    .availableHoursInPeriod(CentiHours.toBigDecimal(totalAvailable))
+                    .build());
+        }
+        if (withGoal) {
+            projection.goalProjection(buildGoalProjection(
+                    summary.getBalanceCenti(),
+                    daysElapsed,
+                    totalDays,
+                    totalAvailable,
+                    expectedCenti
+            ));
+        }
+        if (withForecast) {
+            projection.forecast(buildForecast(summary.getBalanceCenti(), bounds, referenceDate, holidays,
+                    totalAvailable, expectedCenti));
+        }
+        return projection.build();
+    }
 
-        Set<LocalDate> overrides = overrideDates != null ? overrideDates : Set.of();
-        List<DashboardProjection.WeekInfo> weeks = result.getWeeks().stream()
-                .map(w -> toWeekInfo(w, referenceDate, effectiveHolidays != null ? effectiveHolidays : Set.of(), overrides))
+    private List<DashboardProjection.WeekInfo> toWeekInfos(List<WeekInPeriod> weeks, PeriodBounds bounds,
+                                                           LocalDate referenceDate, HolidayCalendar holidays,
+                                                           boolean withDays) {
+        if (!withDays) {
+            return weeks.stream()
+                    .map(w -> toWeekInfo(w, null))
+                    .collect(Collectors.toList());
+        }
+        HolidayCalendar calendar = holidays != null ? holidays : HolidayCalendar.build(bounds.getStart(), bounds.getEnd(), Map.of());
+        PeriodDaySkeleton skeleton = holidays != null ? skeletonFor(bounds, calendar) : PeriodDaySkeleton.build(bounds, calendar);
+        return weeks.stream()
+                .map(w -> toWeekInfo(w, daysOf(w, referenceDate, skeleton, calendar)))
                 .collect(Collectors.toList());
-
-        BigDecimal totalAvailable = result.getWeeks().stream()
-                .map(WeekInPeriod::getHoursAvailable)
-                .filter(h -> h != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal fullMonthMaxHours = expectedWeeklyHours != null && expectedWeeklyHours.compareTo(ZERO) > 0
-                ? expectedWeeklyHours.multiply(HOURS_IN_FULL_MONTH).divide(HOURS_IN_FULL_WEEK, SCALE, RoundingMode.HALF_UP)
-                : ZERO;
-
-        DashboardProjection.TotalsInfo totalsWithAvailability = DashboardProjection.TotalsInfo.builder()
-                .totalWorked(result.getSummary().getTotalWorked())
-                .totalAdjusted(result.getSummary().getTotalAdjusted())
-                .balance(result.getSummary().getBalance())
-                .fullMonthMaxHours(fullMonthMaxHours)
-                .availableHoursInPeriod(totalAvailable != null ? totalAvailable.setScale(SCALE, RoundingMode.HALF_UP) : ZERO)
-                .build();
-
-        DashboardProjection.GoalProjectionInfo goalProjection = buildGoalProjection(
-                result.getSummary().getBalance(),
-                daysElapsed,
-                totalDays,
-                totalAvailable,
-                expectedWeeklyHours
-        );
-
-        return DashboardProjection.builder()
-                .period(period)
-                .totals(totalsWithAvailability)
-                .progress(progress)
-                .weeks(weeks)
-                .goalProjection(goalProjection)
-                .build();
     }
 
     /**
      * Analisa ritmo atual, projeta saldo ao fim do período e determina status da meta.
      * Meta = soma da disponibilidade dos segmentos (dias úteis × expectativa/5).
+     * Horas em centésimos; arredondamentos HALF_UP iguais aos da versão em BigDecimal (2 casas no ritmo, 4 na razão).
      */
-    private DashboardProjection.GoalProjectionInfo buildGoalProjection(
-            BigDecimal currentBalance,
+    private static DashboardProjection.GoalProjectionInfo buildGoalProjection(
+            long currentBalance,
             long daysElapsed,
             long totalDays,
-            BigDecimal totalAvailableHours,
-            BigDecimal expectedWeeklyHours) {
+            long totalAvailableHours,
+            long expectedWeeklyHours) {
 
-        if (expectedWeeklyHours == null || expectedWeeklyHours.compareTo(ZERO) <= 0 || totalAvailableHours == null || totalAvailableHours.compareTo(ZERO) <= 0) {
+        if (expectedWeeklyHours <= 0 || totalAvailableHours <= 0) {
             return null;
         }
 
-        BigDecimal targetHours = totalAvailableHours.setScale(SCALE, RoundingMode.HALF_UP);
+        long targetHours = totalAvailableHours;
 
         if (daysElapsed <= 0) {
             return DashboardProjection.GoalProjectionInfo.builder()
-                    .currentRatePerDay(ZERO)
-                    .projectedBalanceAtEnd(currentBalance)
-                    .targetHours(targetHours)
+                    .currentRatePerDay(BigDecimal.ZERO)
+                    .projectedBalanceAtEnd(CentiHours.toBigDecimal(currentBalance))
+                    .targetHours(CentiHours.toBigDecimal(targetHours))
                     .goalStatus(GoalStatus.EM_RISCO)
                     .build();
         }
 
-        BigDecimal ratePerDay = currentBalance.divide(BigDecimal.valueOf(daysElapsed), SCALE, RoundingMode.HALF_UP);
-        BigDecimal projectedBalanceAtEnd = ratePerDay.multiply(BigDecimal.valueOf(totalDays)).setScale(SCALE, RoundingMode.HALF_UP);
+        long ratePerDay = CentiHours.divideHalfUp(currentBalance, daysElapsed);
+        return goalInfo(ratePerDay, ratePerDay * totalDays, targetHours);
+    }
 
-        BigDecimal ratio = targetHours.compareTo(ZERO) > 0
-                ? projectedBalanceAtEnd.divide(targetHours, 4, RoundingMode.HALF_UP)
-                : ZERO;
+    private static DashboardProjection.GoalProjectionInfo goalInfo(long ratePerDay, long projectedBalanceAtEnd, long targetHours) {
+        return DashboardProjection.GoalProjectionInfo.builder()
+                .currentRatePerDay(CentiHours.toBigDecimal(ratePerDay))
+                .projectedBalanceAtEnd(CentiHours.toBigDecimal(projectedBalanceAtEnd))
+                .targetHours(CentiHours.toBigDecimal(targetHours))
+                .goalStatus(statusOf(projectedBalanceAtEnd, targetHours))
+                .build();
+    }
 
-        GoalStatus status;
-        if (ratio.compareTo(BigDecimal.ONE) >= 0) {
-            status = GoalStatus.ATINGIVEL;
-        } else if (ratio.compareTo(RISK_THRESHOLD) >= 0) {
-            status = GoalStatus.EM_RISCO;
-        } else {
-            status = GoalStatus.IMPOSSIVEL;
+    /** Status da meta pela razão projetado / meta. */
+    private static GoalStatus statusOf(long projectedBalanceAtEnd, long targetHours) {
+        long ratio = CentiHours.ratio(projectedBalanceAtEnd, targetHours);
+        if (ratio >= CentiHours.RATIO_ONE) {
+            return GoalStatus.ATINGIVEL;
+        }
+        if (ratio >= RISK_THRESHOLD) {
+            return GoalStatus.EM_RISCO;
         }
+        return GoalStatus.IMPOSSIVEL;
+    }
 
-        return DashboardProjection.GoalProjectionInfo.builder()
-                .currentRatePerDay(ratePerDay)
-                .projectedBalanceAtEnd(projectedBalanceAtEnd)
-                .targetHours(targetHours)
-                .goalStatus(status)
+    /**
+     * Previsão pelo histórico ({@link DailyHoursStatistics}, mantido nas escritas): saldo atual + média do dia da semana
+     * em cada dia restante (feriado em dia útil: 0), escalada pelo nível recente (EWMA / média da janela).
+     * Faixa de 95% pela soma das variâncias por dia da semana (dias tratados como independentes).
+     */
+    private DashboardProjection.GoalForecastInfo buildForecast(long currentBalance, PeriodBounds bounds,
+                                                               LocalDate referenceDate, HolidayCalendar holidays,
+                                                               long targetHours, long expectedWeeklyHours) {
+        if (expectedWeeklyHours <= 0 || targetHours <= 0) {
+            return null;
+        }
+        Optional<DailyHoursStatistics.Snapshot> snapshot = dailyHoursStatistics.snapshot();
+        if (snapshot.isEmpty() || snapshot.get().sampleDays() == 0) {
+            return null;
+        }
+        DailyHoursStatistics.Snapshot stats = snapshot.get();
+        double overallMean = stats.overallMean();
+        double level = overallMean > 0 ? stats.ewma() / overallMean : 1;
+        HolidayCalendar calendar = holidays != null ? holidays : HolidayCalendar.build(bounds.getStart(), bounds.getEnd(), Map.of());
+
+        LocalDate remainingStart = referenceDate.isBefore(bounds.getStart()) ? bounds.getStart() : referenceDate.plusDays(1);
+        double expected = 0;
+        double variance = 0;
+        for (long day = remainingStart.toEpochDay(); day <= bounds.getEnd().toEpochDay(); day++) {
+            if (WorkingDaysCalculator.isWeekday(day) && calendar.isHoliday((int) day)) {
+                continue;
+            }
+            int weekday = WorkingDaysCalculator.dayOfWeekIndex(day);
+            expected += stats.mean()[weekday] * level;
+            variance += stats.variance()[weekday] * level * level;
+        }
+        long projected = currentBalance + Math.round(expected);
+        long margin = Math.round(Z_95 * Math.sqrt(variance));
+
+        return DashboardProjection.GoalForecastInfo.builder()
+                .projectedBalanceAtEnd(CentiHours.toBigDecimal(projected))
+                .lowerBound(CentiHours.toBigDecimal(projected - margin))
+                .upperBound(CentiHours.toBigDecimal(projected + margin))
+                .targetHours(CentiHours.toBigDecimal(targetHours))
+                .goalStatus(statusOf(projected, targetHours))
+                .recentDailyHours(CentiHours.toBigDecimal(Math.round(stats.ewma())))
+                .historyDays(stats.sampleDays())
                 .build();
     }
 
-    private DashboardProjection.WeekInfo toWeekInfo(WeekInPeriod w, LocalDate referenceDate, Set<LocalDate> effectiveHolidays, Set<LocalDate> overrideDates) {
-        LocalDate segStart = w.getWeekStart();
-        LocalDate segEnd = w.getWeekEnd();
-        List<DashboardProjection.DayInWeek> days = new ArrayList<>();
-        for (LocalDate d = segStart; !d.isAfter(segEnd); d = d.plusDays(1)) {
-            int dow = d.getDayOfWeek().getValue();
-            int index = dow % 7;
-            String weekdayLabel = WEEKDAY_LABELS[index];
-            boolean past = d.isBefore(referenceDate);
-            boolean holiday = effectiveHolidays.contains(d);
-            boolean userOverride = overrideDates.contains(d);
-            days.add(DashboardProjection.DayInWeek.builder()
-                    .date(d)
-                    .weekdayLabel(weekdayLabel)
-                    .dayOfMonth(d.getDayOfMonth())
-                    .past(past)
-                    .holiday(holiday)
-                    .userOverride(userOverride)
-                    .build());
+    /**
+     * Avalia cenários hipotéticos contra um único estado carregado (saldo do período, disponibilidade,
+     * dias úteis restantes); nenhum cenário consulta repositório. Lotes grandes são avaliados em paralelo
+     * (o estado base e o calendário são imutáveis). Resultados na ordem dos cenários.
+     *
+     * @param holidays feriados efetivos; null → só nacionais
+     */
+    public List<GoalScenarioResult> evaluateScenarios(PeriodBounds bounds, LocalDate referenceDate,
+                                                      BigDecimal expectedWeeklyHours, HolidayCalendar holidays,
+                                                      List<GoalScenario> scenarios) {
+        if (scenarios.isEmpty()) {
+            return List.of();
+        }
+        PeriodBalance balance = periodCalculationService.compute(bounds);
+        HolidayCalendar calendar = holidays != null ? holidays : HolidayCalendar.build(bounds.getStart(), bounds.getEnd(), Map.of());
+        LocalDate remainingStart = referenceDate.isBefore(bounds.getStart()) ? bounds.getStart() : referenceDate.plusDays(1);
+        ScenarioBase base = new ScenarioBase(
+                balance.getTotalWorkedCenti(),
+                balance.getTotalAdjustedCenti(),
+                periodCalculationService.availableCenti(bounds, expectedWeeklyHours),
+                CentiHours.of(expectedWeeklyHours),
+                daysElapsed(bounds, referenceDate),
+                ChronoUnit.DAYS.between(bounds.getStart(), bounds.getEnd()) + 1,
+                remainingStart,
+                bounds.getEnd(),
+                WorkingDaysCalculator.countWorkingDays(remainingStart, bounds.getEnd(), calendar),
+                calendar);
+        Stream<GoalScenario> stream = scenarios.size() >= PARALLEL_SCENARIOS ? scenarios.parallelStream() : scenarios.stream();
+        return stream.map(scenario -> evaluate(base, scenario)).toList();
+    }
+
+    private static GoalScenarioResult evaluate(ScenarioBase base, GoalScenario scenario) {
+        long adjusted = scenario.getAdjustedHours() != null ? CentiHours.of(scenario.getAdjustedHours()) : base.adjustedCenti();
+        long balance = base.workedCenti() + adjusted;
+        int remaining = base.remainingWorkingDays() + overrideDelta(base, scenario.getHolidayOverrides());
+
+        DashboardProjection.GoalProjectionInfo goal;
+        if (scenario.getHoursPerRemainingDay() == null) {
+            goal = buildGoalProjection(balance, base.daysElapsed(), base.totalDays(), base.availableCenti(), base.expectedCenti());
+        } else if (base.expectedCenti() <= 0 || base.availableCenti() <= 0) {
+            goal = null;
+        } else {
+            long projectedAtEnd = balance + CentiHours.of(scenario.getHoursPerRemainingDay()) * remaining;
+            goal = goalInfo(CentiHours.divideHalfUp(projectedAtEnd, base.totalDays()), projectedAtEnd, base.availableCenti());
         }
+        return GoalScenarioResult.builder()
+                .id(scenario.getId())
+                .balance(CentiHours.toBigDecimal(balance))
+                .remainingWorkingDays(remaining)
+                .goalProjection(goal)
+                .build();
+    }
+
+    /** Dias úteis ganhos (-1 por dia de semana virando feriado, +1 no contrário) dentro do restante do período. */
+    private static int overrideDelta(ScenarioBase base, Map<LocalDate, Boolean> overrides) {
+        if (overrides == null || overrides.isEmpty()) {
+            return 0;
+        }
+        int delta = 0;
+        for (Map.Entry<LocalDate, Boolean> override : overrides.entrySet()) {
+            LocalDate date = override.getKey();
+            if (date.isBefore(base.remainingStart()) || date.isAfter(base.end())
+                    || !WorkingDaysCalculator.isWeekday(date.toEpochDay())) {
+                continue;
+            }
+            boolean wasHoliday = base.holidays().isHoliday(date);
+            boolean holiday = Boolean.TRUE.equals(override.getValue());
+            if (wasHoliday != holiday) {
+                delta += holiday ? -1 : 1;
+            }
+        }
+        return delta;
+    }
+
+    /** Dias do período até a data de referência, inclusive (limitado ao período). */
+    private static long daysElapsed(PeriodBounds bounds, LocalDate referenceDate) {
+        if (referenceDate.isBefore(bounds.getStart())) {
+            return 0;
+        }
+        if (referenceDate.isAfter(bounds.getEnd())) {
+            return ChronoUnit.DAYS.between(bounds.getStart(), bounds.getEnd()) + 1;
+        }
+        return ChronoUnit.DAYS.between(bounds.getStart(), referenceDate) + 1;
+    }
+
+    private synchronized PeriodDaySkeleton skeletonFor(PeriodBounds bounds, HolidayCalendar holidays) {
+        return skeletons.computeIfAbsent(new SkeletonKey(bounds, holidays), key -> PeriodDaySkeleton.build(bounds, holidays));
+    }
+
+    private static List<DashboardProjection.DayInWeek> daysOf(WeekInPeriod w, LocalDate referenceDate,
+                                                             PeriodDaySkeleton skeleton, HolidayCalendar holidays) {
+        List<DashboardProjection.DayInWeek> days = skeleton.daysOf(w.getWeekStart(), w.getWeekEnd(), referenceDate);
+        return days != null ? days : PeriodDaySkeleton.buildDays(w.getWeekStart(), w.getWeekEnd(), referenceDate, holidays);
+    }
+
+    private static DashboardProjection.WeekInfo toWeekInfo(WeekInPeriod w, List<DashboardProjection.DayInWeek> days) {
         return DashboardProjection.WeekInfo.builder()
-                .weekStart(segStart)
-                .weekEnd(segEnd)
-                .totalWorked(w.getTotalWorked() != null ? w.getTotalWorked() : BigDecimal.ZERO)
-                .totalAdjusted(w.getTotalAdjusted() != null ? w.getTotalAdjusted() : BigDecimal.ZERO)
-                .balance(w.getBalance() != null ? w.getBalance() : BigDecimal.ZERO)
+                .weekStart(w.getWeekStart())
+                .weekEnd(w.getWeekEnd())
+                .totalWorked(w.getTotalWorked())
+                .totalAdjusted(w.getTotalAdjusted())
+                .balance(w.getBalance())
                 .workingDaysCount(w.getWorkingDaysCount())
-                .hoursAvailable(w.getHoursAvailable() != null ? w.getHoursAvailable() : BigDecimal.ZERO)
-                .baseWeeklyHours(w.getBaseWeeklyHours() != null ? w.getBaseWeeklyHours() : BigDecimal.ZERO)
-                .totalSegmentHours(w.getTotalSegmentHours() != null ? w.getTotalSegmentHours() : BigDecimal.ZERO)
+                .hoursAvailable(w.getHoursAvailable())
+                .baseWeeklyHours(w.getBaseWeeklyHours())
+                .totalSegmentHours(w.getTotalSegmentHours())
                 .days(days)
                 .build();
     }
+
+    /** Estado do período carregado uma vez para todos os cenários. */
+    private record ScenarioBase(long workedCenti, long adjustedCenti, long availableCenti, long expectedCenti,
+                                long daysElapsed, long totalDays, LocalDate remainingStart, LocalDate end,
+                                int remainingWorkingDays, HolidayCalendar holidays) {
+    }
+
+    /** Calendário comparado por identidade: cada override gera uma instância nova. */
+    private record SkeletonKey(PeriodBounds bounds, HolidayCalendar holidays) {
+    }
 }
@@ -0,0 +1,29 @@
+package br.com.hourmanager.application.core.projection;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Cenário hipotético ("e se") avaliado sobre o estado atual do período, sem gravar nada.
+ * Campos null mantêm o valor atual.
+ */
+@Value
+@Builder
+public class GoalScenario {
+
+    /** Identificador devolvido no resultado (opcional). */
+    String id;
+
+    /** Ajuste do período no lugar do atual. */
+    BigDecimal adjustedHours;
+
+    /** Horas em cada dia útil restante do período; null → mantém o ritmo atual (saldo / dias decorridos). */
+    BigDecimal hoursPerRemainingDay;
+
+    /** Overrides hipotéticos (true = feriado, false = dia útil); mudam os dias úteis restantes. */
+    Map<LocalDate, Boolean> holidayOverrides;
+}
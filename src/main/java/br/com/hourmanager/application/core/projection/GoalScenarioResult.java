@@ -0,0 +1,25 @@
+package br.com.hourmanager.application.core.projection;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * Resultado de um {@link GoalScenario}: saldo atual do cenário, dias úteis restantes e projeção da meta.
+ */
+@Value
+@Builder
+public class GoalScenarioResult {
+
+    String id;
+
+    /** Saldo até agora com o ajuste do cenário. */
+    BigDecimal balance;
+
+    /** Dias úteis depois da data de referência até o fim do período, com os overrides do cenário. */
+    int remainingWorkingDays;
+
+    /** Mesmo cálculo da projeção do dashboard (null se não houver meta configurada). */
+    DashboardProjection.GoalProjectionInfo goalProjection;
+}
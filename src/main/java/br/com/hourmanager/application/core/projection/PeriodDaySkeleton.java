@@ -0,0 +1,97 @@
+package br.com.hourmanager.application.core.projection;
+
+import br.com.hourmanager.application.core.calculation.PeriodWeekSegments;
+import br.com.hourmanager.application.core.holidays.HolidayCalendar;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dias de cada semana do período já montados (data, rótulo, dia do mês, feriado, override), que só mudam
+ * com override ou configuração. O único campo que depende da requisição é {@code past}: como os dias passados
+ * são sempre um prefixo da semana, cada semana guarda as listas prontas para 0..n dias passados
+ * e a requisição só escolhe uma. Imutável.
+ */
+final class PeriodDaySkeleton {
+
+    private static final String[] WEEKDAY_LABELS = {"Dom", "Seg", "Ter", "Qua", "Qui", "Sex", "Sáb"};
+
+    private final int[] weekStartDays;
+    private final int[] weekEndDays;
+    /** Por semana, a lista de dias com k dias passados (k = 0..tamanho da semana). */
+    private final List<List<List<DashboardProjection.DayInWeek>>> weeks;
+
+    private PeriodDaySkeleton(int[] weekStartDays, int[] weekEndDays, List<List<List<DashboardProjection.DayInWeek>>> weeks) {
+        this.weekStartDays = weekStartDays;
+        this.weekEndDays = weekEndDays;
+        this.weeks = weeks;
+    }
+
+    static PeriodDaySkeleton build(PeriodBounds bounds, HolidayCalendar holidays) {
+        List<PeriodWeekSegments.SegmentBounds> segments = PeriodWeekSegments.segmentsWithin(bounds);
+        int[] starts = new int[segments.size()];
+        int[] ends = new int[segments.size()];
+        List<List<List<DashboardProjection.DayInWeek>>> weeks = new ArrayList<>(segments.size());
+        for (int w = 0; w < segments.size(); w++) {
+            LocalDate from = segments.get(w).start();
+            LocalDate to = segments.get(w).end();
+            starts[w] = (int) from.toEpochDay();
+            ends[w] = (int) to.toEpochDay();
+            int size = ends[w] - starts[w] + 1;
+            DashboardProjection.DayInWeek[] upcoming = new DashboardProjection.DayInWeek[size];
+            DashboardProjection.DayInWeek[] past = new DashboardProjection.DayInWeek[size];
+            for (int i = 0; i < size; i++) {
+                LocalDate d = from.plusDays(i);
+                upcoming[i] = day(d, false, holidays);
+                past[i] = day(d, true, holidays);
+            }
+            List<List<DashboardProjection.DayInWeek>> variants = new ArrayList<>(size + 1);
+            for (int pastDays = 0; pastDays <= size; pastDays++) {
+                DashboardProjection.DayInWeek[] days = Arrays.copyOf(upcoming, size);
+                System.arraycopy(past, 0, days, 0, pastDays);
+                variants.add(List.of(days));
+            }
+            weeks.add(List.copyOf(variants));
+        }
+        return new PeriodDaySkeleton(starts, ends, List.copyOf(weeks));
+    }
+
+    /**
+     * Dias da semana [weekStart, weekEnd] com {@code past} para a data de referência;
+     * null se a semana não é um segmento do período (quem chama monta com {@link #buildDays}).
+     */
+    List<DashboardProjection.DayInWeek> daysOf(LocalDate weekStart, LocalDate weekEnd, LocalDate referenceDate) {
+        int w = Arrays.binarySearch(weekStartDays, (int) weekStart.toEpochDay());
+        if (w < 0 || weekEndDays[w] != (int) weekEnd.toEpochDay()) {
+            return null;
+        }
+        int size = weekEndDays[w] - weekStartDays[w] + 1;
+        long pastDays = Math.max(0, Math.min(size, ChronoUnit.DAYS.between(weekStart, referenceDate)));
+        return weeks.get(w).get((int) pastDays);
+    }
+
+    /** Monta os dias na hora (semana fora do esqueleto). */
+    static List<DashboardProjection.DayInWeek> buildDays(LocalDate weekStart, LocalDate weekEnd, LocalDate referenceDate,
+                                                         HolidayCalendar holidays) {
+        List<DashboardProjection.DayInWeek> days = new ArrayList<>();
+        for (LocalDate d = weekStart; !d.isAfter(weekEnd); d = d.plusDays(1)) {
+            days.add(day(d, d.isBefore(referenceDate), holidays));
+        }
+        return days;
+    }
+
+    private static DashboardProjection.DayInWeek day(LocalDate d, boolean past, HolidayCalendar holidays) {
+        return DashboardProjection.DayInWeek.builder()
+                .date(d)
+                .weekdayLabel(WEEKDAY_LABELS[d.getDayOfWeek().getValue() % 7])
+                .dayOfMonth(d.getDayOfMonth())
+                .past(past)
+                .holiday(holidays.isHoliday(d))
+                .userOverride(holidays.isUserOverride(d))
+                .build();
+    }
+}
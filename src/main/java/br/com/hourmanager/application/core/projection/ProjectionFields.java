@@ -0,0 +1,112 @@
+package br.com.hourmanager.application.core.projection;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Seções pedidas da projeção (?fields=period,totals,progress,goalProjection,forecast,weeks,weeks.days).
+ * Seções fora da lista não são calculadas e vêm null; "weeks" sem "weeks.days" traz as semanas sem os dias.
+ * Imutável; igualdade pelo conjunto de seções (entra na chave do {@link DashboardProjectionCache}).
+ */
+public final class ProjectionFields {
+
+    public enum Section {
+        PERIOD("period"),
+        TOTALS("totals"),
+        PROGRESS("progress"),
+        GOAL_PROJECTION("goalProjection"),
+        FORECAST("forecast"),
+        WEEKS("weeks"),
+        WEEK_DAYS("weeks.days");
+
+        private final String field;
+
+        Section(String field) {
+            this.field = field;
+        }
+
+        public String field() {
+            return field;
+        }
+    }
+
+    /** Projeção completa (sem ?fields=). */
+    public static final ProjectionFields ALL = new ProjectionFields(EnumSet.allOf(Section.class));
+
+    private final Set<Section> sections;
+
+    private ProjectionFields(EnumSet<Section> sections) {
+        this.sections = sections;
+    }
+
+    /**
+     * Lê a lista separada por vírgulas; null ou vazia → {@link #ALL}. "weeks.days" implica "weeks".
+     *
+     * @throws IllegalArgumentException campo desconhecido
+     */
+    public static ProjectionFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        EnumSet<Section> sections = EnumSet.noneOf(Section.class);
+        for (String raw : fields.split(",")) {
+            String name = raw.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            sections.add(sectionOf(name));
+        }
+        if (sections.isEmpty()) {
+            return ALL;
+        }
+        if (sections.contains(Section.WEEK_DAYS)) {
+            sections.add(Section.WEEKS);
+        }
+        return new ProjectionFields(sections);
+    }
+
+    public static ProjectionFields of(Section first, Section... rest) {
+        EnumSet<Section> sections = EnumSet.of(first, rest);
+        if (sections.contains(Section.WEEK_DAYS)) {
+            sections.add(Section.WEEKS);
+        }
+        return new ProjectionFields(sections);
+    }
+
+    public boolean includes(Section section) {
+        return sections.contains(section);
+    }
+
+    /** Bitmask das seções (ordinal), usado na ETag. */
+    public int mask() {
+        int mask = 0;
+        for (Section section : sections) {
+            mask |= 1 << section.ordinal();
+        }
+        return mask;
+    }
+
+    private static Section sectionOf(String name) {
+        for (Section section : Section.values()) {
+            if (section.field.equals(name)) {
+                return section;
+            }
+        }
+        throw new IllegalArgumentException("Campo de projeção desconhecido: " + name);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ProjectionFields that && sections.equals(that.sections);
+    }
+
+    @Override
+    public int hashCode() {
+        return sections.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return sections.toString();
+    }
+}
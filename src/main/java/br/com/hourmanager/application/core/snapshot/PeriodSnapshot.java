@@ -0,0 +1,33 @@
+package br.com.hourmanager.application.core.snapshot;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Resultado congelado de um período já encerrado: totais e horas trabalhadas por segmento de semana.
+ * Disponibilidade não é congelada (depende só da expectativa semanal e das datas do segmento).
+ */
+@Value
+@Builder
+public class PeriodSnapshot {
+
+    LocalDate periodStart;
+    LocalDate periodEnd;
+    BigDecimal totalWorked;
+    BigDecimal totalAdjusted;
+    List<WeekTotal> weeks;
+    Instant frozenAt;
+
+    @Value
+    @Builder
+    public static class WeekTotal {
+        LocalDate weekStart;
+        LocalDate weekEnd;
+        BigDecimal totalWorked;
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.hourmanager.application.core.snapshot;
+
+import br.com.hourmanager.application.core.calculation.PeriodCalculationResult;
+import br.com.hourmanager.application.core.calculation.PeriodCalculationService;
+import br.com.hourmanager.application.core.domains.SystemConfig;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.ports.output.repositories.PeriodSnapshotRepository;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Congela o resultado de períodos encerrados e mantém os snapshots coerentes com escritas retroativas.
+ * Período atual nunca é congelado.
+ */
+public class PeriodSnapshotService {
+
+    /** Quantos períodos anteriores sem snapshot são congelados numa execução (recuperação após downtime). */
+    private static final int MAX_CATCH_UP_PERIODS = 12;
+
+    private final SystemConfigRepository systemConfigRepository;
+    private final PeriodSnapshotRepository periodSnapshotRepository;
+    private final PeriodCalculationService periodCalculationService;
+    private final PeriodCalendarProvider periodCalendarProvider;
+
+    public PeriodSnapshotService(SystemConfigRepository systemConfigRepository,
+                                 PeriodSnapshotRepository periodSnapshotRepository,
+                                 PeriodCalculationService periodCalculationService,
+                                 PeriodCalendarProvider periodCalendarProvider) {
+        this.systemConfigRepository = systemConfigRepository;
+        this.periodSnapshotRepository = periodSnapshotRepository;
+        this.periodCalculationService = periodCalculationService;
+        this.periodCalendarProvider = periodCalendarProvider;
+    }
+
+    /**
+     * Congela os períodos encerrados antes de {@code today} que ainda não têm snapshot,
+     * do mais recente para o mais antigo, parando no primeiro já congelado.
+     * Os períodos anteriores vêm do calendário, não de "dia antes do início": com fechamento no mesmo mês
+     * (ex.: 5 a 25) esse dia é um dia sem fechamento e cairia no período aberto.
+     *
+     * @return quantidade de períodos congelados
+     */
+    public int freezeClosedPeriods(LocalDate today) {
+        Optional<SystemConfig> config = systemConfigRepository.findCurrent();
+        if (config.isEmpty()) {
+            return 0;
+        }
+        // Um período por mês: MAX_CATCH_UP_PERIODS + 1 meses cobrem todos os candidatos
+        List<PeriodBounds> candidates = periodCalendarProvider.forConfig(config.get())
+                .periodsBetween(today.minusMonths(MAX_CATCH_UP_PERIODS + 1L), today.minusDays(1));
+        int frozen = 0;
+        for (int i = candidates.size() - 1; i >= 0 && frozen < MAX_CATCH_UP_PERIODS; i--) {
+            PeriodBounds closed = candidates.get(i);
+            if (!closed.getEnd().isBefore(today)) {
+                continue;
+            }
+            if (periodSnapshotRepository.find(closed.getStart(), closed.getEnd()).isPresent()) {
+                break;
+            }
+            freeze(closed);
+            frozen++;
+        }
+        return frozen;
+    }
+
+    /**
+     * Escrita em uma data: se ela cai em período já congelado, recongela apenas aquele snapshot.
+     * Dia sem fechamento não pertence a período nenhum e não muda snapshot.
+     */
+    public void onDateChanged(LocalDate date, LocalDate today) {
+        systemConfigRepository.findCurrent().ifPresent(config -> {
+            PeriodBounds bounds = periodContaining(date, config);
+            if (!contains(bounds, date) || !bounds.getEnd().isBefore(today)) {
+                return;
+            }
+            if (periodSnapshotRepository.find(bounds.getStart(), bounds.getEnd()).isPresent()) {
+                freeze(bounds);
+            }
+        });
+    }
+
+    /**
+     * Como {@link #onDateChanged} para várias datas (escrita em lote): uma leitura de configuração e
+     * cada período congelado recongelado uma vez só.
+     */
+    public void onDatesChanged(Collection<LocalDate> dates, LocalDate today) {
+        systemConfigRepository.findCurrent().ifPresent(config -> {
+            Set<PeriodBounds> closed = new LinkedHashSet<>();
+            for (LocalDate date : dates) {
+                PeriodBounds bounds = periodContaining(date, config);
+                if (contains(bounds, date) && bounds.getEnd().isBefore(today)) {
+                    closed.add(bounds);
+                }
+            }
+            for (PeriodBounds bounds : closed) {
+                if (periodSnapshotRepository.find(bounds.getStart(), bounds.getEnd()).isPresent()) {
+                    freeze(bounds);
+                }
+            }
+        });
+    }
+
+    /**
+     * Descarta todos os snapshots (dias de fechamento alterados ou rollup reconstruído); o job recongela depois.
+     */
+    public void invalidateAll() {
+        periodSnapshotRepository.deleteAll();
+    }
+
+    private void freeze(PeriodBounds bounds) {
+        // Expectativa semanal não é congelada: disponibilidade é recalculada na leitura
+        PeriodCalculationResult result = periodCalculationService.computeLive(bounds, null);
+        periodSnapshotRepository.save(PeriodSnapshot.builder()
+                .periodStart(bounds.getStart())
+                .periodEnd(bounds.getEnd())
+                .totalWorked(result.getSummary().getTotalWorked())
+                .totalAdjusted(result.getSummary().getTotalAdjusted())
+                .weeks(result.getWeeks().stream()
+                        .map(w -> PeriodSnapshot.WeekTotal.builder()
+                                .weekStart(w.getWeekStart())
+                                .weekEnd(w.getWeekEnd())
+                                .totalWorked(w.getTotalWorked())
+                                .build())
+                        .toList())
+                .frozenAt(Instant.now())
+                .build());
+    }
+
+    private PeriodBounds periodContaining(LocalDate date, SystemConfig config) {
+        return periodCalendarProvider.forConfig(config).periodOf(date);
+    }
+
+    private static boolean contains(PeriodBounds bounds, LocalDate date) {
+        return !date.isBefore(bounds.getStart()) && !date.isAfter(bounds.getEnd());
+    }
+}
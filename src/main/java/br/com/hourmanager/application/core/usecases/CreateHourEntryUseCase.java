@@ -1,25 +1,79 @@
 package br.com.hourmanager.application.core.usecases;
 
 import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
 import br.com.hourmanager.application.ports.input.CreateHourEntryInputGateway;
 import br.com.hourmanager.application.ports.input.data.HourEntryInputData;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
 import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 public class CreateHourEntryUseCase implements CreateHourEntryInputGateway {
 
     private final HourEntryRepository hourEntryRepository;
+    private final DailyHourTotalRepository dailyHourTotalRepository;
+    private final PeriodSnapshotService periodSnapshotService;
+    private final DomainEventPublisher domainEventPublisher;
 
-    public CreateHourEntryUseCase(HourEntryRepository hourEntryRepository) {
+    public CreateHourEntryUseCase(HourEntryRepository hourEntryRepository,
+                                  DailyHourTotalRepository dailyHourTotalRepository,
+                                  PeriodSnapshotService periodSnapshotService,
+                                  DomainEventPublisher domainEventPublisher) {
         this.hourEntryRepository = hourEntryRepository;
+        this.dailyHourTotalRepository = dailyHourTotalRepository;
+        this.periodSnapshotService = periodSnapshotService;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
+    /** Persiste a entrada e atualiza o rollup diário (e o snapshot, se o período já foi congelado) na mesma transação. */
     @Override
     public HourEntry create(HourEntryInputData data) {
-        HourEntry entry = HourEntry.builder()
+        HourEntry saved = hourEntryRepository.save(toEntry(data));
+        dailyHourTotalRepository.applyDelta(saved.getEntryDate(), saved.getHours(), 1);
+        periodSnapshotService.onDateChanged(saved.getEntryDate(), LocalDate.now());
+        domainEventPublisher.publish(new HourDomainEvent.HourEntryCreated(saved.getEntryDate(), saved.getHours()));
+        return saved;
+    }
+
+    /**
+     * Lote: inserts em lote e, por dia distinto, um delta no rollup e um evento com a soma do dia
+     * (os derivados só usam o delta do dia); períodos congelados tocados são recongelados uma vez.
+     */
+    @Override
+    public List<HourEntry> createAll(List<HourEntryInputData> data) {
+        List<HourEntry> saved = hourEntryRepository.saveAll(data.stream().map(CreateHourEntryUseCase::toEntry).toList());
+        Map<LocalDate, DayDelta> byDay = new TreeMap<>();
+        for (HourEntry entry : saved) {
+            byDay.computeIfAbsent(entry.getEntryDate(), date -> new DayDelta()).add(entry.getHours());
+        }
+        byDay.forEach((date, delta) -> dailyHourTotalRepository.applyDelta(date, delta.hours, delta.count));
+        periodSnapshotService.onDatesChanged(byDay.keySet(), LocalDate.now());
+        byDay.forEach((date, delta) -> domainEventPublisher.publish(new HourDomainEvent.HourEntryCreated(date, delta.hours)));
+        return saved;
+    }
+
+    private static HourEntry toEntry(HourEntryInputData data) {
+        return HourEntry.builder()
                 .entryDate(data.getEntryDate())
                 .hours(data.getHours())
                 .description(data.getDescription())
                 .build();
-        return hourEntryRepository.save(entry);
+    }
+
+    private static final class DayDelta {
+        BigDecimal hours = BigDecimal.ZERO;
+        int count;
+
+        void add(BigDecimal entryHours) {
+            hours = hours.add(entryHours);
+            count++;
+        }
     }
 }
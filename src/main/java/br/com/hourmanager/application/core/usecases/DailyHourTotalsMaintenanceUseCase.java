@@ -0,0 +1,67 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import br.com.hourmanager.application.ports.input.DailyHourTotalsMaintenanceInputGateway;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Manutenção do rollup diário: reconstrução completa (backfill) e verificação de consistência.
+ */
+public class DailyHourTotalsMaintenanceUseCase implements DailyHourTotalsMaintenanceInputGateway {
+
+    private final HourEntryRepository hourEntryRepository;
+    private final DailyHourTotalRepository dailyHourTotalRepository;
+    private final PeriodSnapshotService periodSnapshotService;
+    private final DomainEventPublisher domainEventPublisher;
+
+    public DailyHourTotalsMaintenanceUseCase(HourEntryRepository hourEntryRepository,
+                                             DailyHourTotalRepository dailyHourTotalRepository,
+                                             PeriodSnapshotService periodSnapshotService,
+                                             DomainEventPublisher domainEventPublisher) {
+        this.hourEntryRepository = hourEntryRepository;
+        this.dailyHourTotalRepository = dailyHourTotalRepository;
+        this.periodSnapshotService = periodSnapshotService;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    /** Recria o rollup e descarta os snapshots e os derivados em memória, que foram montados a partir dele. */
+    @Override
+    public int rebuild() {
+        int days = dailyHourTotalRepository.rebuildAll();
+        periodSnapshotService.invalidateAll();
+        domainEventPublisher.publish(new HourDomainEvent.DailyHourTotalsRebuilt());
+        return days;
+    }
+
+    @Override
+    public List<LocalDate> findInconsistencies(LocalDate start, LocalDate end) {
+        Map<LocalDate, DailyHourTotal> expected = new HashMap<>();
+        hourEntryRepository.sumHoursByDayBetween(start, end).forEach(d -> expected.put(d.getEntryDate(), d));
+        Map<LocalDate, DailyHourTotal> actual = new HashMap<>();
+        dailyHourTotalRepository.findBetween(start, end).forEach(d -> actual.put(d.getEntryDate(), d));
+
+        TreeSet<LocalDate> dates = new TreeSet<>(expected.keySet());
+        dates.addAll(actual.keySet());
+        return dates.stream()
+                .filter(date -> !sameTotal(expected.get(date), actual.get(date)))
+                .toList();
+    }
+
+    private static boolean sameTotal(DailyHourTotal expected, DailyHourTotal actual) {
+        if (expected == null || actual == null) {
+            return false;
+        }
+        return expected.getEntryCount() == actual.getEntryCount()
+                && expected.getHours().compareTo(actual.getHours()) == 0;
+    }
+}
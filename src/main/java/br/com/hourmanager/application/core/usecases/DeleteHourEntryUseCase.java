@@ -0,0 +1,46 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import br.com.hourmanager.application.ports.input.DeleteHourEntryInputGateway;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+public class DeleteHourEntryUseCase implements DeleteHourEntryInputGateway {
+
+    private final HourEntryRepository hourEntryRepository;
+    private final DailyHourTotalRepository dailyHourTotalRepository;
+    private final PeriodSnapshotService periodSnapshotService;
+    private final DomainEventPublisher domainEventPublisher;
+
+    public DeleteHourEntryUseCase(HourEntryRepository hourEntryRepository,
+                                  DailyHourTotalRepository dailyHourTotalRepository,
+                                  PeriodSnapshotService periodSnapshotService,
+                                  DomainEventPublisher domainEventPublisher) {
+        this.hourEntryRepository = hourEntryRepository;
+        this.dailyHourTotalRepository = dailyHourTotalRepository;
+        this.periodSnapshotService = periodSnapshotService;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    /** Remove a entrada e desconta suas horas do rollup diário (e do snapshot congelado, se houver) na mesma transação. */
+    @Override
+    public boolean delete(UUID id) {
+        Optional<HourEntry> existing = hourEntryRepository.findById(id);
+        if (existing.isEmpty()) {
+            return false;
+        }
+        HourEntry entry = existing.get();
+        hourEntryRepository.deleteById(id);
+        dailyHourTotalRepository.applyDelta(entry.getEntryDate(), entry.getHours().negate(), -1);
+        periodSnapshotService.onDateChanged(entry.getEntryDate(), LocalDate.now());
+        domainEventPublisher.publish(new HourDomainEvent.HourEntryDeleted(entry.getEntryDate(), entry.getHours()));
+        return true;
+    }
+}
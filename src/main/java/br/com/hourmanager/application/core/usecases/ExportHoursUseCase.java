@@ -0,0 +1,84 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.HourAdjustment;
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.core.period.PeriodKeyService;
+import br.com.hourmanager.application.ports.input.ExportHoursInputGateway;
+import br.com.hourmanager.application.ports.output.repositories.HourAdjustmentRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Exportação por cursor: as linhas vêm do banco em lotes do fetch size e vão direto ao consumidor,
+ * numa transação somente leitura que dura a exportação inteira (o cursor do PostgreSQL exige transação).
+ * Também serve a listagem de entradas, que escreve a resposta enquanto lê.
+ */
+public class ExportHoursUseCase implements ExportHoursInputGateway {
+
+    private final HourEntryRepository hourEntryRepository;
+    private final HourAdjustmentRepository hourAdjustmentRepository;
+    private final SystemConfigRepository systemConfigRepository;
+    private final PeriodCalendarProvider periodCalendarProvider;
+    private final PeriodKeyService periodKeyService;
+
+    public ExportHoursUseCase(HourEntryRepository hourEntryRepository,
+                              HourAdjustmentRepository hourAdjustmentRepository,
+                              SystemConfigRepository systemConfigRepository,
+                              PeriodCalendarProvider periodCalendarProvider,
+                              PeriodKeyService periodKeyService) {
+        this.hourEntryRepository = hourEntryRepository;
+        this.hourAdjustmentRepository = hourAdjustmentRepository;
+        this.systemConfigRepository = systemConfigRepository;
+        this.periodCalendarProvider = periodCalendarProvider;
+        this.periodKeyService = periodKeyService;
+    }
+
+    @Override
+    public void exportEntries(LocalDate start, LocalDate end, Consumer<HourEntry> sink) {
+        try (Stream<HourEntry> entries = start != null && end != null
+                ? hourEntryRepository.streamByEntryDateBetween(start, end)
+                : hourEntryRepository.streamAll()) {
+            entries.forEach(sink);
+        }
+    }
+
+    /**
+     * Pela chave period_start quando o re-key está em dia; senão pelo intervalo de datas do período.
+     * O dia inicial é sempre lido pela data: ajustado ao fim do mês (ex.: 31 a 30, 28/02), ele também fecha
+     * o período anterior e a chave dele aponta para lá.
+     */
+    @Override
+    public void exportCurrentPeriodEntries(LocalDate today, Consumer<HourEntry> sink) {
+        systemConfigRepository.findCurrent().ifPresent(config -> {
+            PeriodBounds bounds = periodCalendarProvider.forConfig(config).periodOf(today);
+            LocalDate start = bounds.getStart();
+            if (!periodKeyService.isCurrentFor(config)) {
+                try (Stream<HourEntry> entries = hourEntryRepository.streamByEntryDateBetween(start, bounds.getEnd())) {
+                    entries.forEach(sink);
+                }
+                return;
+            }
+            try (Stream<HourEntry> firstDay = hourEntryRepository.streamByEntryDateBetween(start, start)) {
+                firstDay.forEach(sink);
+            }
+            try (Stream<HourEntry> entries = hourEntryRepository.streamByPeriodStart(start)) {
+                entries.filter(entry -> !start.equals(entry.getEntryDate())).forEach(sink);
+            }
+        });
+    }
+
+    @Override
+    public void exportAdjustments(LocalDate start, LocalDate end, Consumer<HourAdjustment> sink) {
+        try (Stream<HourAdjustment> adjustments = start != null && end != null
+                ? hourAdjustmentRepository.streamByAdjustmentDateBetween(start, end)
+                : hourAdjustmentRepository.streamAll()) {
+            adjustments.forEach(sink);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.HourAdjustment;
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import br.com.hourmanager.application.ports.input.ImportHoursInputGateway;
+import br.com.hourmanager.application.ports.input.data.HourImportLine;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourBulkLoadRepository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Importação em massa: as linhas válidas são agrupadas em lotes de {@code chunkSize} e gravadas por carga em massa;
+ * só o lote atual fica em memória. Como a carga não passa pelo rollup, no fim ele é recriado uma vez
+ * (com snapshots e derivados em memória), como em {@link DailyHourTotalsMaintenanceUseCase#rebuild()}.
+ */
+public class ImportHoursUseCase implements ImportHoursInputGateway {
+
+    /** Linhas rejeitadas detalhadas no resultado; as demais só entram na contagem. */
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final HourBulkLoadRepository hourBulkLoadRepository;
+    private final DailyHourTotalRepository dailyHourTotalRepository;
+    private final PeriodSnapshotService periodSnapshotService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final int chunkSize;
+
+    public ImportHoursUseCase(HourBulkLoadRepository hourBulkLoadRepository,
+                              DailyHourTotalRepository dailyHourTotalRepository,
+                              PeriodSnapshotService periodSnapshotService,
+                              DomainEventPublisher domainEventPublisher,
+                              int chunkSize) {
+        this.hourBulkLoadRepository = hourBulkLoadRepository;
+        this.dailyHourTotalRepository = dailyHourTotalRepository;
+        this.periodSnapshotService = periodSnapshotService;
+        this.domainEventPublisher = domainEventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ImportResult importLines(Iterator<HourImportLine> lines) {
+        List<HourEntry> entries = new ArrayList<>(chunkSize);
+        List<HourAdjustment> adjustments = new ArrayList<>(chunkSize);
+        List<LineError> errors = new ArrayList<>();
+        long entriesImported = 0;
+        long adjustmentsImported = 0;
+        long rejected = 0;
+
+        while (lines.hasNext()) {
+            HourImportLine line = lines.next();
+            if (line.isRejected()) {
+                rejected++;
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new LineError(line.getLineNumber(), line.getErrors()));
+                }
+            } else if (line.getEntry() != null) {
+                entries.add(HourEntry.builder()
+                        .entryDate(line.getEntry().getEntryDate())
+                        .hours(line.getEntry().getHours())
+                        .description(line.getEntry().getDescription())
+                        .build());
+                if (entries.size() == chunkSize) {
+                    entriesImported += hourBulkLoadRepository.copyEntries(entries);
+                    entries.clear();
+                }
+            } else if (line.getAdjustment() != null) {
+                adjustments.add(HourAdjustment.builder()
+                        .adjustmentDate(line.getAdjustment().getAdjustmentDate())
+                        .deltaHours(line.getAdjustment().getDeltaHours())
+                        .description(line.getAdjustment().getDescription())
+                        .build());
+                if (adjustments.size() == chunkSize) {
+                    adjustmentsImported += hourBulkLoadRepository.copyAdjustments(adjustments);
+                    adjustments.clear();
+                }
+            }
+        }
+        if (!entries.isEmpty()) {
+            entriesImported += hourBulkLoadRepository.copyEntries(entries);
+        }
+        if (!adjustments.isEmpty()) {
+            adjustmentsImported += hourBulkLoadRepository.copyAdjustments(adjustments);
+        }
+
+        // Ajustes (hour_adjustments) não têm derivados; entradas alimentam o rollup e tudo que sai dele
+        if (entriesImported > 0) {
+            dailyHourTotalRepository.rebuildAll();
+            periodSnapshotService.invalidateAll();
+            domainEventPublisher.publish(new HourDomainEvent.DailyHourTotalsRebuilt());
+        }
+        return new ImportResult(entriesImported, adjustmentsImported, rejected, errors);
+    }
+}
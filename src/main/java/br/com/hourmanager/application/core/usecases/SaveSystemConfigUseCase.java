@@ -1,40 +1,67 @@
 package br.com.hourmanager.application.core.usecases;
 
 import br.com.hourmanager.application.core.domains.SystemConfig;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
 import br.com.hourmanager.application.ports.input.SystemConfigInputGateway;
 import br.com.hourmanager.application.ports.input.data.SystemConfigInputData;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
 import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
 
 import java.time.Instant;
 
+/**
+ * Grava a configuração e, se os dias de fechamento mudaram, descarta os snapshots na mesma transação.
+ * Calendário de períodos, re-key e cache de projeções reagem ao evento depois do commit.
+ */
 public class SaveSystemConfigUseCase implements SystemConfigInputGateway {
 
     private final SystemConfigRepository systemConfigRepository;
+    private final PeriodSnapshotService periodSnapshotService;
+    private final DomainEventPublisher domainEventPublisher;
 
-    public SaveSystemConfigUseCase(SystemConfigRepository systemConfigRepository) {
+    public SaveSystemConfigUseCase(SystemConfigRepository systemConfigRepository,
+                                   PeriodSnapshotService periodSnapshotService,
+                                   DomainEventPublisher domainEventPublisher) {
         this.systemConfigRepository = systemConfigRepository;
+        this.periodSnapshotService = periodSnapshotService;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     @Override
     public void save(SystemConfigInputData data) {
         var existing = systemConfigRepository.findCurrent();
+        boolean closureDaysChanged;
         if (existing.isPresent()) {
             var updated = SystemConfig.builder()
                     .id(existing.get().getId())
                     .closureStartDay(data.getClosureStartDay())
                     .closureEndDay(data.getClosureEndDay())
                     .expectedWeeklyHours(data.getExpectedWeeklyHours())
+                    .holidayRegion(data.getHolidayRegion())
                     .createdAt(existing.get().getCreatedAt())
                     .build();
             systemConfigRepository.save(updated);
+            closureDaysChanged = closureDaysChanged(existing.get(), data);
+            if (closureDaysChanged) {
+                periodSnapshotService.invalidateAll();
+            }
         } else {
             var created = SystemConfig.builder()
                     .closureStartDay(data.getClosureStartDay())
                     .closureEndDay(data.getClosureEndDay())
                     .expectedWeeklyHours(data.getExpectedWeeklyHours())
+                    .holidayRegion(data.getHolidayRegion())
                     .createdAt(Instant.now())
                     .build();
             systemConfigRepository.save(created);
+            closureDaysChanged = true;
         }
+        domainEventPublisher.publish(new HourDomainEvent.SystemConfigSaved(closureDaysChanged));
+    }
+
+    private static boolean closureDaysChanged(SystemConfig previous, SystemConfigInputData data) {
+        return previous.getClosureStartDay() != data.getClosureStartDay()
+                || previous.getClosureEndDay() != data.getClosureEndDay();
     }
 }
@@ -0,0 +1,26 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.ports.input.SetHolidayOverrideInputGateway;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.HolidayOverrideRepository;
+
+import java.time.LocalDate;
+
+public class SetHolidayOverrideUseCase implements SetHolidayOverrideInputGateway {
+
+    private final HolidayOverrideRepository holidayOverrideRepository;
+    private final DomainEventPublisher domainEventPublisher;
+
+    public SetHolidayOverrideUseCase(HolidayOverrideRepository holidayOverrideRepository,
+                                     DomainEventPublisher domainEventPublisher) {
+        this.holidayOverrideRepository = holidayOverrideRepository;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    @Override
+    public void set(LocalDate date, boolean holiday) {
+        holidayOverrideRepository.setOverride(date, holiday);
+        domainEventPublisher.publish(new HourDomainEvent.HolidayOverrideSet(date, holiday));
+    }
+}
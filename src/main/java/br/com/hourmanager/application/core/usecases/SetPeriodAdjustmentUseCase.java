@@ -0,0 +1,27 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.ports.input.SetPeriodAdjustmentInputGateway;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.PeriodAdjustmentRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class SetPeriodAdjustmentUseCase implements SetPeriodAdjustmentInputGateway {
+
+    private final PeriodAdjustmentRepository periodAdjustmentRepository;
+    private final DomainEventPublisher domainEventPublisher;
+
+    public SetPeriodAdjustmentUseCase(PeriodAdjustmentRepository periodAdjustmentRepository,
+                                      DomainEventPublisher domainEventPublisher) {
+        this.periodAdjustmentRepository = periodAdjustmentRepository;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    @Override
+    public void set(LocalDate periodStart, LocalDate periodEnd, BigDecimal adjustedHours) {
+        periodAdjustmentRepository.setAdjustment(periodStart, periodEnd, adjustedHours);
+        domainEventPublisher.publish(new HourDomainEvent.PeriodAdjustmentSet(periodStart, periodEnd, adjustedHours));
+    }
+}
@@ -3,7 +3,12 @@ package br.com.hourmanager.application.ports.input;
 import br.com.hourmanager.application.core.domains.HourEntry;
 import br.com.hourmanager.application.ports.input.data.HourEntryInputData;
 
+import java.util.List;
+
 public interface CreateHourEntryInputGateway {
 
     HourEntry create(HourEntryInputData data);
+
+    /** Cria todas as entradas numa única transação; devolve na ordem recebida. */
+    List<HourEntry> createAll(List<HourEntryInputData> data);
 }
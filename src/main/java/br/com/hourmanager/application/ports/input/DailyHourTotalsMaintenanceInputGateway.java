@@ -0,0 +1,13 @@
+package br.com.hourmanager.application.ports.input;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyHourTotalsMaintenanceInputGateway {
+
+    /** Recria o rollup diário a partir de hour_entries; retorna a quantidade de dias gravados. */
+    int rebuild();
+
+    /** Datas no intervalo em que o rollup diverge da soma direta de hour_entries. */
+    List<LocalDate> findInconsistencies(LocalDate start, LocalDate end);
+}
@@ -0,0 +1,9 @@
+package br.com.hourmanager.application.ports.input;
+
+import java.util.UUID;
+
+public interface DeleteHourEntryInputGateway {
+
+    /** Remove a entrada; retorna false se ela não existir. */
+    boolean delete(UUID id);
+}
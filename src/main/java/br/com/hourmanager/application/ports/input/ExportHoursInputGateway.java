@@ -0,0 +1,19 @@
+package br.com.hourmanager.application.ports.input;
+
+import br.com.hourmanager.application.core.domains.HourAdjustment;
+import br.com.hourmanager.application.core.domains.HourEntry;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+public interface ExportHoursInputGateway {
+
+    /** Entrega cada entrada de [start, end] (ambos null: todas), por data, ao consumidor; nada é acumulado. */
+    void exportEntries(LocalDate start, LocalDate end, Consumer<HourEntry> sink);
+
+    /** Entrega cada entrada do período que contém {@code today}, por data, ao consumidor; sem configuração, nenhuma. */
+    void exportCurrentPeriodEntries(LocalDate today, Consumer<HourEntry> sink);
+
+    /** Entrega cada ajuste de [start, end] (ambos null: todos), por data, ao consumidor; nada é acumulado. */
+    void exportAdjustments(LocalDate start, LocalDate end, Consumer<HourAdjustment> sink);
+}
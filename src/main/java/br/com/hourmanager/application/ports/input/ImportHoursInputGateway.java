@@ -0,0 +1,20 @@
+package br.com.hourmanager.application.ports.input;
+
+import br.com.hourmanager.application.ports.input.data.HourImportLine;
+
+import java.util.Iterator;
+import java.util.List;
+
+public interface ImportHoursInputGateway {
+
+    /**
+     * Importa as linhas válidas numa transação, lidas sob demanda, e recria os derivados no fim.
+     * Linhas rejeitadas não impedem as demais; só são relatadas.
+     */
+    ImportResult importLines(Iterator<HourImportLine> lines);
+
+    /** Totais da importação; errors traz só as primeiras linhas rejeitadas (linesRejected conta todas). */
+    record ImportResult(long entriesImported, long adjustmentsImported, long linesRejected, List<LineError> errors) {}
+
+    record LineError(long line, List<String> messages) {}
+}
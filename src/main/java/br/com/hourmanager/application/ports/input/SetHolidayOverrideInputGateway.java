@@ -0,0 +1,9 @@
+package br.com.hourmanager.application.ports.input;
+
+import java.time.LocalDate;
+
+public interface SetHolidayOverrideInputGateway {
+
+    /** Persiste ou atualiza o override de feriado da data (true = feriado, false = dia útil). */
+    void set(LocalDate date, boolean holiday);
+}
@@ -0,0 +1,10 @@
+package br.com.hourmanager.application.ports.input;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface SetPeriodAdjustmentInputGateway {
+
+    /** Define (substitui) as horas ajustadas do período. */
+    void set(LocalDate periodStart, LocalDate periodEnd, BigDecimal adjustedHours);
+}
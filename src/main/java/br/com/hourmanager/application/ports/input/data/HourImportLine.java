@@ -0,0 +1,24 @@
+package br.com.hourmanager.application.ports.input.data;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Registro lido de um arquivo de importação: uma entrada, um ajuste ou os erros da linha.
+ */
+@Builder
+@Getter
+public class HourImportLine {
+    /** Linha do arquivo onde o registro começa (1-based). */
+    private long lineNumber;
+    private HourEntryInputData entry;
+    private HourAdjustmentInputData adjustment;
+    /** Não vazio: linha rejeitada (formato ou validação). */
+    private List<String> errors;
+
+    public boolean isRejected() {
+        return errors != null && !errors.isEmpty();
+    }
+}
@@ -11,4 +11,5 @@ public class SystemConfigInputData {
     private int closureStartDay;
     private int closureEndDay;
     private BigDecimal expectedWeeklyHours;
+    private String holidayRegion;
 }
@@ -0,0 +1,11 @@
+package br.com.hourmanager.application.ports.output.events;
+
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+
+/**
+ * Publica eventos de domínio de forma síncrona, na thread (e transação) de quem publica.
+ */
+public interface DomainEventPublisher {
+
+    void publish(HourDomainEvent event);
+}
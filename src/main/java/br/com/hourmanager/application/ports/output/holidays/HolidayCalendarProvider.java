@@ -0,0 +1,19 @@
+package br.com.hourmanager.application.ports.output.holidays;
+
+import java.time.LocalDate;
+
+/**
+ * Fonte de feriados regionais (estaduais e municipais), somados aos nacionais no calendário de feriados.
+ * Região: UF ("SP") ou UF-código IBGE do município ("SP-3550308"); o município inclui os feriados da UF.
+ */
+public interface HolidayCalendarProvider {
+
+    /** True se a região é conhecida. */
+    boolean supports(String region);
+
+    /**
+     * Feriados regionais da região em [start, end] como dias epoch ordenados, sem repetidos e sem os nacionais.
+     * Região desconhecida ou anos fora dos dados: vazio.
+     */
+    int[] epochDaysBetween(String region, LocalDate start, LocalDate end);
+}
@@ -0,0 +1,26 @@
+package br.com.hourmanager.application.ports.output.repositories;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Rollup diário das entradas de horas (tabela daily_hour_totals).
+ * Deve ser atualizado na mesma transação que cria ou remove a entrada.
+ */
+public interface DailyHourTotalRepository {
+
+    /** Totais por dia no intervalo (inclusive), ordenados por data; dias sem entradas não aparecem. */
+    List<DailyHourTotal> findBetween(LocalDate start, LocalDate end);
+
+    /** Todo o rollup, ordenado por data (carga dos índices em memória). */
+    List<DailyHourTotal> findAll();
+
+    /** Soma o delta de horas e de quantidade ao dia; remove a linha quando o dia fica sem entradas. */
+    void applyDelta(LocalDate entryDate, BigDecimal hoursDelta, int entryCountDelta);
+
+    /** Recria todo o rollup a partir de hour_entries. Retorna a quantidade de dias gravados. */
+    int rebuildAll();
+}
@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface HourAdjustmentRepository {
 
@@ -17,4 +18,13 @@ public interface HourAdjustmentRepository {
 
     /** Para projeções: ajustes dentro do período (inclusive). */
     List<HourAdjustment> findByAdjustmentDateBetween(LocalDate start, LocalDate end);
+
+    /**
+     * Como {@link #findByAdjustmentDateBetween}, mas lido sob demanda por cursor: memória constante qualquer que seja o intervalo.
+     * Deve ser consumido dentro de uma transação somente leitura e fechado (try-with-resources).
+     */
+    Stream<HourAdjustment> streamByAdjustmentDateBetween(LocalDate start, LocalDate end);
+
+    /** Todos os ajustes por data, lidos sob demanda; mesmas regras de {@link #streamByAdjustmentDateBetween}. */
+    Stream<HourAdjustment> streamAll();
 }
@@ -0,0 +1,19 @@
+package br.com.hourmanager.application.ports.output.repositories;
+
+import br.com.hourmanager.application.core.domains.HourAdjustment;
+import br.com.hourmanager.application.core.domains.HourEntry;
+
+import java.util.List;
+
+/**
+ * Carga em massa de hour_entries e hour_adjustments (importação), sem passar por entidades.
+ * Não mantém o rollup diário: quem chama recria os derivados no fim. Deve rodar dentro de uma transação.
+ */
+public interface HourBulkLoadRepository {
+
+    /** Grava as entradas (ids gerados na carga, period_start pela configuração atual). Retorna quantas linhas. */
+    long copyEntries(List<HourEntry> entries);
+
+    /** Grava os ajustes (ids gerados na carga). Retorna quantas linhas. */
+    long copyAdjustments(List<HourAdjustment> adjustments);
+}
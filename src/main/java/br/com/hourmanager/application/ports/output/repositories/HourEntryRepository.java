@@ -1,11 +1,13 @@
 package br.com.hourmanager.application.ports.output.repositories;
 
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
 import br.com.hourmanager.application.core.domains.HourEntry;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface HourEntryRepository {
 
@@ -13,12 +15,38 @@ public interface HourEntryRepository {
 
     HourEntry save(HourEntry hourEntry);
 
+    /** Grava várias entradas novas de uma vez (inserts em lote JDBC); devolve na mesma ordem, com ids. */
+    List<HourEntry> saveAll(List<HourEntry> hourEntries);
+
     void deleteById(UUID id);
 
-    List<HourEntry> findAll();
+    /**
+     * Entradas dentro do intervalo (inclusive), por data, lidas sob demanda por cursor: memória constante qualquer que seja o intervalo.
+     * Deve ser consumido dentro de uma transação somente leitura e fechado (try-with-resources).
+     */
+    Stream<HourEntry> streamByEntryDateBetween(LocalDate start, LocalDate end);
+
+    /** Todas as entradas por data, lidas sob demanda; mesmas regras de {@link #streamByEntryDateBetween}. */
+    Stream<HourEntry> streamAll();
+
+    /**
+     * Entradas com a chave persistida period_start; mesmas regras de {@link #streamByEntryDateBetween}.
+     * Dia compartilhado por dois períodos (fim de mês ajustado) tem a chave do anterior.
+     */
+    Stream<HourEntry> streamByPeriodStart(LocalDate periodStart);
+
+    Optional<LocalDate> findMinEntryDate();
+
+    Optional<LocalDate> findMaxEntryDate();
+
+    /** Re-key: grava period_start em até {@code limit} entradas de [from, to] com outro valor. Retorna quantas. */
+    int stampPeriodStart(LocalDate periodStart, LocalDate from, LocalDate to, int limit);
+
+    /** Re-key: limpa period_start em até {@code limit} entradas de dias fora de qualquer período. Retorna quantas. */
+    int clearPeriodStart(LocalDate start, LocalDate end, int limit);
 
-    /** Para projeções: entradas dentro do período (inclusive). */
-    List<HourEntry> findByEntryDateBetween(LocalDate start, LocalDate end);
+    /** Soma das horas por dia no intervalo (inclusive), ordenada por data; dias sem entradas não aparecem. */
+    List<DailyHourTotal> sumHoursByDayBetween(LocalDate start, LocalDate end);
 
     /** Listagem paginada por período (mais recentes primeiro). */
     HourEntryRepository.PageResult findPageByEntryDateBetween(LocalDate start, LocalDate end, int page, int size);
@@ -2,6 +2,7 @@ package br.com.hourmanager.application.ports.output.repositories;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,4 +14,9 @@ public interface PeriodAdjustmentRepository {
     Optional<BigDecimal> getAdjustment(LocalDate periodStart, LocalDate periodEnd);
 
     void setAdjustment(LocalDate periodStart, LocalDate periodEnd, BigDecimal adjustedHours);
+
+    /** Ajustes de todos os períodos que começam em [start, end], ordenados por início. */
+    List<PeriodAdjustmentValue> findByPeriodStartBetween(LocalDate start, LocalDate end);
+
+    record PeriodAdjustmentValue(LocalDate periodStart, LocalDate periodEnd, BigDecimal adjustedHours) {}
 }
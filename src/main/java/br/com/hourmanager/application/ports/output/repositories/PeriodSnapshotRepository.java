@@ -0,0 +1,22 @@
+package br.com.hourmanager.application.ports.output.repositories;
+
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshot;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Snapshots imutáveis de períodos encerrados (um por período de fechamento).
+ */
+public interface PeriodSnapshotRepository {
+
+    Optional<PeriodSnapshot> find(LocalDate periodStart, LocalDate periodEnd);
+
+    /** Grava o snapshot, substituindo o existente do mesmo período. */
+    void save(PeriodSnapshot snapshot);
+
+    void delete(LocalDate periodStart, LocalDate periodEnd);
+
+    /** Remove todos os snapshots (ex.: dias de fechamento alterados). */
+    void deleteAll();
+}
@@ -1,31 +1,76 @@
 package br.com.hourmanager.config;
 
+import br.com.hourmanager.adapters.output.events.SpringDomainEventPublisher;
+import br.com.hourmanager.adapters.output.holidays.BinaryRegionalHolidayProvider;
+import br.com.hourmanager.adapters.output.repositories.DailyHourTotalJpaAdapter;
 import br.com.hourmanager.adapters.output.repositories.HolidayOverrideJpaAdapter;
 import br.com.hourmanager.adapters.output.repositories.HourAdjustmentJpaAdapter;
+import br.com.hourmanager.adapters.output.repositories.HourBulkLoadCopyAdapter;
 import br.com.hourmanager.adapters.output.repositories.HourEntryJpaAdapter;
 import br.com.hourmanager.adapters.output.repositories.PeriodAdjustmentJpaAdapter;
+import br.com.hourmanager.adapters.output.repositories.PeriodSnapshotJpaAdapter;
 import br.com.hourmanager.adapters.output.repositories.SystemConfigJpaAdapter;
+import br.com.hourmanager.adapters.output.repositories.jpa.DailyHourTotalJpaRepository;
 import br.com.hourmanager.adapters.output.repositories.jpa.HolidayOverrideJpaRepository;
 import br.com.hourmanager.adapters.output.repositories.jpa.HourAdjustmentJpaRepository;
 import br.com.hourmanager.adapters.output.repositories.jpa.HourEntryJpaRepository;
 import br.com.hourmanager.adapters.output.repositories.jpa.PeriodAdjustmentJpaRepository;
+import br.com.hourmanager.adapters.output.repositories.jpa.PeriodSnapshotJpaRepository;
 import br.com.hourmanager.adapters.output.repositories.jpa.SystemConfigJpaRepository;
+import br.com.hourmanager.application.core.calculation.DailyHoursStatistics;
+import br.com.hourmanager.application.core.calculation.HourSumIndex;
+import br.com.hourmanager.application.core.calculation.PeriodCalculationCache;
 import br.com.hourmanager.application.core.calculation.PeriodCalculationService;
+import br.com.hourmanager.application.core.holidays.HolidayCalendarService;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.core.period.PeriodKeyService;
+import br.com.hourmanager.application.core.projection.DashboardProjectionCache;
+import br.com.hourmanager.application.core.projection.DashboardProjectionReader;
 import br.com.hourmanager.application.core.projection.DashboardProjectionService;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
 import br.com.hourmanager.application.core.usecases.CreateHourAdjustmentUseCase;
 import br.com.hourmanager.application.core.usecases.CreateHourEntryUseCase;
+import br.com.hourmanager.application.core.usecases.DailyHourTotalsMaintenanceUseCase;
+import br.com.hourmanager.application.core.usecases.DeleteHourEntryUseCase;
+import br.com.hourmanager.application.core.usecases.ExportHoursUseCase;
+import br.com.hourmanager.application.core.usecases.ImportHoursUseCase;
 import br.com.hourmanager.application.core.usecases.SaveSystemConfigUseCase;
+import br.com.hourmanager.application.core.usecases.SetHolidayOverrideUseCase;
+import br.com.hourmanager.application.core.usecases.SetPeriodAdjustmentUseCase;
 import br.com.hourmanager.application.ports.input.CreateHourAdjustmentInputGateway;
 import br.com.hourmanager.application.ports.input.CreateHourEntryInputGateway;
+import br.com.hourmanager.application.ports.input.DailyHourTotalsMaintenanceInputGateway;
+import br.com.hourmanager.application.ports.input.DeleteHourEntryInputGateway;
+import br.com.hourmanager.application.ports.input.ExportHoursInputGateway;
+import br.com.hourmanager.application.ports.input.ImportHoursInputGateway;
+import br.com.hourmanager.application.ports.input.SetHolidayOverrideInputGateway;
+import br.com.hourmanager.application.ports.input.SetPeriodAdjustmentInputGateway;
 import br.com.hourmanager.application.ports.input.SystemConfigInputGateway;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.holidays.HolidayCalendarProvider;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
 import br.com.hourmanager.application.ports.output.repositories.HolidayOverrideRepository;
 import br.com.hourmanager.application.ports.output.repositories.HourAdjustmentRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourBulkLoadRepository;
 import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
 import br.com.hourmanager.application.ports.output.repositories.PeriodAdjustmentRepository;
+import br.com.hourmanager.application.ports.output.repositories.PeriodSnapshotRepository;
 import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import br.com.hourmanager.config.infra.TransactionalGateways;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import static br.com.hourmanager.config.infra.TransactionalGateways.transactional;
+
+/**
+ * Beans da aplicação. Os casos de uso que escrevem ou leem por cursor recebem a transação aqui
+ * ({@link TransactionalGateways}), não por anotação: o core não depende do Spring.
+ */
 @Configuration
 public class HourManagerConfig {
 
@@ -40,13 +85,29 @@ public class HourManagerConfig {
     }
 
     @Bean
-    public HourEntryRepository hourEntryRepository(HourEntryJpaRepository jpaRepository) {
-        return new HourEntryJpaAdapter(jpaRepository);
+    public HourEntryRepository hourEntryRepository(HourEntryJpaRepository jpaRepository,
+                                                   EntityManager entityManager,
+                                                   SystemConfigRepository systemConfigRepository,
+                                                   PeriodCalendarProvider periodCalendarProvider) {
+        return new HourEntryJpaAdapter(jpaRepository, entityManager, systemConfigRepository, periodCalendarProvider);
+    }
+
+    @Bean
+    public HourBulkLoadRepository hourBulkLoadRepository(EntityManager entityManager,
+                                                         SystemConfigRepository systemConfigRepository,
+                                                         PeriodCalendarProvider periodCalendarProvider) {
+        return new HourBulkLoadCopyAdapter(entityManager, systemConfigRepository, periodCalendarProvider);
     }
 
     @Bean
-    public HourAdjustmentRepository hourAdjustmentRepository(HourAdjustmentJpaRepository jpaRepository) {
-        return new HourAdjustmentJpaAdapter(jpaRepository);
+    public DailyHourTotalRepository dailyHourTotalRepository(DailyHourTotalJpaRepository jpaRepository) {
+        return new DailyHourTotalJpaAdapter(jpaRepository);
+    }
+
+    @Bean
+    public HourAdjustmentRepository hourAdjustmentRepository(HourAdjustmentJpaRepository jpaRepository,
+                                                             EntityManager entityManager) {
+        return new HourAdjustmentJpaAdapter(jpaRepository, entityManager);
     }
 
     @Bean
@@ -55,13 +116,84 @@ public class HourManagerConfig {
     }
 
     @Bean
-    public SystemConfigInputGateway saveSystemConfigUseCase(SystemConfigRepository systemConfigRepository) {
-        return new SaveSystemConfigUseCase(systemConfigRepository);
+    public PeriodSnapshotRepository periodSnapshotRepository(PeriodSnapshotJpaRepository jpaRepository,
+                                                             ObjectMapper objectMapper) {
+        return new PeriodSnapshotJpaAdapter(jpaRepository, objectMapper);
+    }
+
+    @Bean
+    public DomainEventPublisher domainEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        return new SpringDomainEventPublisher(applicationEventPublisher);
+    }
+
+    @Bean
+    public SystemConfigInputGateway saveSystemConfigUseCase(SystemConfigRepository systemConfigRepository,
+                                                            PeriodSnapshotService periodSnapshotService,
+                                                            DomainEventPublisher domainEventPublisher,
+                                                            PlatformTransactionManager transactionManager) {
+        return transactional(SystemConfigInputGateway.class,
+                new SaveSystemConfigUseCase(systemConfigRepository, periodSnapshotService, domainEventPublisher),
+                transactionManager);
+    }
+
+    @Bean
+    public CreateHourEntryInputGateway createHourEntryUseCase(HourEntryRepository hourEntryRepository,
+                                                              DailyHourTotalRepository dailyHourTotalRepository,
+                                                              PeriodSnapshotService periodSnapshotService,
+                                                              DomainEventPublisher domainEventPublisher,
+                                                              PlatformTransactionManager transactionManager) {
+        return transactional(CreateHourEntryInputGateway.class,
+                new CreateHourEntryUseCase(hourEntryRepository, dailyHourTotalRepository, periodSnapshotService, domainEventPublisher),
+                transactionManager);
     }
 
     @Bean
-    public CreateHourEntryInputGateway createHourEntryUseCase(HourEntryRepository hourEntryRepository) {
-        return new CreateHourEntryUseCase(hourEntryRepository);
+    public DeleteHourEntryInputGateway deleteHourEntryUseCase(HourEntryRepository hourEntryRepository,
+                                                              DailyHourTotalRepository dailyHourTotalRepository,
+                                                              PeriodSnapshotService periodSnapshotService,
+                                                              DomainEventPublisher domainEventPublisher,
+                                                              PlatformTransactionManager transactionManager) {
+        return transactional(DeleteHourEntryInputGateway.class,
+                new DeleteHourEntryUseCase(hourEntryRepository, dailyHourTotalRepository, periodSnapshotService, domainEventPublisher),
+                transactionManager);
+    }
+
+    @Bean
+    public DailyHourTotalsMaintenanceInputGateway dailyHourTotalsMaintenanceUseCase(HourEntryRepository hourEntryRepository,
+                                                                                    DailyHourTotalRepository dailyHourTotalRepository,
+                                                                                    PeriodSnapshotService periodSnapshotService,
+                                                                                    DomainEventPublisher domainEventPublisher,
+                                                                                    PlatformTransactionManager transactionManager) {
+        return transactional(DailyHourTotalsMaintenanceInputGateway.class,
+                new DailyHourTotalsMaintenanceUseCase(hourEntryRepository, dailyHourTotalRepository, periodSnapshotService, domainEventPublisher),
+                transactionManager, "findInconsistencies");
+    }
+
+    @Bean
+    public ImportHoursInputGateway importHoursUseCase(HourBulkLoadRepository hourBulkLoadRepository,
+                                                      DailyHourTotalRepository dailyHourTotalRepository,
+                                                      PeriodSnapshotService periodSnapshotService,
+                                                      DomainEventPublisher domainEventPublisher,
+                                                      @Value("${hourmanager.import.chunk-size:5000}") int chunkSize,
+                                                      PlatformTransactionManager transactionManager) {
+        return transactional(ImportHoursInputGateway.class,
+                new ImportHoursUseCase(hourBulkLoadRepository, dailyHourTotalRepository, periodSnapshotService,
+                        domainEventPublisher, chunkSize),
+                transactionManager);
+    }
+
+    @Bean
+    public ExportHoursInputGateway exportHoursUseCase(HourEntryRepository hourEntryRepository,
+                                                      HourAdjustmentRepository hourAdjustmentRepository,
+                                                      SystemConfigRepository systemConfigRepository,
+                                                      PeriodCalendarProvider periodCalendarProvider,
+                                                      PeriodKeyService periodKeyService,
+                                                      PlatformTransactionManager transactionManager) {
+        // Cursor do PostgreSQL exige transação aberta durante toda a leitura
+        return transactional(ExportHoursInputGateway.class,
+                new ExportHoursUseCase(hourEntryRepository, hourAdjustmentRepository, systemConfigRepository,
+                        periodCalendarProvider, periodKeyService),
+                transactionManager, "export*");
     }
 
     @Bean
@@ -70,13 +202,102 @@ public class HourManagerConfig {
     }
 
     @Bean
-    public PeriodCalculationService periodCalculationService(HourEntryRepository hourEntryRepository,
-                                                            PeriodAdjustmentRepository periodAdjustmentRepository) {
-        return new PeriodCalculationService(hourEntryRepository, periodAdjustmentRepository);
+    public SetPeriodAdjustmentInputGateway setPeriodAdjustmentUseCase(PeriodAdjustmentRepository periodAdjustmentRepository,
+                                                                      DomainEventPublisher domainEventPublisher,
+                                                                      PlatformTransactionManager transactionManager) {
+        return transactional(SetPeriodAdjustmentInputGateway.class,
+                new SetPeriodAdjustmentUseCase(periodAdjustmentRepository, domainEventPublisher),
+                transactionManager);
+    }
+
+    @Bean
+    public SetHolidayOverrideInputGateway setHolidayOverrideUseCase(HolidayOverrideRepository holidayOverrideRepository,
+                                                                    DomainEventPublisher domainEventPublisher,
+                                                                    PlatformTransactionManager transactionManager) {
+        return transactional(SetHolidayOverrideInputGateway.class,
+                new SetHolidayOverrideUseCase(holidayOverrideRepository, domainEventPublisher),
+                transactionManager);
+    }
+
+    @Bean
+    public HolidayCalendarProvider holidayCalendarProvider() {
+        return new BinaryRegionalHolidayProvider();
+    }
+
+    @Bean
+    public HolidayCalendarService holidayCalendarService(HolidayOverrideRepository holidayOverrideRepository,
+                                                         HolidayCalendarProvider holidayCalendarProvider,
+                                                         @Value("${hourmanager.holiday-calendar.horizon-years:10}") int horizonYears) {
+        return new HolidayCalendarService(holidayOverrideRepository, holidayCalendarProvider, horizonYears);
+    }
+
+    @Bean
+    public PeriodCalculationCache periodCalculationCache() {
+        return new PeriodCalculationCache();
+    }
+
+    @Bean
+    public PeriodCalculationService periodCalculationService(DailyHourTotalRepository dailyHourTotalRepository,
+                                                            PeriodAdjustmentRepository periodAdjustmentRepository,
+                                                            PeriodSnapshotRepository periodSnapshotRepository,
+                                                            PeriodCalculationCache periodCalculationCache,
+                                                            PeriodCalendarProvider periodCalendarProvider) {
+        return new PeriodCalculationService(dailyHourTotalRepository, periodAdjustmentRepository, periodSnapshotRepository,
+                periodCalculationCache, periodCalendarProvider);
+    }
+
+    @Bean
+    public PeriodCalendarProvider periodCalendarProvider(
+            @Value("${hourmanager.period-calendar.horizon-years:10}") int horizonYears) {
+        return new PeriodCalendarProvider(horizonYears);
+    }
+
+    @Bean
+    public HourSumIndex hourSumIndex(DailyHourTotalRepository dailyHourTotalRepository) {
+        return new HourSumIndex(dailyHourTotalRepository);
+    }
+
+    @Bean
+    public PeriodKeyService periodKeyService(HourEntryRepository hourEntryRepository,
+                                             SystemConfigRepository systemConfigRepository,
+                                             PeriodCalendarProvider periodCalendarProvider) {
+        return new PeriodKeyService(hourEntryRepository, systemConfigRepository, periodCalendarProvider);
+    }
+
+    @Bean
+    public PeriodSnapshotService periodSnapshotService(SystemConfigRepository systemConfigRepository,
+                                                       PeriodSnapshotRepository periodSnapshotRepository,
+                                                       PeriodCalculationService periodCalculationService,
+                                                       PeriodCalendarProvider periodCalendarProvider) {
+        return new PeriodSnapshotService(systemConfigRepository, periodSnapshotRepository, periodCalculationService,
+                periodCalendarProvider);
+    }
+
+    @Bean
+    public DashboardProjectionCache dashboardProjectionCache() {
+        return new DashboardProjectionCache();
+    }
+
+    @Bean
+    public DailyHoursStatistics dailyHoursStatistics(DailyHourTotalRepository dailyHourTotalRepository,
+                                                     @Value("${hourmanager.forecast.window-days:364}") int windowDays,
+                                                     @Value("${hourmanager.forecast.ewma-span-days:14}") int ewmaSpanDays) {
+        return new DailyHoursStatistics(dailyHourTotalRepository, windowDays, ewmaSpanDays);
+    }
+
+    @Bean
+    public DashboardProjectionService dashboardProjectionService(PeriodCalculationService periodCalculationService,
+                                                                 DailyHoursStatistics dailyHoursStatistics) {
+        return new DashboardProjectionService(periodCalculationService, dailyHoursStatistics);
     }
 
     @Bean
-    public DashboardProjectionService dashboardProjectionService(PeriodCalculationService periodCalculationService) {
-        return new DashboardProjectionService(periodCalculationService);
+    public DashboardProjectionReader dashboardProjectionReader(SystemConfigRepository systemConfigRepository,
+                                                               PeriodCalendarProvider periodCalendarProvider,
+                                                               HolidayCalendarService holidayCalendarService,
+                                                               DashboardProjectionService dashboardProjectionService,
+                                                               DashboardProjectionCache dashboardProjectionCache) {
+        return new DashboardProjectionReader(systemConfigRepository, periodCalendarProvider, holidayCalendarService,
+                dashboardProjectionService, dashboardProjectionCache);
     }
 }
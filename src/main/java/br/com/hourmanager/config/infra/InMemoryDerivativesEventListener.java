@@ -0,0 +1,190 @@
+package br.com.hourmanager.config.infra;
+
+import br.com.hourmanager.application.core.calculation.CentiHours;
+import br.com.hourmanager.application.core.calculation.DailyHoursStatistics;
+import br.com.hourmanager.application.core.calculation.HourSumIndex;
+import br.com.hourmanager.application.core.calculation.PeriodCalculationCache;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.events.HourDomainEvent.DailyHourTotalsRebuilt;
+import br.com.hourmanager.application.core.events.HourDomainEvent.HolidayOverrideSet;
+import br.com.hourmanager.application.core.events.HourDomainEvent.HourEntryCreated;
+import br.com.hourmanager.application.core.events.HourDomainEvent.HourEntryDeleted;
+import br.com.hourmanager.application.core.events.HourDomainEvent.PeriodAdjustmentSet;
+import br.com.hourmanager.application.core.events.HourDomainEvent.SystemConfigSaved;
+import br.com.hourmanager.application.core.holidays.HolidayCalendarService;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.core.period.PeriodKeyService;
+import br.com.hourmanager.application.core.projection.DashboardProjectionCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Mantém o índice de somas, as estatísticas diárias da previsão, o cache de cálculo e o calendário de feriados a partir dos eventos de domínio.
+ * Configuração gravada: descarta o calendário de períodos e pede o re-key das chaves (se os dias de fechamento mudaram).
+ * Por último, sobe a versão dos dados do cache de projeções (só depois que os derivados já refletem a escrita).
+ * Roda na transação de quem publicou: marca a escrita como em andamento antes do commit e aplica o delta
+ * (ou descarta, em rollback) quando a transação termina.
+ */
+@Component
+public class InMemoryDerivativesEventListener {
+
+    private final HourSumIndex hourSumIndex;
+    private final DailyHoursStatistics dailyHoursStatistics;
+    private final PeriodCalculationCache periodCalculationCache;
+    private final HolidayCalendarService holidayCalendarService;
+    private final DashboardProjectionCache dashboardProjectionCache;
+    private final PeriodCalendarProvider periodCalendarProvider;
+    private final PeriodKeyService periodKeyService;
+
+    public InMemoryDerivativesEventListener(HourSumIndex hourSumIndex, DailyHoursStatistics dailyHoursStatistics,
+                                            PeriodCalculationCache periodCalculationCache,
+                                            HolidayCalendarService holidayCalendarService,
+                                            DashboardProjectionCache dashboardProjectionCache,
+                                            PeriodCalendarProvider periodCalendarProvider,
+                                            PeriodKeyService periodKeyService) {
+        this.hourSumIndex = hourSumIndex;
+        this.dailyHoursStatistics = dailyHoursStatistics;
+        this.periodCalculationCache = periodCalculationCache;
+        this.holidayCalendarService = holidayCalendarService;
+        this.dashboardProjectionCache = dashboardProjectionCache;
+        this.periodCalendarProvider = periodCalendarProvider;
+        this.periodKeyService = periodKeyService;
+    }
+
+    @EventListener
+    public void on(HourDomainEvent event) {
+        if (event instanceof HolidayOverrideSet override) {
+            // Feriados não mudam horas: só o calendário, e só se a gravação foi commitada
+            onCompletion(committed -> {
+                if (committed) {
+                    holidayCalendarService.applyOverride(override.date(), override.holiday());
+                    dashboardProjectionCache.dataChanged(override.date(), override.date());
+                }
+            });
+            return;
+        }
+        if (event instanceof SystemConfigSaved saved) {
+            onCompletion(committed -> {
+                if (committed) {
+                    if (saved.closureDaysChanged()) {
+                        periodCalendarProvider.invalidate();
+                        periodKeyService.requestRekey();
+                    }
+                    dashboardProjectionCache.configChanged();
+                }
+            });
+            return;
+        }
+        boolean touchesHours = !(event instanceof PeriodAdjustmentSet);
+        if (touchesHours) {
+            hourSumIndex.beginWrite();
+            dailyHoursStatistics.beginWrite();
+        }
+        periodCalculationCache.beginWrite();
+        onCompletion(committed -> {
+            try {
+                if (touchesHours) {
+                    try {
+                        applyToIndex(event, committed);
+                    } finally {
+                        applyToStatistics(event, committed);
+                    }
+                }
+            } finally {
+                applyToCache(event, committed);
+                if (committed) {
+                    notifyProjections(event);
+                }
+            }
+        });
+    }
+
+    /** Avisa o cache de projeções com os dias afetados (rollup recriado: todos). */
+    private void notifyProjections(HourDomainEvent event) {
+        switch (event) {
+            case HourEntryCreated created -> dashboardProjectionCache.dataChanged(created.entryDate(), created.entryDate());
+            case HourEntryDeleted deleted -> dashboardProjectionCache.dataChanged(deleted.entryDate(), deleted.entryDate());
+            case PeriodAdjustmentSet adjustment ->
+                    dashboardProjectionCache.dataChanged(adjustment.periodStart(), adjustment.periodEnd());
+            case HolidayOverrideSet override -> dashboardProjectionCache.dataChanged(override.date(), override.date());
+            case DailyHourTotalsRebuilt rebuilt -> dashboardProjectionCache.dataChanged();
+            case SystemConfigSaved saved -> {
+                // tratado em on(), fora do protocolo de escrita
+            }
+        }
+    }
+
+    private void applyToIndex(HourDomainEvent event, boolean committed) {
+        switch (event) {
+            case HourEntryCreated created -> hourSumIndex.endWrite(created.entryDate(), CentiHours.of(created.hours()), committed);
+            case HourEntryDeleted deleted -> hourSumIndex.endWrite(deleted.entryDate(), -CentiHours.of(deleted.hours()), committed);
+            case PeriodAdjustmentSet adjustment -> {
+                // ajustes não entram na soma de horas trabalhadas
+            }
+            case DailyHourTotalsRebuilt rebuilt -> hourSumIndex.endWriteInvalidating();
+            case HolidayOverrideSet override -> {
+                // tratado em on(), fora do protocolo de escrita
+            }
+            case SystemConfigSaved saved -> {
+                // tratado em on(), fora do protocolo de escrita
+            }
+        }
+    }
+
+    private void applyToStatistics(HourDomainEvent event, boolean committed) {
+        switch (event) {
+            case HourEntryCreated created ->
+                    dailyHoursStatistics.endWrite(created.entryDate(), CentiHours.of(created.hours()), committed);
+            case HourEntryDeleted deleted ->
+                    dailyHoursStatistics.endWrite(deleted.entryDate(), -CentiHours.of(deleted.hours()), committed);
+            case DailyHourTotalsRebuilt rebuilt -> dailyHoursStatistics.endWriteInvalidating();
+            case PeriodAdjustmentSet adjustment -> {
+                // ajustes não são horas trabalhadas
+            }
+            case HolidayOverrideSet override -> {
+                // tratado em on(), fora do protocolo de escrita
+            }
+            case SystemConfigSaved saved -> {
+                // tratado em on(), fora do protocolo de escrita
+            }
+        }
+    }
+
+    private void applyToCache(HourDomainEvent event, boolean committed) {
+        switch (event) {
+            case HourEntryCreated created ->
+                    periodCalculationCache.endEntryWrite(created.entryDate(), CentiHours.of(created.hours()), committed);
+            case HourEntryDeleted deleted ->
+                    periodCalculationCache.endEntryWrite(deleted.entryDate(), -CentiHours.of(deleted.hours()), committed);
+            case PeriodAdjustmentSet adjustment -> periodCalculationCache.endAdjustmentWrite(
+                    PeriodBounds.builder().start(adjustment.periodStart()).end(adjustment.periodEnd()).build(),
+                    CentiHours.of(adjustment.adjustedHours()), committed);
+            case DailyHourTotalsRebuilt rebuilt -> periodCalculationCache.endWriteInvalidating();
+            case HolidayOverrideSet override -> {
+                // tratado em on(), fora do protocolo de escrita
+            }
+            case SystemConfigSaved saved -> {
+                // tratado em on(), fora do protocolo de escrita
+            }
+        }
+    }
+
+    /** Sem transação ativa (ex.: chamada direta), a escrita já é visível: aplica na hora. */
+    private static void onCompletion(Consumer<Boolean> callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
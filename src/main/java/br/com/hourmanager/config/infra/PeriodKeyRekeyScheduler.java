@@ -0,0 +1,44 @@
+package br.com.hourmanager.config.infra;
+
+import br.com.hourmanager.application.core.period.PeriodKeyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Re-key de hour_entries.period_start em lotes: cada execução altera no máximo um lote, em transação própria,
+ * com um intervalo entre lotes para não segurar locks na tabela. O serviço só é avisado do lote depois do
+ * commit ou rollback, para não dar as chaves como em dia antes de elas estarem gravadas.
+ */
+@Slf4j
+@Component
+public class PeriodKeyRekeyScheduler {
+
+    private final PeriodKeyService periodKeyService;
+    private final int batchSize;
+
+    public PeriodKeyRekeyScheduler(PeriodKeyService periodKeyService,
+                                   @Value("${hourmanager.period-keys.batch-size:1000}") int batchSize) {
+        this.periodKeyService = periodKeyService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${hourmanager.period-keys.batch-interval-ms:500}")
+    @Transactional
+    public void rekeyBatch() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                periodKeyService.batchFinished(status == STATUS_COMMITTED);
+            }
+        });
+        int changed = periodKeyService.runBatch(batchSize);
+        if (changed > 0) {
+            log.info("Re-keyed period_start on {} hour entries", changed);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.hourmanager.config.infra;
+
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+/**
+ * Job diário que congela os períodos cujo dia de fechamento já passou.
+ */
+@Slf4j
+@Component
+public class PeriodSnapshotScheduler {
+
+    private final PeriodSnapshotService periodSnapshotService;
+
+    public PeriodSnapshotScheduler(PeriodSnapshotService periodSnapshotService) {
+        this.periodSnapshotService = periodSnapshotService;
+    }
+
+    @Scheduled(cron = "${hourmanager.snapshots.cron:0 5 0 * * *}")
+    @Transactional
+    public void freezeClosedPeriods() {
+        int frozen = periodSnapshotService.freezeClosedPeriods(LocalDate.now());
+        if (frozen > 0) {
+            log.info("Frozen {} closed period snapshot(s)", frozen);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.hourmanager.config.infra;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Demarcação de transação dos casos de uso, declarada na configuração para o core não depender do Spring.
+ * Cada método do gateway roda numa transação REQUIRED (rollback em exceção não verificada, como {@code @Transactional});
+ * os nomes passados em {@code readOnlyMethods} (aceitam {@code *}) rodam somente leitura.
+ */
+public final class TransactionalGateways {
+
+    private TransactionalGateways() {
+    }
+
+    public static <T> T transactional(Class<T> gateway, T useCase, PlatformTransactionManager transactionManager,
+                                      String... readOnlyMethods) {
+        Map<String, TransactionAttribute> attributes = new HashMap<>();
+        attributes.put("*", new RuleBasedTransactionAttribute());
+        for (String method : readOnlyMethods) {
+            RuleBasedTransactionAttribute readOnly = new RuleBasedTransactionAttribute();
+            readOnly.setReadOnly(true);
+            attributes.put(method, readOnly);
+        }
+        NameMatchTransactionAttributeSource source = new NameMatchTransactionAttributeSource();
+        source.setNameMap(attributes);
+
+        ProxyFactory proxy = new ProxyFactory(useCase);
+        proxy.setInterfaces(gateway);
+        proxy.addAdvice(new TransactionInterceptor(transactionManager, source));
+        return gateway.cast(proxy.getProxy());
+    }
+}
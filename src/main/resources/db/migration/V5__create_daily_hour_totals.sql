@@ -0,0 +1,11 @@
+CREATE TABLE daily_hour_totals
+(
+    entry_date  DATE           PRIMARY KEY,
+    total_hours DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    entry_count INT            NOT NULL DEFAULT 0
+);
+
+INSERT INTO daily_hour_totals (entry_date, total_hours, entry_count)
+SELECT entry_date, SUM(hours), COUNT(*)
+FROM hour_entries
+GROUP BY entry_date;
@@ -0,0 +1,10 @@
+CREATE TABLE period_snapshots
+(
+    period_start   DATE           NOT NULL,
+    period_end     DATE           NOT NULL,
+    total_worked   DECIMAL(12, 2) NOT NULL,
+    total_adjusted DECIMAL(10, 2) NOT NULL,
+    weeks_json     TEXT           NOT NULL,
+    frozen_at      TIMESTAMP      NOT NULL,
+    PRIMARY KEY (period_start, period_end)
+);
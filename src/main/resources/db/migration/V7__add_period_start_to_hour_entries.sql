@@ -0,0 +1,43 @@
+-- Início do período de fechamento da entrada (NULL: dia fora de qualquer período ou ainda não calculado).
+ALTER TABLE hour_entries ADD COLUMN period_start DATE;
+
+-- Backfill com a configuração atual, mesma regra do ClosurePeriodEngine (dia ajustado ao tamanho do mês).
+-- Sem configuração, as linhas ficam NULL e o job de re-key as preenche quando ela for salva.
+WITH cfg AS (
+    SELECT closure_start_day AS s, closure_end_day AS e FROM system_config LIMIT 1
+),
+months AS (
+    SELECT h.id,
+           h.entry_date,
+           cfg.s,
+           cfg.e,
+           date_trunc('month', h.entry_date)::date                         AS m,
+           (date_trunc('month', h.entry_date) - INTERVAL '1 month')::date AS pm
+    FROM hour_entries h CROSS JOIN cfg
+),
+bounds AS (
+    SELECT id,
+           entry_date,
+           CASE
+               WHEN s > e AND EXTRACT(DAY FROM entry_date) >= s
+                   THEN m + (LEAST(s, EXTRACT(DAY FROM m + INTERVAL '1 month - 1 day')::int) - 1)
+               WHEN s > e
+                   THEN pm + (LEAST(s, EXTRACT(DAY FROM pm + INTERVAL '1 month - 1 day')::int) - 1)
+               ELSE m + (LEAST(s, EXTRACT(DAY FROM m + INTERVAL '1 month - 1 day')::int) - 1)
+           END AS period_start,
+           CASE
+               WHEN s > e AND EXTRACT(DAY FROM entry_date) >= s
+                   THEN (m + INTERVAL '1 month')::date
+                            + (LEAST(e, EXTRACT(DAY FROM m + INTERVAL '2 month - 1 day')::int) - 1)
+               ELSE m + (LEAST(e, EXTRACT(DAY FROM m + INTERVAL '1 month - 1 day')::int) - 1)
+           END AS period_end
+    FROM months
+)
+UPDATE hour_entries h
+SET period_start = b.period_start
+FROM bounds b
+WHERE h.id = b.id
+  AND b.entry_date BETWEEN b.period_start AND b.period_end;
+
+-- Totais por período viram leitura só do índice (igualdade em period_start, horas incluídas no índice).
+CREATE INDEX idx_hour_entries_period_start ON hour_entries (period_start) INCLUDE (hours);
@@ -0,0 +1,3 @@
+-- Região dos feriados regionais: UF ("SP") ou UF-código IBGE do município ("SP-3550308"); NULL = só nacionais.
+ALTER TABLE system_config
+    ADD COLUMN holiday_region VARCHAR(16);
@@ -0,0 +1,4 @@
+-- Totais por período vêm do rollup diário (daily_hour_totals), não de hour_entries: o INCLUDE (hours) só encarecia
+-- inserts e re-keys. O índice continua servindo a listagem do período por igualdade em period_start.
+DROP INDEX idx_hour_entries_period_start;
+CREATE INDEX idx_hour_entries_period_start ON hour_entries (period_start);
@@ -0,0 +1,223 @@
+package br.com.hourmanager.adapters.input.controllers;
+
+import br.com.hourmanager.application.core.domains.SystemConfig;
+import br.com.hourmanager.application.core.period.ClosurePeriodEngine;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.core.projection.DashboardProjection;
+import br.com.hourmanager.application.core.projection.DashboardProjectionCache;
+import br.com.hourmanager.application.core.projection.DashboardProjectionPatch;
+import br.com.hourmanager.application.core.projection.DashboardProjectionReader;
+import br.com.hourmanager.application.core.projection.GoalStatus;
+import br.com.hourmanager.application.core.projection.ProjectionFields;
+import br.com.hourmanager.application.ports.input.SetHolidayOverrideInputGateway;
+import br.com.hourmanager.application.ports.input.SetPeriodAdjustmentInputGateway;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardControllerTest {
+
+    private static final DashboardProjection PROJECTION = DashboardProjection.builder()
+            .totals(DashboardProjection.TotalsInfo.builder()
+                    .totalWorked(new BigDecimal("40"))
+                    .totalAdjusted(new BigDecimal("2"))
+                    .balance(new BigDecimal("42"))
+                    .build())
+            .goalProjection(DashboardProjection.GoalProjectionInfo.builder()
+                    .targetHours(new BigDecimal("160"))
+                    .goalStatus(GoalStatus.EM_RISCO)
+                    .build())
+            .forecast(DashboardProjection.GoalForecastInfo.builder()
+                    .projectedBalanceAtEnd(new BigDecimal("150"))
+                    .targetHours(new BigDecimal("160"))
+                    .goalStatus(GoalStatus.EM_RISCO)
+                    .build())
+            .build();
+
+    @Mock
+    private SystemConfigRepository systemConfigRepository;
+    @Mock
+    private DashboardProjectionReader dashboardProjectionReader;
+    @Mock
+    private SetHolidayOverrideInputGateway setHolidayOverrideUseCase;
+    @Mock
+    private SetPeriodAdjustmentInputGateway setPeriodAdjustmentUseCase;
+    @Mock
+    private ProjectionStreamBroadcaster projectionStreamBroadcaster;
+
+    private DashboardProjectionCache dashboardProjectionCache;
+    private DashboardController controller;
+
+    @BeforeEach
+    void setUp() {
+        dashboardProjectionCache = new DashboardProjectionCache();
+        controller = new DashboardController(systemConfigRepository, dashboardProjectionReader,
+                setHolidayOverrideUseCase, setPeriodAdjustmentUseCase, new PeriodCalendarProvider(10),
+                dashboardProjectionCache, projectionStreamBroadcaster);
+    }
+
+    @Nested
+    @DisplayName("PATCH /holiday-overrides")
+    class HolidayOverride {
+
+        private final LocalDate date = LocalDate.of(2025, 2, 14);
+
+        @Test
+        @DisplayName("Patch traz o dia alterado e a previsão recalculada, sem totais nem meta")
+        void patch_withDayAndForecast() {
+            when(dashboardProjectionReader.read(any())).thenReturn(Optional.of(PROJECTION));
+
+            ResponseEntity<?> response = controller.toggleHolidayOverride(
+                    new DashboardController.HolidayOverrideRequest(date, true), false);
+
+            verify(setHolidayOverrideUseCase).set(date, true);
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            DashboardProjectionPatch patch = (DashboardProjectionPatch) response.getBody();
+            assertThat(patch.getEtag()).isEqualTo(fullEtag());
+            assertThat(patch.getDays()).singleElement().satisfies(day -> {
+                assertThat(day.getDate()).isEqualTo(date);
+                assertThat(day.isHoliday()).isTrue();
+                assertThat(day.isUserOverride()).isTrue();
+            });
+            assertThat(patch.getForecast()).isEqualTo(PROJECTION.getForecast());
+            assertThat(patch.getTotals()).isNull();
+            assertThat(patch.getGoalProjection()).isNull();
+
+            ProjectionFields fields = readKey().fields();
+            assertThat(fields.includes(ProjectionFields.Section.FORECAST)).isTrue();
+            assertThat(fields.includes(ProjectionFields.Section.TOTALS)).isFalse();
+            assertThat(fields.includes(ProjectionFields.Section.WEEKS)).isFalse();
+        }
+
+        @Test
+        @DisplayName("?full=true -> projeção completa com ETag")
+        void full_returnsProjection() {
+            when(dashboardProjectionReader.read(any())).thenReturn(Optional.of(PROJECTION));
+
+            ResponseEntity<?> response = controller.toggleHolidayOverride(
+                    new DashboardController.HolidayOverrideRequest(date, false), true);
+
+            verify(setHolidayOverrideUseCase).set(date, false);
+            assertThat(response.getBody()).isSameAs(PROJECTION);
+            assertThat(response.getHeaders().getETag()).isEqualTo(fullEtag());
+            assertThat(readKey().fields()).isEqualTo(ProjectionFields.ALL);
+        }
+
+        @Test
+        @DisplayName("Sem data -> 400 e nada gravado")
+        void missingDate_isBadRequest() {
+            ResponseEntity<?> response = controller.toggleHolidayOverride(
+                    new DashboardController.HolidayOverrideRequest(null, true), false);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            verify(setHolidayOverrideUseCase, never()).set(any(), anyBoolean());
+        }
+    }
+
+    @Nested
+    @DisplayName("PUT /period-adjustment")
+    class PeriodAdjustment {
+
+        @Test
+        @DisplayName("Patch traz totais, meta e previsão do período atual, sem dias")
+        void patch_withTotalsGoalAndForecast() {
+            config();
+            when(dashboardProjectionReader.read(any())).thenReturn(Optional.of(PROJECTION));
+
+            ResponseEntity<?> response = controller.setPeriodAdjustment(
+                    new DashboardController.PeriodAdjustmentRequest(new BigDecimal("2")), false);
+
+            PeriodBounds current = ClosurePeriodEngine.computePeriodContaining(LocalDate.now(), 21, 20);
+            verify(setPeriodAdjustmentUseCase).set(current.getStart(), current.getEnd(), new BigDecimal("2"));
+            DashboardProjectionPatch patch = (DashboardProjectionPatch) response.getBody();
+            assertThat(patch.getEtag()).isEqualTo(fullEtag());
+            assertThat(patch.getTotals()).isEqualTo(PROJECTION.getTotals());
+            assertThat(patch.getGoalProjection()).isEqualTo(PROJECTION.getGoalProjection());
+            assertThat(patch.getForecast()).isEqualTo(PROJECTION.getForecast());
+            assertThat(patch.getDays()).isNull();
+
+            ProjectionFields fields = readKey().fields();
+            assertThat(fields.includes(ProjectionFields.Section.TOTALS)).isTrue();
+            assertThat(fields.includes(ProjectionFields.Section.GOAL_PROJECTION)).isTrue();
+            assertThat(fields.includes(ProjectionFields.Section.FORECAST)).isTrue();
+            assertThat(fields.includes(ProjectionFields.Section.WEEKS)).isFalse();
+        }
+
+        @Test
+        @DisplayName("?full=true -> projeção completa com ETag")
+        void full_returnsProjection() {
+            config();
+            when(dashboardProjectionReader.read(any())).thenReturn(Optional.of(PROJECTION));
+
+            ResponseEntity<?> response = controller.setPeriodAdjustment(
+                    new DashboardController.PeriodAdjustmentRequest(new BigDecimal("2")), true);
+
+            assertThat(response.getBody()).isSameAs(PROJECTION);
+            assertThat(response.getHeaders().getETag()).isEqualTo(fullEtag());
+            assertThat(readKey().fields()).isEqualTo(ProjectionFields.ALL);
+        }
+
+        @Test
+        @DisplayName("Horas ausentes -> ajuste zerado")
+        void missingHours_setsZero() {
+            config();
+            when(dashboardProjectionReader.read(any())).thenReturn(Optional.of(PROJECTION));
+
+            controller.setPeriodAdjustment(new DashboardController.PeriodAdjustmentRequest(null), false);
+
+            verify(setPeriodAdjustmentUseCase).set(any(), any(), eq(BigDecimal.ZERO));
+        }
+
+        @Test
+        @DisplayName("Sem configuração -> 204 e nada gravado")
+        void noConfig_isNoContent() {
+            when(systemConfigRepository.findCurrent()).thenReturn(Optional.empty());
+
+            ResponseEntity<?> response = controller.setPeriodAdjustment(
+                    new DashboardController.PeriodAdjustmentRequest(BigDecimal.ONE), false);
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            verify(setPeriodAdjustmentUseCase, never()).set(any(), any(), any());
+        }
+
+        private void config() {
+            when(systemConfigRepository.findCurrent()).thenReturn(Optional.of(SystemConfig.builder()
+                    .closureStartDay(21)
+                    .closureEndDay(20)
+                    .expectedWeeklyHours(new BigDecimal("40"))
+                    .build()));
+        }
+    }
+
+    private String fullEtag() {
+        return dashboardProjectionCache.etagOf(dashboardProjectionCache.currentKey(LocalDate.now()));
+    }
+
+    private DashboardProjectionCache.Key readKey() {
+        ArgumentCaptor<DashboardProjectionCache.Key> key = ArgumentCaptor.forClass(DashboardProjectionCache.Key.class);
+        verify(dashboardProjectionReader).read(key.capture());
+        return key.getValue();
+    }
+}
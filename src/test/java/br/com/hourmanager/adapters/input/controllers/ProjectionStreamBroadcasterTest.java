@@ -0,0 +1,222 @@
+package br.com.hourmanager.adapters.input.controllers;
+
+import br.com.hourmanager.application.core.period.ClosurePeriodEngine;
+import br.com.hourmanager.application.core.projection.DashboardProjection;
+import br.com.hourmanager.application.core.projection.DashboardProjectionCache;
+import br.com.hourmanager.application.core.projection.DashboardProjectionReader;
+import br.com.hourmanager.application.core.projection.ProjectionFields;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectionStreamBroadcasterTest {
+
+    private static final LocalDate IN_FEBRUARY_PERIOD = LocalDate.of(2025, 2, 1);
+    private static final LocalDate IN_MARCH_PERIOD = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private DashboardProjectionReader dashboardProjectionReader;
+
+    private final DashboardProjectionCache dashboardProjectionCache = new DashboardProjectionCache();
+    private final ManualExecutor sender = new ManualExecutor();
+    private final AtomicReference<LocalDate> today = new AtomicReference<>(LocalDate.of(2025, 2, 20));
+    private final Queue<RecordingEmitter> nextEmitters = new ArrayDeque<>();
+
+    private ProjectionStreamBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        // Período 21 a 20; a projeção devolvida carrega a data de referência da chave lida
+        lenient().when(dashboardProjectionReader.periodOf(any())).thenAnswer(invocation ->
+                Optional.of(ClosurePeriodEngine.computePeriodContaining(invocation.getArgument(0), 21, 20)));
+        lenient().when(dashboardProjectionReader.read(any())).thenAnswer(invocation -> {
+            DashboardProjectionCache.Key key = invocation.getArgument(0);
+            return Optional.of(DashboardProjection.builder()
+                    .period(DashboardProjection.PeriodInfo.builder()
+                            .start(key.referenceDate())
+                            .end(key.referenceDate())
+                            .build())
+                    .build());
+        });
+        broadcaster = new ProjectionStreamBroadcaster(dashboardProjectionReader, dashboardProjectionCache,
+                () -> nextEmitters.isEmpty() ? new RecordingEmitter(false) : nextEmitters.poll(), sender, today::get);
+    }
+
+    @Test
+    @DisplayName("Ao assinar -> projeção atual enviada pela thread de envio")
+    void subscribe_sendsInitialProjection() {
+        RecordingEmitter emitter = subscribe(IN_FEBRUARY_PERIOD);
+        assertThat(emitter.projections()).isEmpty();
+
+        sender.runAll();
+
+        assertThat(emitter.referenceDates()).containsExactly(IN_FEBRUARY_PERIOD);
+    }
+
+    @Test
+    @DisplayName("Rajada no mesmo grupo -> um recálculo e um envio por assinante")
+    void burst_isCoalescedPerGroup() {
+        RecordingEmitter first = subscribe(IN_FEBRUARY_PERIOD);
+        RecordingEmitter second = subscribe(IN_FEBRUARY_PERIOD);
+        sender.runAll();
+        verify(dashboardProjectionReader, times(2)).read(any());
+
+        dashboardProjectionCache.dataChanged(LocalDate.of(2025, 2, 3), LocalDate.of(2025, 2, 3));
+        dashboardProjectionCache.dataChanged(LocalDate.of(2025, 2, 4), LocalDate.of(2025, 2, 4));
+        dashboardProjectionCache.dataChanged(LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 5));
+        sender.runAll();
+
+        verify(dashboardProjectionReader, times(3)).read(any());
+        assertThat(first.projections()).hasSize(2);
+        assertThat(second.projections()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Mudança em dias de outro período -> grupo não é recalculado; sem dias -> todos")
+    void change_onlyReachesOverlappingGroups() {
+        RecordingEmitter february = subscribe(IN_FEBRUARY_PERIOD);
+        RecordingEmitter march = subscribe(IN_MARCH_PERIOD);
+        sender.runAll();
+
+        dashboardProjectionCache.dataChanged(LocalDate.of(2025, 2, 10), LocalDate.of(2025, 2, 10));
+        sender.runAll();
+
+        assertThat(february.projections()).hasSize(2);
+        assertThat(march.projections()).hasSize(1);
+
+        dashboardProjectionCache.configChanged();
+        sender.runAll();
+
+        assertThat(february.projections()).hasSize(3);
+        assertThat(march.projections()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Virada do dia -> grupo de hoje troca a referência e o período; data fixa não muda")
+    void dayRollover_movesTodayGroups() {
+        RecordingEmitter current = subscribe(null);
+        RecordingEmitter fixed = subscribe(IN_FEBRUARY_PERIOD);
+        sender.runAll();
+
+        broadcaster.heartbeat();
+        sender.runAll();
+        assertThat(current.projections()).hasSize(1);
+
+        today.set(LocalDate.of(2025, 2, 21));
+        broadcaster.heartbeat();
+        sender.runAll();
+
+        verify(dashboardProjectionReader).periodOf(LocalDate.of(2025, 2, 21));
+        assertThat(current.referenceDates()).containsExactly(LocalDate.of(2025, 2, 20), LocalDate.of(2025, 2, 21));
+        assertThat(fixed.projections()).hasSize(1);
+        assertThat(current.comments()).isEqualTo(2);
+
+        // O grupo de hoje passou ao período de 21/02: mudança só no período anterior não o alcança
+        dashboardProjectionCache.dataChanged(LocalDate.of(2025, 2, 20), LocalDate.of(2025, 2, 20));
+        sender.runAll();
+        assertThat(current.projections()).hasSize(2);
+        assertThat(fixed.projections()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Falha no envio -> assinante removido; grupo vazio deixa de ser recalculado")
+    void sendFailure_removesSubscriber() {
+        nextEmitters.add(new RecordingEmitter(true));
+        RecordingEmitter broken = subscribe(IN_FEBRUARY_PERIOD);
+        RecordingEmitter healthy = subscribe(IN_FEBRUARY_PERIOD);
+        sender.runAll();
+        assertThat(broken.attempts).isEqualTo(1);
+
+        dashboardProjectionCache.dataChanged(LocalDate.of(2025, 2, 3), LocalDate.of(2025, 2, 3));
+        sender.runAll();
+
+        assertThat(broken.attempts).isEqualTo(1);
+        assertThat(healthy.projections()).hasSize(2);
+
+        nextEmitters.add(new RecordingEmitter(true));
+        subscribe(IN_MARCH_PERIOD);
+        sender.runAll();
+        dashboardProjectionCache.dataChanged(LocalDate.of(2025, 3, 3), LocalDate.of(2025, 3, 3));
+        sender.runAll();
+
+        verify(dashboardProjectionReader, times(1)).read(argThat(key -> IN_MARCH_PERIOD.equals(key.referenceDate())));
+    }
+
+    private RecordingEmitter subscribe(LocalDate date) {
+        return (RecordingEmitter) broadcaster.subscribe(date, ProjectionFields.ALL);
+    }
+
+    /** Executa as tarefas da "thread de envio" quando o teste pede, na ordem em que chegaram. */
+    private static final class ManualExecutor implements Executor {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    /** Guarda o que seria enviado; {@code failing} simula conexão caída. */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final boolean failing;
+        private final List<Object> sent = new ArrayList<>();
+        int attempts;
+
+        RecordingEmitter(boolean failing) {
+            this.failing = failing;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts++;
+            if (failing) {
+                throw new IOException("broken pipe");
+            }
+            builder.build().forEach(part -> sent.add(part.getData()));
+        }
+
+        List<DashboardProjection> projections() {
+            return sent.stream()
+                    .filter(DashboardProjection.class::isInstance)
+                    .map(DashboardProjection.class::cast)
+                    .toList();
+        }
+
+        List<LocalDate> referenceDates() {
+            return projections().stream().map(p -> p.getPeriod().getStart()).toList();
+        }
+
+        long comments() {
+            return sent.stream().filter(data -> data instanceof String text && text.contains("keep-alive")).count();
+        }
+    }
+}
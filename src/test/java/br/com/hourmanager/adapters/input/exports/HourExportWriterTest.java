@@ -0,0 +1,61 @@
+package br.com.hourmanager.adapters.input.exports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HourExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Test
+    @DisplayName("CSV: cabeçalho enviado na hora, valores com aspas só quando preciso")
+    void csvRows() {
+        HourExportWriter writer = new HourExportWriter(out, HourExportWriter.Format.CSV, objectMapper);
+
+        writer.header("date", "hours", "description");
+        assertThat(written()).isEqualTo("date,hours,description\n");
+
+        writer.row(null, LocalDate.of(2025, 3, 3), new BigDecimal("8.50"), "Reunião, \"planejamento\"");
+        writer.row(null, LocalDate.of(2025, 3, 4), new BigDecimal("1E+1"), null);
+        writer.flush();
+
+        assertThat(written()).isEqualTo("date,hours,description\n"
+                + "2025-03-03,8.50,\"Reunião, \"\"planejamento\"\"\"\n"
+                + "2025-03-04,10,\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON: um objeto por linha, sem cabeçalho")
+    void ndjsonRows() {
+        HourExportWriter writer = new HourExportWriter(out, HourExportWriter.Format.NDJSON, objectMapper);
+
+        writer.header("ignorado");
+        writer.row(Map.of("hours", 8));
+        writer.row(Map.of("hours", 2));
+        writer.flush();
+
+        assertThat(written()).isEqualTo("{\"hours\":8}\n{\"hours\":2}\n");
+    }
+
+    @Test
+    @DisplayName("Formato desconhecido é recusado")
+    void unknownFormat() {
+        assertThat(HourExportWriter.Format.of("csv")).isEqualTo(HourExportWriter.Format.CSV);
+        assertThatThrownBy(() -> HourExportWriter.Format.of("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String written() {
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.hourmanager.adapters.input.imports;
+
+import br.com.hourmanager.application.ports.input.data.HourImportLine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HourImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    @DisplayName("CSV: entradas e ajustes pelo cabeçalho, aspas com vírgula e quebra de linha")
+    void csvRecords() {
+        List<HourImportLine> lines = read(HourImportReader.Format.CSV, """
+                date,hours,type,description
+                2025-03-03,8,,"Reunião, planejamento"
+                2025-03-04,-1.5,adjustment,"linha 1
+                linha 2"
+
+                2025-03-05,7.25,entry,
+                """);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).getLineNumber()).isEqualTo(2);
+        assertThat(lines.get(0).getEntry().getEntryDate()).isEqualTo(LocalDate.of(2025, 3, 3));
+        assertThat(lines.get(0).getEntry().getDescription()).isEqualTo("Reunião, planejamento");
+        assertThat(lines.get(1).getAdjustment().getDeltaHours()).isEqualByComparingTo("-1.5");
+        assertThat(lines.get(1).getAdjustment().getDescription()).isEqualTo("linha 1\nlinha 2");
+        assertThat(lines.get(2).getLineNumber()).isEqualTo(6);
+        assertThat(lines.get(2).getEntry().getHours()).isEqualTo(new BigDecimal("7.25"));
+        assertThat(lines.get(2).getEntry().getDescription()).isNull();
+    }
+
+    @Test
+    @DisplayName("CSV: erros de formato e de validação por linha, sem parar a leitura")
+    void csvErrors() {
+        List<HourImportLine> lines = read(HourImportReader.Format.CSV, """
+                type,date,hours
+                entry,03/03/2025,8
+                entry,2025-03-03,0
+                adjustment,2025-03-03,0
+                entry,,
+                other,2025-03-03,1
+                entry,2025-03-04,8
+                """);
+
+        assertThat(lines).extracting(HourImportLine::isRejected).containsExactly(true, true, true, true, true, false);
+        assertThat(lines.get(0).getErrors()).containsExactly("data inválida: 03/03/2025");
+        assertThat(lines.get(1).getErrors()).containsExactly("hours must be positive");
+        assertThat(lines.get(2).getErrors()).containsExactly("deltaHours must not be zero");
+        assertThat(lines.get(3).getErrors()).containsExactly("entryDate is required", "hours is required");
+        assertThat(lines.get(4).getErrors()).containsExactly("tipo desconhecido: other");
+    }
+
+    @Test
+    @DisplayName("CSV: colunas a mais e horas inválidas rejeitadas em português")
+    void csvColumnsAndHours() {
+        List<HourImportLine> lines = read(HourImportReader.Format.CSV, """
+                date,hours
+                2025-03-03,8,extra
+                2025-03-03,oito
+                """);
+
+        assertThat(lines.get(0).getErrors()).containsExactly("esperadas no máximo 2 colunas, recebidas 3");
+        assertThat(lines.get(1).getErrors()).containsExactly("horas inválidas: oito");
+    }
+
+    @Test
+    @DisplayName("CSV: aspas sem fechamento rejeitam só a linha onde abriram")
+    void csvUnterminatedQuote_keepsFollowingRecords() {
+        List<HourImportLine> lines = read(HourImportReader.Format.CSV, """
+                date,hours,description
+                2025-03-03,8,"aberta
+                2025-03-04,7,ok
+                2025-03-05,6,
+                """);
+
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0).getLineNumber()).isEqualTo(2);
+        assertThat(lines.get(0).getErrors()).containsExactly("campo entre aspas não fechado");
+        assertThat(lines.get(1).getLineNumber()).isEqualTo(3);
+        assertThat(lines.get(1).getEntry().getDescription()).isEqualTo("ok");
+        assertThat(lines.get(2).getLineNumber()).isEqualTo(4);
+        assertThat(lines.get(2).getEntry().getEntryDate()).isEqualTo(LocalDate.of(2025, 3, 5));
+    }
+
+    @Test
+    @DisplayName("CSV: aspas abertas não acumulam além do limite; registros seguintes relidos")
+    void csvOpenQuote_isBoundedAndReplayed() {
+        String content = "date,hours,description\n2025-03-03,8,\"aberta\n" + "2025-03-04,1\n".repeat(1000);
+
+        List<HourImportLine> lines = read(HourImportReader.Format.CSV, content);
+
+        assertThat(lines).hasSize(1001);
+        assertThat(lines.get(0).getErrors()).containsExactly("campo entre aspas não fechado");
+        assertThat(lines.subList(1, 1001)).noneMatch(HourImportLine::isRejected);
+        assertThat(lines.get(1000).getLineNumber()).isEqualTo(1002);
+    }
+
+    @Test
+    @DisplayName("Linha maior que o limite -> rejeitada sem ser acumulada; leitura continua na próxima")
+    void longLine_isRejectedAndSkipped() {
+        String csv = "date,hours\n2025-03-03," + "9".repeat(3 * HourImportReader.MAX_RECORD_LENGTH) + "\n2025-03-04,8\n";
+        String ndjson = "{\"entryDate\":\"" + "x".repeat(3 * HourImportReader.MAX_RECORD_LENGTH) + "\"}\n"
+                + "{\"entryDate\":\"2025-03-04\",\"hours\":8}\n";
+
+        for (List<HourImportLine> lines : List.of(read(HourImportReader.Format.CSV, csv),
+                read(HourImportReader.Format.NDJSON, ndjson))) {
+            assertThat(lines).hasSize(2);
+            assertThat(lines.get(0).getErrors())
+                    .containsExactly("registro com mais de " + HourImportReader.MAX_RECORD_LENGTH + " caracteres");
+            assertThat(lines.get(1).isRejected()).isFalse();
+            assertThat(lines.get(1).getEntry().getEntryDate()).isEqualTo(LocalDate.of(2025, 3, 4));
+        }
+    }
+
+    @Test
+    @DisplayName("CSV com CRLF -> mesmos registros e números de linha")
+    void csvCrLf() {
+        List<HourImportLine> lines = read(HourImportReader.Format.CSV,
+                "date,hours,description\r\n2025-03-03,8,\"a\r\nb\"\r\n2025-03-04,7,\r\n");
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).getEntry().getDescription()).isEqualTo("a\nb");
+        assertThat(lines.get(1).getLineNumber()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("CSV sem date/hours no cabeçalho é recusado")
+    void csvHeaderRequired() {
+        assertThatThrownBy(() -> read(HourImportReader.Format.CSV, "date,description\n2025-03-03,x\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("NDJSON: campos das requests, type ausente = entrada, JSON inválido rejeitado")
+    void ndjsonRecords() {
+        List<HourImportLine> lines = read(HourImportReader.Format.NDJSON, """
+                {"entryDate":"2025-03-03","hours":8,"description":"dev"}
+                {"type":"adjustment","adjustmentDate":"2025-03-03","deltaHours":2}
+                {"entryDate":"2025-03-03"
+                {"entryDate":"2025-03-03","hours":-1}
+                """);
+
+        assertThat(lines).hasSize(4);
+        assertThat(lines.get(0).getEntry().getDescription()).isEqualTo("dev");
+        assertThat(lines.get(1).getAdjustment().getAdjustmentDate()).isEqualTo(LocalDate.of(2025, 3, 3));
+        assertThat(lines.get(2).getErrors()).singleElement().asString().startsWith("JSON inválido");
+        assertThat(lines.get(3).getLineNumber()).isEqualTo(4);
+        assertThat(lines.get(3).getErrors()).containsExactly("hours must be positive");
+    }
+
+    private List<HourImportLine> read(HourImportReader.Format format, String content) {
+        HourImportReader reader = new HourImportReader(new StringReader(content), format, objectMapper, validator);
+        List<HourImportLine> lines = new ArrayList<>();
+        reader.forEachRemaining(lines::add);
+        return lines;
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.hourmanager.adapters.output.holidays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryRegionalHolidayProviderTest {
+
+    private final BinaryRegionalHolidayProvider provider = new BinaryRegionalHolidayProvider();
+
+    @Test
+    @DisplayName("UF devolve só os feriados estaduais do intervalo")
+    void stateHolidays() {
+        assertThat(provider.epochDaysBetween("SP", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                .containsExactly((int) LocalDate.of(2025, 7, 9).toEpochDay());
+    }
+
+    @Test
+    @DisplayName("Município inclui os feriados da UF, em ordem")
+    void municipalityIncludesState() {
+        assertThat(provider.epochDaysBetween("SP-3550308", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                .containsExactly(
+                        (int) LocalDate.of(2025, 1, 25).toEpochDay(),
+                        (int) LocalDate.of(2025, 7, 9).toEpochDay());
+        assertThat(provider.epochDaysBetween("RJ-3304557", LocalDate.of(2025, 1, 20), LocalDate.of(2025, 4, 22)))
+                .containsExactly((int) LocalDate.of(2025, 1, 20).toEpochDay());
+    }
+
+    @Test
+    @DisplayName("Regiões suportadas: UFs e municípios compilados")
+    void supportedRegions() {
+        assertThat(provider.supports("MG")).isTrue();
+        assertThat(provider.supports("MG-3106200")).isTrue();
+        assertThat(provider.supports("MG-9999999")).isFalse();
+        assertThat(provider.supports("XX")).isFalse();
+        assertThat(provider.epochDaysBetween("XX", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))).isEmpty();
+    }
+}
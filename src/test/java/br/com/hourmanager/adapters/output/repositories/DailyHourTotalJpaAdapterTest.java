@@ -0,0 +1,76 @@
+package br.com.hourmanager.adapters.output.repositories;
+
+import br.com.hourmanager.adapters.output.repositories.jpa.DailyHourTotalJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DailyHourTotalJpaAdapterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+    @Mock
+    private DailyHourTotalJpaRepository repository;
+
+    private DailyHourTotalJpaAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new DailyHourTotalJpaAdapter(repository);
+    }
+
+    @Test
+    @DisplayName("Criação -> upsert soma horas e quantidade, sem tentar remover o dia")
+    void positiveDelta_upsertsOnly() {
+        adapter.applyDelta(DAY, new BigDecimal("8"), 1);
+
+        verify(repository).upsertDelta(DAY, new BigDecimal("8"), 1);
+        verify(repository, never()).deleteIfEmpty(any());
+    }
+
+    @Test
+    @DisplayName("Remoção -> upsert com delta negativo e depois remove o dia se ficou sem entradas")
+    void negativeDelta_upsertsThenDeletesIfEmpty() {
+        adapter.applyDelta(DAY, new BigDecimal("-8"), -1);
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).upsertDelta(DAY, new BigDecimal("-8"), -1);
+        order.verify(repository).deleteIfEmpty(DAY);
+    }
+
+    @Test
+    @DisplayName("Horas nulas -> delta de horas zero")
+    void nullHours_areZero() {
+        adapter.applyDelta(DAY, null, 1);
+
+        verify(repository).upsertDelta(DAY, BigDecimal.ZERO, 1);
+    }
+
+    @Test
+    @DisplayName("Rebuild -> apaga tudo e recria a partir de hour_entries")
+    void rebuildAll_deletesThenInserts() {
+        when(repository.insertFromHourEntries()).thenReturn(42);
+
+        int days = adapter.rebuildAll();
+
+        assertThat(days).isEqualTo(42);
+        InOrder order = inOrder(repository);
+        order.verify(repository).deleteAllRows();
+        order.verify(repository).insertFromHourEntries();
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.hourmanager.adapters.output.repositories;
+
+import br.com.hourmanager.adapters.output.repositories.jpa.HourEntryJpaRepository;
+import br.com.hourmanager.adapters.output.repositories.protocols.HourEntryEntity;
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HourEntryJpaAdapterTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 21);
+    private static final LocalDate END = LocalDate.of(2025, 2, 20);
+
+    @Mock
+    private HourEntryJpaRepository repository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private SystemConfigRepository systemConfigRepository;
+
+    private HourEntryJpaAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new HourEntryJpaAdapter(repository, entityManager, systemConfigRepository, new PeriodCalendarProvider(10));
+    }
+
+    @Test
+    @DisplayName("Stream por intervalo -> converte na ordem do cursor e desanexa cada entidade ao consumir")
+    void streamByEntryDateBetween_mapsAndDetachesLazily() {
+        HourEntryEntity first = entity(START, "8");
+        HourEntryEntity second = entity(START.plusDays(1), "7.5");
+        when(repository.streamByEntryDateBetween(START, END)).thenReturn(Stream.of(first, second));
+
+        try (Stream<HourEntry> entries = adapter.streamByEntryDateBetween(START, END)) {
+            verify(entityManager, never()).detach(any());
+
+            List<HourEntry> read = entries.toList();
+
+            assertThat(read).extracting(HourEntry::getId).containsExactly(first.getId(), second.getId());
+            assertThat(read).extracting(HourEntry::getEntryDate).containsExactly(START, START.plusDays(1));
+            assertThat(read.get(1).getHours()).isEqualByComparingTo("7.5");
+            assertThat(read.get(0).getDescription()).isEqualTo("desc");
+        }
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    @Test
+    @DisplayName("Fechar o stream de domínio fecha o cursor do repositório")
+    void closingStream_closesCursor() {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(repository.streamAll()).thenReturn(Stream.of(entity(START, "8")).onClose(() -> closed.set(true)));
+
+        try (Stream<HourEntry> entries = adapter.streamAll()) {
+            assertThat(entries.count()).isEqualTo(1);
+        }
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("Stream pela chave period_start -> mesma conversão")
+    void streamByPeriodStart_mapsAndDetaches() {
+        HourEntryEntity entry = entity(START.plusDays(3), "4");
+        when(repository.streamByPeriodStart(START)).thenReturn(Stream.of(entry));
+
+        try (Stream<HourEntry> entries = adapter.streamByPeriodStart(START)) {
+            assertThat(entries.toList()).singleElement()
+                    .extracting(HourEntry::getEntryDate)
+                    .isEqualTo(START.plusDays(3));
+        }
+        verify(entityManager, times(1)).detach(entry);
+    }
+
+    @Test
+    @DisplayName("Cursor vazio -> stream vazio, nada desanexado")
+    void emptyCursor() {
+        when(repository.streamByEntryDateBetween(START, END)).thenReturn(Stream.empty());
+
+        try (Stream<HourEntry> entries = adapter.streamByEntryDateBetween(START, END)) {
+            assertThat(entries).isEmpty();
+        }
+        verify(entityManager, never()).detach(any());
+    }
+
+    private static HourEntryEntity entity(LocalDate date, String hours) {
+        return HourEntryEntity.builder()
+                .id(UUID.randomUUID())
+                .entryDate(date)
+                .hours(new BigDecimal(hours))
+                .description("desc")
+                .periodStart(START)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.hourmanager.application.core.calculation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Diferencial: cada conta em centésimos deve dar exatamente o mesmo resultado da versão anterior em BigDecimal.
+ */
+class CentiHoursTest {
+
+    private static final BigDecimal HOURS_IN_FULL_WEEK = new BigDecimal("168");
+    private static final BigDecimal HOURS_IN_FULL_MONTH = new BigDecimal("720");
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    @DisplayName("divideHalfUp arredonda como RoundingMode.HALF_UP, inclusive negativos")
+    void divideHalfUp_matchesBigDecimal() {
+        Random random = new Random(1);
+        for (int i = 0; i < SAMPLES; i++) {
+            long n = random.nextInt(2_000_001) - 1_000_000;
+            long d = random.nextInt(400) + 1;
+            if (random.nextBoolean()) d = -d;
+            long expected = BigDecimal.valueOf(n).divide(BigDecimal.valueOf(d), 0, RoundingMode.HALF_UP).longValueExact();
+            assertThat(CentiHours.divideHalfUp(n, d)).as("%d / %d", n, d).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Disponibilidade do segmento igual à conta BigDecimal (divide 4 casas, multiply, setScale 2)")
+    void availableForSegment_matchesBigDecimal() {
+        Random random = new Random(2);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal expected = BigDecimal.valueOf(random.nextInt(8_000) + 1, 2);
+            long days = random.nextInt(7) + 1;
+            BigDecimal legacy = expected
+                    .divide(HOURS_IN_FULL_WEEK, 4, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(24 * days))
+                    .setScale(2, RoundingMode.HALF_UP);
+            assertThat(CentiHours.availableForSegment(CentiHours.of(expected), days))
+                    .as("%s h/semana, %d dias", expected, days)
+                    .isEqualTo(CentiHours.of(legacy));
+        }
+    }
+
+    @Test
+    @DisplayName("Máximo do mês cheio igual à conta BigDecimal (× 720 / 168, 2 casas)")
+    void fullMonthMax_matchesBigDecimal() {
+        Random random = new Random(3);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal expected = BigDecimal.valueOf(random.nextInt(8_000) + 1, 2);
+            BigDecimal legacy = expected.multiply(HOURS_IN_FULL_MONTH).divide(HOURS_IN_FULL_WEEK, 2, RoundingMode.HALF_UP);
+            assertThat(CentiHours.fullMonthMax(CentiHours.of(expected))).isEqualTo(CentiHours.of(legacy));
+        }
+    }
+
+    @Test
+    @DisplayName("Ritmo, projeção e razão da meta iguais às contas BigDecimal")
+    void goalProjection_matchesBigDecimal() {
+        Random random = new Random(4);
+        for (int i = 0; i < SAMPLES; i++) {
+            BigDecimal balance = BigDecimal.valueOf(random.nextInt(60_001) - 10_000, 2);
+            long daysElapsed = random.nextInt(31) + 1;
+            long totalDays = 28 + random.nextInt(4);
+            BigDecimal target = BigDecimal.valueOf(random.nextInt(20_000) + 1, 2);
+
+            BigDecimal legacyRate = balance.divide(BigDecimal.valueOf(daysElapsed), 2, RoundingMode.HALF_UP);
+            BigDecimal legacyProjected = legacyRate.multiply(BigDecimal.valueOf(totalDays)).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal legacyRatio = legacyProjected.divide(target, 4, RoundingMode.HALF_UP);
+
+            long rate = CentiHours.divideHalfUp(CentiHours.of(balance), daysElapsed);
+            long projected = rate * totalDays;
+            long ratio = CentiHours.ratio(projected, CentiHours.of(target));
+
+            assertThat(rate).isEqualTo(CentiHours.of(legacyRate));
+            assertThat(projected).isEqualTo(CentiHours.of(legacyProjected));
+            assertThat(ratio).isEqualTo(legacyRatio.movePointRight(4).longValueExact());
+        }
+    }
+
+    @Test
+    @DisplayName("Conversão ida e volta preserva valores DECIMAL(10,2)")
+    void roundTrip() {
+        assertThat(CentiHours.of(new BigDecimal("6.5"))).isEqualTo(650);
+        assertThat(CentiHours.of(new BigDecimal("-2"))).isEqualTo(-200);
+        assertThat(CentiHours.of(null)).isZero();
+        assertThat(CentiHours.toBigDecimal(2250)).isEqualByComparingTo("22.5");
+    }
+}
@@ -0,0 +1,126 @@
+package br.com.hourmanager.application.core.calculation;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DailyHoursStatisticsTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+    private static final int WINDOW = 70;
+    private static final int SPAN = 14;
+
+    @Mock
+    private DailyHourTotalRepository dailyHourTotalRepository;
+
+    @Test
+    @DisplayName("Médias por dia da semana, só com dias encerrados depois do primeiro dia com horas")
+    void weekdayMeans() {
+        // 2025-03-03 (segunda) a 2025-03-09 (domingo): 8h nos dias úteis, 2h no sábado; hoje não conta
+        List<DailyHourTotal> rows = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rows.add(daily(LocalDate.of(2025, 3, 3).plusDays(i), new BigDecimal("8")));
+        }
+        rows.add(daily(LocalDate.of(2025, 3, 8), new BigDecimal("2")));
+        rows.add(daily(TODAY, new BigDecimal("12")));
+        when(dailyHourTotalRepository.findAll()).thenReturn(rows);
+
+        DailyHoursStatistics.Snapshot stats = new DailyHoursStatistics(dailyHourTotalRepository, WINDOW, SPAN, () -> TODAY)
+                .snapshot().orElseThrow();
+
+        assertThat(stats.sampleDays()).isEqualTo(7);
+        assertThat(stats.mean()[0]).isEqualTo(800);
+        assertThat(stats.mean()[5]).isEqualTo(200);
+        assertThat(stats.mean()[6]).isZero();
+        assertThat(stats.variance()[0]).isZero();
+        assertThat(stats.overallMean()).isCloseTo(600, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Deltas e viradas de dia dão o mesmo resultado de recarregar o histórico")
+    void incrementalMatchesReload() {
+        Random random = new Random(11);
+        LocalDate first = TODAY.minusDays(300);
+        long[] centi = new long[400];
+        List<DailyHourTotal> rows = new ArrayList<>();
+        for (int i = 20; i < 300; i++) {
+            if (random.nextInt(4) > 0) {
+                centi[i] = 1 + random.nextInt(1000);
+                rows.add(daily(first.plusDays(i), CentiHours.toBigDecimal(centi[i])));
+            }
+        }
+        when(dailyHourTotalRepository.findAll()).thenReturn(rows);
+        AtomicReference<LocalDate> today = new AtomicReference<>(TODAY);
+        DailyHoursStatistics statistics = new DailyHoursStatistics(dailyHourTotalRepository, WINDOW, SPAN, today::get);
+        statistics.snapshot();
+
+        for (int round = 0; round < 200; round++) {
+            int day = random.nextInt(centi.length);
+            long delta = 1 + random.nextInt(600);
+            statistics.beginWrite();
+            statistics.endWrite(first.plusDays(day), delta, true);
+            centi[day] += delta;
+            if (round % 40 == 0) {
+                today.set(today.get().plusDays(random.nextInt(5)));
+            }
+        }
+
+        DailyHoursStatistics.Snapshot incremental = statistics.snapshot().orElseThrow();
+        DailyHoursStatistics.Snapshot reloaded = new DailyHoursStatistics(reloadedRepository(first, centi), WINDOW, SPAN, today::get)
+                .snapshot().orElseThrow();
+
+        assertThat(incremental.days()).containsExactly(reloaded.days());
+        for (int w = 0; w < 7; w++) {
+            assertThat(incremental.mean()[w]).isCloseTo(reloaded.mean()[w], within(1e-6));
+            assertThat(incremental.variance()[w]).isCloseTo(reloaded.variance()[w], within(1e-3));
+        }
+        assertThat(incremental.ewma()).isCloseTo(reloaded.ewma(), within(1e-6));
+        verify(dailyHourTotalRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Com escrita em andamento a carga não é feita")
+    void writeInFlightSkipsLoad() {
+        DailyHoursStatistics statistics = new DailyHoursStatistics(dailyHourTotalRepository, WINDOW, SPAN, () -> TODAY);
+
+        statistics.beginWrite();
+
+        assertThat(statistics.snapshot()).isEmpty();
+        verify(dailyHourTotalRepository, times(0)).findAll();
+    }
+
+    private static DailyHourTotalRepository reloadedRepository(LocalDate first, long[] centi) {
+        List<DailyHourTotal> rows = new ArrayList<>();
+        for (int i = 0; i < centi.length; i++) {
+            if (centi[i] != 0) {
+                rows.add(daily(first.plusDays(i), CentiHours.toBigDecimal(centi[i])));
+            }
+        }
+        DailyHourTotalRepository repository = mock(DailyHourTotalRepository.class);
+        when(repository.findAll()).thenReturn(rows);
+        return repository;
+    }
+
+    private static DailyHourTotal daily(LocalDate date, BigDecimal hours) {
+        return DailyHourTotal.builder().entryDate(date).hours(hours).entryCount(1).build();
+    }
+}
@@ -0,0 +1,152 @@
+package br.com.hourmanager.application.core.calculation;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HourSumIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private DailyHourTotalRepository dailyHourTotalRepository;
+
+    @Test
+    @DisplayName("Somas de intervalos aleatórios batem com a soma direta, inclusive após deltas")
+    void matchesNaiveSum() {
+        Random random = new Random(7);
+        LocalDate first = LocalDate.of(2024, 1, 1);
+        long[] centi = new long[500];
+        List<DailyHourTotal> rows = new ArrayList<>();
+        for (int i = 0; i < centi.length; i++) {
+            if (random.nextInt(3) > 0) {
+                centi[i] = random.nextInt(1200);
+                rows.add(daily(first.plusDays(i), CentiHours.toBigDecimal(centi[i])));
+            }
+        }
+        when(dailyHourTotalRepository.findAll()).thenReturn(rows);
+        HourSumIndex index = new HourSumIndex(dailyHourTotalRepository, () -> TODAY);
+        index.sumBetween(first, first);
+
+        for (int round = 0; round < 300; round++) {
+            if (round % 3 == 0) {
+                int day = random.nextInt(centi.length);
+                long delta = random.nextInt(800) - 200;
+                index.beginWrite();
+                index.endWrite(first.plusDays(day), delta, true);
+                centi[day] += delta;
+            }
+            int from = random.nextInt(centi.length);
+            int to = from + random.nextInt(centi.length - from);
+            long expected = 0;
+            for (int i = from; i <= to; i++) {
+                expected += centi[i];
+            }
+            assertThat(index.sumBetween(first.plusDays(from), first.plusDays(to)))
+                    .isEqualByComparingTo(CentiHours.toBigDecimal(expected));
+        }
+        verify(dailyHourTotalRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Transação desfeita não altera o índice")
+    void rollbackIsIgnored() {
+        when(dailyHourTotalRepository.findAll()).thenReturn(List.of(daily(TODAY, new BigDecimal("8"))));
+        HourSumIndex index = new HourSumIndex(dailyHourTotalRepository, () -> TODAY);
+        index.sumBetween(TODAY, TODAY);
+
+        index.beginWrite();
+        index.endWrite(TODAY, 400, false);
+
+        assertThat(index.sumBetween(TODAY.minusDays(5), TODAY.plusDays(5))).isEqualByComparingTo("8");
+    }
+
+    @Test
+    @DisplayName("Com escrita em andamento a carga não é feita e a soma vem do rollup")
+    void writeInFlightFallsBackToRollup() {
+        when(dailyHourTotalRepository.findBetween(TODAY, TODAY)).thenReturn(List.of(daily(TODAY, new BigDecimal("6.5"))));
+        HourSumIndex index = new HourSumIndex(dailyHourTotalRepository, () -> TODAY);
+
+        index.beginWrite();
+
+        assertThat(index.sumBetween(TODAY, TODAY)).isEqualByComparingTo("6.5");
+        verify(dailyHourTotalRepository, times(0)).findAll();
+    }
+
+    @Test
+    @DisplayName("Delta fora da faixa coberta descarta o índice, que é recarregado")
+    void deltaOutsideRangeReloads() {
+        LocalDate farFuture = TODAY.plusYears(5);
+        when(dailyHourTotalRepository.findAll())
+                .thenReturn(List.of(daily(TODAY, new BigDecimal("8"))))
+                .thenReturn(List.of(daily(TODAY, new BigDecimal("8")), daily(farFuture, new BigDecimal("2"))));
+        HourSumIndex index = new HourSumIndex(dailyHourTotalRepository, () -> TODAY);
+        index.sumBetween(TODAY, TODAY);
+
+        index.beginWrite();
+        index.endWrite(farFuture, 200, true);
+
+        assertThat(index.sumBetween(TODAY, farFuture)).isEqualByComparingTo("10");
+        verify(dailyHourTotalRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("Datas absurdas ficam fora do índice: soma dentro da janela sem consulta, fora dela pelo rollup")
+    void farDatesStayOutOfIndex() {
+        LocalDate farFuture = LocalDate.of(9999, 12, 31);
+        LocalDate farPast = LocalDate.MIN;
+        when(dailyHourTotalRepository.findAll()).thenReturn(List.of(
+                daily(TODAY, new BigDecimal("8")),
+                daily(farFuture, new BigDecimal("5")),
+                daily(farPast, new BigDecimal("3"))));
+        when(dailyHourTotalRepository.findBetween(TODAY.plusYears(20).plusDays(1), farFuture))
+                .thenReturn(List.of(daily(farFuture, new BigDecimal("5"))));
+        when(dailyHourTotalRepository.findBetween(farPast, TODAY.minusYears(20).minusDays(1)))
+                .thenReturn(List.of(daily(farPast, new BigDecimal("3"))));
+        HourSumIndex index = new HourSumIndex(dailyHourTotalRepository, () -> TODAY);
+
+        assertThat(index.sumBetween(TODAY.minusYears(1), TODAY.plusYears(1))).isEqualByComparingTo("8");
+        verify(dailyHourTotalRepository, never()).findBetween(any(), any());
+
+        assertThat(index.sumBetween(TODAY, farFuture)).isEqualByComparingTo("13");
+        assertThat(index.sumBetween(farPast, farFuture)).isEqualByComparingTo("16");
+        verify(dailyHourTotalRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Delta em data fora da janela não descarta o índice")
+    void deltaOutsideWindowKeepsIndex() {
+        LocalDate farFuture = LocalDate.of(9999, 12, 31);
+        when(dailyHourTotalRepository.findAll()).thenReturn(List.of(daily(TODAY, new BigDecimal("8"))));
+        HourSumIndex index = new HourSumIndex(dailyHourTotalRepository, () -> TODAY);
+        index.sumBetween(TODAY, TODAY);
+
+        index.beginWrite();
+        index.endWrite(farFuture, 200, true);
+
+        assertThat(index.sumBetween(TODAY, TODAY)).isEqualByComparingTo("8");
+        verify(dailyHourTotalRepository, times(1)).findAll();
+    }
+
+    private static DailyHourTotal daily(LocalDate date, BigDecimal hours) {
+        return DailyHourTotal.builder().entryDate(date).hours(hours).entryCount(1).build();
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.hourmanager.application.core.calculation;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.PeriodAdjustmentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PeriodCalculationCacheTest {
+
+    private static final LocalDate START = LocalDate.of(2030, 1, 21);
+    private static final LocalDate END = LocalDate.of(2030, 2, 20);
+    private static final PeriodBounds BOUNDS = PeriodBounds.builder().start(START).end(END).build();
+    private static final BigDecimal EXPECTED = new BigDecimal("40");
+
+    @Mock
+    private DailyHourTotalRepository dailyHourTotalRepository;
+
+    @Mock
+    private PeriodAdjustmentRepository periodAdjustmentRepository;
+
+    private PeriodCalculationCache cache;
+    private PeriodCalculationService service;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PeriodCalculationCache();
+        service = new PeriodCalculationService(dailyHourTotalRepository, periodAdjustmentRepository, null, cache);
+        when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(
+                daily(LocalDate.of(2030, 1, 22), "8"),
+                daily(LocalDate.of(2030, 2, 10), "6.5")
+        ));
+        when(periodAdjustmentRepository.getAdjustment(START, END)).thenReturn(Optional.of(new BigDecimal("2")));
+    }
+
+    @Test
+    @DisplayName("Deltas de entrada e ajuste chegam ao resultado sem recalcular a partir do rollup")
+    void appliesDeltasWithoutReload() {
+        service.computeWithWeeklyBreakdown(BOUNDS, EXPECTED, null);
+
+        cache.beginWrite();
+        cache.endEntryWrite(LocalDate.of(2030, 2, 10), 150, true);
+        cache.beginWrite();
+        cache.endEntryWrite(LocalDate.of(2030, 1, 22), -800, true);
+        cache.beginWrite();
+        cache.endAdjustmentWrite(BOUNDS, -350, true);
+
+        PeriodCalculationResult cached = service.computeWithWeeklyBreakdown(BOUNDS, EXPECTED, null);
+        assertThat(cached.getSummary().getTotalWorked()).isEqualByComparingTo("8");
+        assertThat(cached.getSummary().getBalance()).isEqualByComparingTo("4.5");
+        assertThat(cached.getWeeks().get(0).getTotalWorked()).isEqualByComparingTo("0");
+        assertThat(cached.getWeeks().get(3).getTotalWorked()).isEqualByComparingTo("8");
+        verify(dailyHourTotalRepository, times(1)).findBetween(START, END);
+    }
+
+    @Test
+    @DisplayName("Resultado com delta é igual ao recálculo do zero")
+    void deltaMatchesRecompute() {
+        service.computeWithWeeklyBreakdown(BOUNDS, EXPECTED, null);
+        cache.beginWrite();
+        cache.endEntryWrite(LocalDate.of(2030, 2, 20), 425, true);
+
+        when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(
+                daily(LocalDate.of(2030, 1, 22), "8"),
+                daily(LocalDate.of(2030, 2, 10), "6.5"),
+                daily(END, "4.25")
+        ));
+        PeriodCalculationResult live = service.computeLive(BOUNDS, EXPECTED);
+        PeriodCalculationResult cached = service.computeWithWeeklyBreakdown(BOUNDS, EXPECTED, null);
+
+        assertThat(cached).isEqualTo(live);
+    }
+
+    @Test
+    @DisplayName("Rollback não altera o cache")
+    void rollbackIgnored() {
+        service.computeWithWeeklyBreakdown(BOUNDS, EXPECTED, null);
+        cache.beginWrite();
+        cache.endEntryWrite(LocalDate.of(2030, 2, 10), 500, false);
+
+        assertThat(service.compute(BOUNDS).getTotalWorked()).isEqualByComparingTo("14.5");
+    }
+
+    @Test
+    @DisplayName("Cálculo feito com escrita em andamento não é guardado")
+    void loadDuringWriteIsNotCached() {
+        cache.beginWrite();
+        service.computeWithWeeklyBreakdown(BOUNDS, EXPECTED, null);
+        cache.endEntryWrite(LocalDate.of(2030, 2, 10), 100, true);
+
+        assertThat(cache.get(BOUNDS)).isEmpty();
+    }
+
+    private static DailyHourTotal daily(LocalDate date, String hours) {
+        return DailyHourTotal.builder().entryDate(date).hours(new BigDecimal(hours)).entryCount(1).build();
+    }
+}
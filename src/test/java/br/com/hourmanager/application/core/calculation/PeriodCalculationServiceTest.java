@@ -1,9 +1,11 @@
 package br.com.hourmanager.application.core.calculation;
 
-import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
 import br.com.hourmanager.application.core.period.PeriodBounds;
-import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshot;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
 import br.com.hourmanager.application.ports.output.repositories.PeriodAdjustmentRepository;
+import br.com.hourmanager.application.ports.output.repositories.PeriodSnapshotRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,13 +15,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,16 +34,19 @@ class PeriodCalculationServiceTest {
     private static final PeriodBounds BOUNDS = PeriodBounds.builder().start(START).end(END).build();
 
     @Mock
-    private HourEntryRepository hourEntryRepository;
+    private DailyHourTotalRepository dailyHourTotalRepository;
 
     @Mock
     private PeriodAdjustmentRepository periodAdjustmentRepository;
 
+    @Mock
+    private PeriodSnapshotRepository periodSnapshotRepository;
+
     private PeriodCalculationService service;
 
     @BeforeEach
     void setUp() {
-        service = new PeriodCalculationService(hourEntryRepository, periodAdjustmentRepository);
+        service = new PeriodCalculationService(dailyHourTotalRepository, periodAdjustmentRepository);
     }
 
     @Nested
@@ -49,7 +56,7 @@ class PeriodCalculationServiceTest {
         @Test
         @DisplayName("Sem entradas nem ajustes -> totais e saldo zero")
         void noData_returnsZeros() {
-            when(hourEntryRepository.findByEntryDateBetween(any(), any())).thenReturn(List.of());
+            when(dailyHourTotalRepository.findBetween(any(), any())).thenReturn(List.of());
             when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.empty());
 
             PeriodBalance result = service.compute(BOUNDS);
@@ -65,10 +72,10 @@ class PeriodCalculationServiceTest {
     class OnlyEntries {
 
         @Test
-        @DisplayName("Uma entrada -> total trabalhado e saldo iguais")
+        @DisplayName("Um dia com horas -> total trabalhado e saldo iguais")
         void singleEntry() {
-            when(hourEntryRepository.findByEntryDateBetween(any(), any())).thenReturn(List.of(
-                    entry(START, "8")
+            when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(
+                    daily(START, "8")
             ));
             when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.empty());
 
@@ -80,12 +87,12 @@ class PeriodCalculationServiceTest {
         }
 
         @Test
-        @DisplayName("Várias entradas -> soma correta")
+        @DisplayName("Vários dias -> soma correta")
         void multipleEntries() {
-            when(hourEntryRepository.findByEntryDateBetween(any(), any())).thenReturn(List.of(
-                    entry(LocalDate.of(2025, 1, 22), "8"),
-                    entry(LocalDate.of(2025, 1, 23), "6.5"),
-                    entry(LocalDate.of(2025, 2, 10), "8")
+            when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(
+                    daily(LocalDate.of(2025, 1, 22), "8"),
+                    daily(LocalDate.of(2025, 1, 23), "6.5"),
+                    daily(LocalDate.of(2025, 2, 10), "8")
             ));
             when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.empty());
 
@@ -104,7 +111,7 @@ class PeriodCalculationServiceTest {
         @Test
         @DisplayName("Ajuste positivo (saldo inicial) -> total ajustado e saldo iguais")
         void singlePositiveAdjustment() {
-            when(hourEntryRepository.findByEntryDateBetween(any(), any())).thenReturn(List.of());
+            when(dailyHourTotalRepository.findBetween(any(), any())).thenReturn(List.of());
             when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.of(new BigDecimal("40")));
 
             PeriodBalance result = service.compute(BOUNDS);
@@ -117,7 +124,7 @@ class PeriodCalculationServiceTest {
         @Test
         @DisplayName("Ajuste negativo (correção)")
         void singleNegativeAdjustment() {
-            when(hourEntryRepository.findByEntryDateBetween(any(), any())).thenReturn(List.of());
+            when(dailyHourTotalRepository.findBetween(any(), any())).thenReturn(List.of());
             when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.of(new BigDecimal("-2")));
 
             PeriodBalance result = service.compute(BOUNDS);
@@ -130,7 +137,7 @@ class PeriodCalculationServiceTest {
         @Test
         @DisplayName("Vários ajustes (positivos e negativos)")
         void multipleAdjustments() {
-            when(hourEntryRepository.findByEntryDateBetween(any(), any())).thenReturn(List.of());
+            when(dailyHourTotalRepository.findBetween(any(), any())).thenReturn(List.of());
             when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.of(new BigDecimal("38")));
 
             PeriodBalance result = service.compute(BOUNDS);
@@ -148,10 +155,10 @@ class PeriodCalculationServiceTest {
         @Test
         @DisplayName("Entradas + ajustes -> saldo = total trabalhado + total ajustado")
         void combined() {
-            when(hourEntryRepository.findByEntryDateBetween(any(), any())).thenReturn(List.of(
-                    entry(LocalDate.of(2025, 1, 22), "8"),
-                    entry(LocalDate.of(2025, 1, 23), "6.5"),
-                    entry(LocalDate.of(2025, 2, 10), "8")
+            when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(
+                    daily(LocalDate.of(2025, 1, 22), "8"),
+                    daily(LocalDate.of(2025, 1, 23), "6.5"),
+                    daily(LocalDate.of(2025, 2, 10), "8")
             ));
             when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.of(new BigDecimal("38")));
 
@@ -165,9 +172,9 @@ class PeriodCalculationServiceTest {
         @Test
         @DisplayName("Precisão decimal preservada")
         void decimalPrecision() {
-            when(hourEntryRepository.findByEntryDateBetween(any(), any())).thenReturn(List.of(
-                    entry(START, "7.25"),
-                    entry(LocalDate.of(2025, 1, 22), "4.75")
+            when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(
+                    daily(START, "7.25"),
+                    daily(LocalDate.of(2025, 1, 22), "4.75")
             ));
             when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.of(new BigDecimal("0.5")));
 
@@ -179,6 +186,102 @@ class PeriodCalculationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Breakdown semanal a partir dos totais diários")
+    class WeeklyBreakdown {
+
+        @Test
+        @DisplayName("Totais diários são distribuídos nos segmentos e somados no período")
+        void dailyTotalsFoldedIntoSegments() {
+            when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(
+                    daily(LocalDate.of(2025, 1, 22), "8"),
+                    daily(LocalDate.of(2025, 1, 23), "6.5"),
+                    daily(LocalDate.of(2025, 2, 10), "8")
+            ));
+            when(periodAdjustmentRepository.getAdjustment(any(), any())).thenReturn(Optional.of(new BigDecimal("38")));
+
+            PeriodCalculationResult result = service.computeWithWeeklyBreakdown(BOUNDS, null, Set.of());
+
+            assertThat(result.getWeeks()).hasSize(5);
+            assertThat(result.getWeeks().get(0).getTotalWorked()).isEqualByComparingTo("14.5");
+            assertThat(result.getWeeks().get(1).getTotalWorked()).isEqualByComparingTo("0");
+            assertThat(result.getWeeks().get(2).getTotalWorked()).isEqualByComparingTo("0");
+            assertThat(result.getWeeks().get(3).getTotalWorked()).isEqualByComparingTo("8");
+            assertThat(result.getWeeks().get(4).getTotalWorked()).isEqualByComparingTo("0");
+            assertThat(result.getSummary().getTotalWorked()).isEqualByComparingTo("22.5");
+            assertThat(result.getSummary().getBalance()).isEqualByComparingTo("60.5");
+        }
+    }
+
+    @Nested
+    @DisplayName("Período encerrado com snapshot")
+    class FrozenPeriod {
+
+        @Test
+        @DisplayName("Totais e semanas vêm do snapshot, sem ler rollup nem ajuste")
+        void readsFromSnapshot() {
+            PeriodCalculationService withSnapshots =
+                    new PeriodCalculationService(dailyHourTotalRepository, periodAdjustmentRepository, periodSnapshotRepository);
+            when(periodSnapshotRepository.find(START, END)).thenReturn(Optional.of(PeriodSnapshot.builder()
+                    .periodStart(START)
+                    .periodEnd(END)
+                    .totalWorked(new BigDecimal("22.5"))
+                    .totalAdjusted(new BigDecimal("38"))
+                    .weeks(List.of(PeriodSnapshot.WeekTotal.builder()
+                            .weekStart(START)
+                            .weekEnd(LocalDate.of(2025, 1, 25))
+                            .totalWorked(new BigDecimal("14.5"))
+                            .build()))
+                    .frozenAt(Instant.now())
+                    .build()));
+
+            PeriodCalculationResult result = withSnapshots.computeWithWeeklyBreakdown(BOUNDS, new BigDecimal("40"), Set.of());
+
+            assertThat(result.getSummary().getBalance()).isEqualByComparingTo("60.5");
+            assertThat(result.getWeeks()).hasSize(1);
+            assertThat(result.getWeeks().get(0).getTotalWorked()).isEqualByComparingTo("14.5");
+            assertThat(result.getWeeks().get(0).getHoursAvailable()).isEqualByComparingTo("28.57");
+            verifyNoInteractions(dailyHourTotalRepository, periodAdjustmentRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("Histórico de vários períodos")
+    class History {
+
+        @Test
+        @DisplayName("Uma leitura por fonte e cada linha atribuída ao seu período")
+        void mergesRowsIntoPeriods() {
+            PeriodBounds january = PeriodBounds.builder()
+                    .start(LocalDate.of(2024, 12, 21)).end(LocalDate.of(2025, 1, 20)).build();
+            List<PeriodBounds> periods = List.of(january, BOUNDS);
+            when(dailyHourTotalRepository.findBetween(january.getStart(), END)).thenReturn(List.of(
+                    daily(LocalDate.of(2024, 12, 23), "8"),
+                    daily(LocalDate.of(2025, 1, 20), "4"),
+                    daily(START, "7.5"),
+                    daily(END, "0.25")
+            ));
+            when(periodAdjustmentRepository.findByPeriodStartBetween(january.getStart(), END)).thenReturn(List.of(
+                    new PeriodAdjustmentRepository.PeriodAdjustmentValue(START, END, new BigDecimal("-2"))
+            ));
+
+            List<PeriodBalance> history = service.computeHistory(periods);
+
+            assertThat(history).hasSize(2);
+            assertThat(history.get(0).getTotalWorked()).isEqualByComparingTo("12");
+            assertThat(history.get(0).getTotalAdjusted()).isEqualByComparingTo("0");
+            assertThat(history.get(1).getTotalWorked()).isEqualByComparingTo("7.75");
+            assertThat(history.get(1).getBalance()).isEqualByComparingTo("5.75");
+        }
+
+        @Test
+        @DisplayName("Lista vazia não consulta repositórios")
+        void emptyPeriods() {
+            assertThat(service.computeHistory(List.of())).isEmpty();
+            verifyNoInteractions(dailyHourTotalRepository, periodAdjustmentRepository);
+        }
+    }
+
     @Nested
     @DisplayName("PeriodBalance.of")
     class PeriodBalanceFactory {
@@ -194,12 +297,11 @@ class PeriodCalculationServiceTest {
         }
     }
 
-    private static HourEntry entry(LocalDate date, String hours) {
-        return HourEntry.builder()
-                .id(UUID.randomUUID())
+    private static DailyHourTotal daily(LocalDate date, String hours) {
+        return DailyHourTotal.builder()
                 .entryDate(date)
                 .hours(new BigDecimal(hours))
-                .description("")
+                .entryCount(1)
                 .build();
     }
 }
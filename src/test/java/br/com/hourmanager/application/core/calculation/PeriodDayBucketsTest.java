@@ -0,0 +1,52 @@
+package br.com.hourmanager.application.core.calculation;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PeriodDayBucketsTest {
+
+    private static final PeriodBounds BOUNDS = PeriodBounds.builder()
+            .start(LocalDate.of(2025, 1, 21))
+            .end(LocalDate.of(2025, 2, 20))
+            .build();
+
+    @Test
+    @DisplayName("Cada dia do rollup cai no seu slot; soma por segmento igual à soma direta")
+    void fromDailyTotals_sumsPerSegment() {
+        PeriodDayBuckets buckets = PeriodDayBuckets.fromDailyTotals(BOUNDS, List.of(
+                daily(LocalDate.of(2025, 1, 22), "8"),
+                daily(LocalDate.of(2025, 1, 23), "6.5"),
+                daily(LocalDate.of(2025, 2, 10), "8")
+        ));
+
+        assertThat(buckets.size()).isEqualTo(31);
+        assertThat(buckets.centiOn(LocalDate.of(2025, 1, 22))).isEqualTo(800);
+        assertThat(buckets.sumCentiBetween(LocalDate.of(2025, 1, 21), LocalDate.of(2025, 1, 25))).isEqualTo(1450);
+        assertThat(buckets.sumCentiBetween(LocalDate.of(2025, 2, 9), LocalDate.of(2025, 2, 15))).isEqualTo(800);
+        assertThat(buckets.sumCentiBetween(BOUNDS.getStart(), BOUNDS.getEnd())).isEqualTo(2250);
+    }
+
+    @Test
+    @DisplayName("Datas fora do período e horas nulas são ignoradas")
+    void fromDailyTotals_ignoresOutOfRange() {
+        PeriodDayBuckets buckets = PeriodDayBuckets.fromDailyTotals(BOUNDS, List.of(
+                daily(LocalDate.of(2025, 1, 20), "8"),
+                daily(LocalDate.of(2025, 2, 21), "8"),
+                DailyHourTotal.builder().entryDate(LocalDate.of(2025, 1, 21)).build()
+        ));
+
+        assertThat(buckets.sumCentiBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 31))).isZero();
+    }
+
+    private static DailyHourTotal daily(LocalDate date, String hours) {
+        return DailyHourTotal.builder().entryDate(date).hours(new BigDecimal(hours)).entryCount(1).build();
+    }
+}
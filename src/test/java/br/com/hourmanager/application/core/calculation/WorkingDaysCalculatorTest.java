@@ -1,9 +1,15 @@
 package br.com.hourmanager.application.core.calculation;
 
+import br.com.hourmanager.application.core.holidays.HolidayCalendar;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,4 +50,53 @@ class WorkingDaysCalculatorTest {
         );
         assertThat(count).isEqualTo(5);
     }
+
+    @Test
+    @DisplayName("Propriedade: fórmula fechada igual ao laço dia a dia para intervalos e feriados aleatórios")
+    void countWorkingDays_matchesDayByDayLoop() {
+        Random random = new Random(20250121);
+        LocalDate base = LocalDate.of(2015, 1, 1);
+        for (int trial = 0; trial < 2_000; trial++) {
+            LocalDate start = base.plusDays(random.nextInt(4_000));
+            LocalDate end = start.plusDays(random.nextInt(4_000) - 10); // inclui intervalos vazios
+            Set<LocalDate> holidays = new HashSet<>();
+            Map<LocalDate, Boolean> overrides = new HashMap<>();
+            for (int i = random.nextInt(30); i > 0; i--) {
+                LocalDate day = start.plusDays(random.nextInt(4_020) - 10); // inclui feriados fora do intervalo
+                holidays.add(day);
+                overrides.put(day, random.nextBoolean());
+            }
+            HolidayCalendar calendar = HolidayCalendar.build(base.minusYears(1), base.plusYears(20), overrides);
+
+            assertThat(WorkingDaysCalculator.countWorkingDays(start, end, holidays))
+                    .as("%s a %s", start, end)
+                    .isEqualTo(countByLoop(start, end, holidays));
+            assertThat(WorkingDaysCalculator.countWorkingDays(start, end, calendar))
+                    .as("%s a %s (calendário)", start, end)
+                    .isEqualTo(countByLoop(start, end, calendar));
+        }
+    }
+
+    /** Implementação anterior: um LocalDate por dia. */
+    private static int countByLoop(LocalDate start, LocalDate end, Set<LocalDate> holidays) {
+        int count = 0;
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+            DayOfWeek dow = d.getDayOfWeek();
+            if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !holidays.contains(d)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countByLoop(LocalDate start, LocalDate end, HolidayCalendar holidays) {
+        int count = 0;
+        for (LocalDate d = start; !d.isAfter(end); d = d.plusDays(1)) {
+            DayOfWeek dow = d.getDayOfWeek();
+            if (dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY && !holidays.isHoliday(d)) {
+                count++;
+            }
+        }
+        return count;
+    }
 }
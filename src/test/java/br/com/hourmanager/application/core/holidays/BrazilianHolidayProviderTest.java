@@ -0,0 +1,41 @@
+package br.com.hourmanager.application.core.holidays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BrazilianHolidayProviderTest {
+
+    @Test
+    @DisplayName("Intervalo entre anos devolve os feriados ordenados e só os do intervalo")
+    void rangeAcrossYears() {
+        int[] days = BrazilianHolidayProvider.epochDaysBetween(LocalDate.of(2024, 12, 21), LocalDate.of(2025, 3, 10));
+
+        assertThat(days).containsExactly(
+                (int) LocalDate.of(2024, 12, 25).toEpochDay(),
+                (int) LocalDate.of(2025, 1, 1).toEpochDay(),
+                (int) LocalDate.of(2025, 3, 4).toEpochDay()); // Carnaval 2025
+        assertThat(BrazilianHolidayProvider.countBetween(LocalDate.of(2024, 12, 21), LocalDate.of(2025, 3, 10))).isEqualTo(3);
+        assertThat(BrazilianHolidayProvider.getHolidaysBetween(LocalDate.of(2024, 12, 25), LocalDate.of(2024, 12, 25)))
+                .containsExactly(LocalDate.of(2024, 12, 25));
+    }
+
+    @Test
+    @DisplayName("Sexta Santa em 21/04 não duplica Tiradentes")
+    void goodFridayOnTiradentes() {
+        // Páscoa 2000 em 23/04
+        assertThat(BrazilianHolidayProvider.countBetween(LocalDate.of(2000, 4, 21), LocalDate.of(2000, 4, 21))).isEqualTo(1);
+        assertThat(BrazilianHolidayProvider.countBetween(LocalDate.of(2000, 1, 1), LocalDate.of(2000, 12, 31))).isEqualTo(11);
+        assertThat(BrazilianHolidayProvider.isHoliday(LocalDate.of(2000, 4, 21))).isTrue();
+        assertThat(BrazilianHolidayProvider.isHoliday(LocalDate.of(2000, 4, 20))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Intervalo invertido é vazio")
+    void invertedRange() {
+        assertThat(BrazilianHolidayProvider.epochDaysBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1))).isEmpty();
+    }
+}
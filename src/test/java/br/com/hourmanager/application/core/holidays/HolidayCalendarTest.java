@@ -0,0 +1,85 @@
+package br.com.hourmanager.application.core.holidays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidayCalendarTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2026, 12, 31);
+
+    @Test
+    @DisplayName("isHoliday e countHolidays iguais aos feriados nacionais sem overrides")
+    void matchesNationalHolidays() {
+        HolidayCalendar calendar = HolidayCalendar.build(START, END, Map.of());
+
+        for (LocalDate d = START; !d.isAfter(END); d = d.plusDays(1)) {
+            assertThat(calendar.isHoliday(d)).as(d.toString()).isEqualTo(BrazilianHolidayProvider.isHoliday(d));
+        }
+        for (LocalDate from = START; from.isBefore(END); from = from.plusDays(37)) {
+            for (LocalDate to = from; !to.isAfter(END); to = to.plusDays(53)) {
+                assertThat(calendar.countHolidays(from, to))
+                        .as("%s a %s", from, to)
+                        .isEqualTo(BrazilianHolidayProvider.countBetween(from, to));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Overrides marcam e desmarcam feriados e ficam sinalizados")
+    void appliesOverrides() {
+        LocalDate christmas = LocalDate.of(2025, 12, 25);
+        LocalDate workday = LocalDate.of(2025, 12, 26);
+        HolidayCalendar calendar = HolidayCalendar.build(START, END, Map.of(christmas, false, workday, true));
+
+        assertThat(calendar.isHoliday(christmas)).isFalse();
+        assertThat(calendar.isHoliday(workday)).isTrue();
+        assertThat(calendar.isUserOverride(christmas)).isTrue();
+        assertThat(calendar.isUserOverride(LocalDate.of(2025, 12, 24))).isFalse();
+        assertThat(calendar.countHolidays(LocalDate.of(2025, 12, 1), LocalDate.of(2025, 12, 31))).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("withOverride altera só a cópia")
+    void withOverrideIsCopyOnWrite() {
+        HolidayCalendar original = HolidayCalendar.build(START, END, Map.of());
+        LocalDate day = LocalDate.of(2025, 3, 10);
+
+        HolidayCalendar updated = original.withOverride(day, true);
+
+        assertThat(updated.isHoliday(day)).isTrue();
+        assertThat(updated.isUserOverride(day)).isTrue();
+        assertThat(original.isHoliday(day)).isFalse();
+        assertThat(updated.countHolidays(START, END)).isEqualTo(original.countHolidays(START, END) + 1);
+    }
+
+    @Test
+    @DisplayName("Fora do intervalo coberto valem os feriados nacionais")
+    void outsideRangeFallsBackToNational() {
+        HolidayCalendar calendar = HolidayCalendar.build(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), Map.of());
+
+        assertThat(calendar.isHoliday(LocalDate.of(2024, 12, 25))).isTrue();
+        assertThat(calendar.countHolidays(LocalDate.of(2024, 12, 1), LocalDate.of(2025, 12, 31)))
+                .isEqualTo(BrazilianHolidayProvider.countBetween(LocalDate.of(2024, 12, 1), LocalDate.of(2025, 12, 31)));
+    }
+
+    @Test
+    @DisplayName("Feriados regionais somam aos nacionais e overrides continuam valendo")
+    void mergesRegionalHolidays() {
+        LocalDate revolution = LocalDate.of(2025, 7, 9);
+        LocalDate anniversary = LocalDate.of(2025, 1, 25);
+        int[] regional = {(int) anniversary.toEpochDay(), (int) revolution.toEpochDay()};
+
+        HolidayCalendar calendar = HolidayCalendar.build(START, END, regional, Map.of(anniversary, false));
+
+        assertThat(calendar.isHoliday(revolution)).isTrue();
+        assertThat(calendar.isHoliday(anniversary)).isFalse();
+        assertThat(calendar.countHolidays(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)))
+                .isEqualTo(BrazilianHolidayProvider.countBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)) + 1);
+    }
+}
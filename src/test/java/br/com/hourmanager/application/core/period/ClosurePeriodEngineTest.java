@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -181,4 +182,30 @@ class ClosurePeriodEngineTest {
             assertThat(bounds.getEnd()).isEqualTo(LocalDate.of(2023, 7, 15));
         }
     }
+
+    @Nested
+    @DisplayName("periodsBetween")
+    class PeriodsBetween {
+
+        @Test
+        @DisplayName("Períodos 21 a 20 que interceptam o intervalo, em ordem")
+        void spanningMonths() {
+            List<PeriodBounds> periods = ClosurePeriodEngine.periodsBetween(
+                    LocalDate.of(2025, 1, 10), LocalDate.of(2025, 3, 25), START_21, END_20);
+
+            assertThat(periods).extracting(PeriodBounds::getStart).containsExactly(
+                    LocalDate.of(2024, 12, 21), LocalDate.of(2025, 1, 21),
+                    LocalDate.of(2025, 2, 21), LocalDate.of(2025, 3, 21));
+            assertThat(periods.get(3).getEnd()).isEqualTo(LocalDate.of(2025, 4, 20));
+        }
+
+        @Test
+        @DisplayName("Config 5 a 15: dias fora do período não geram períodos extras")
+        void sameMonthWithGaps() {
+            List<PeriodBounds> periods = ClosurePeriodEngine.periodsBetween(
+                    LocalDate.of(2023, 7, 20), LocalDate.of(2023, 9, 1), 5, 15);
+
+            assertThat(periods).extracting(PeriodBounds::getStart).containsExactly(LocalDate.of(2023, 8, 5));
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package br.com.hourmanager.application.core.period;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PeriodCalendarTest {
+
+    private static final LocalDate HORIZON_START = LocalDate.of(2023, 1, 1);
+    private static final LocalDate HORIZON_END = LocalDate.of(2026, 12, 31);
+    private static final int[][] CONFIGS = {{21, 20}, {1, 31}, {5, 15}, {31, 30}, {29, 28}, {16, 15}};
+
+    @Test
+    @DisplayName("periodOf igual ao ClosurePeriodEngine, dentro e fora do horizonte")
+    void periodOfMatchesEngine() {
+        for (int[] config : CONFIGS) {
+            PeriodCalendar calendar = PeriodCalendar.build(config[0], config[1], HORIZON_START, HORIZON_END);
+            for (LocalDate date = LocalDate.of(2022, 6, 1); date.isBefore(LocalDate.of(2027, 6, 1)); date = date.plusDays(1)) {
+                assertThat(calendar.periodOf(date))
+                        .as("config %d-%d em %s", config[0], config[1], date)
+                        .isEqualTo(ClosurePeriodEngine.computePeriodContaining(date, config[0], config[1]));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("periodsBetween igual ao ClosurePeriodEngine")
+    void periodsBetweenMatchesEngine() {
+        for (int[] config : CONFIGS) {
+            PeriodCalendar calendar = PeriodCalendar.build(config[0], config[1], HORIZON_START, HORIZON_END);
+            LocalDate from = LocalDate.of(2024, 2, 10);
+            for (LocalDate to = from; to.isBefore(LocalDate.of(2025, 3, 1)); to = to.plusDays(17)) {
+                assertThat(calendar.periodsBetween(from, to))
+                        .isEqualTo(ClosurePeriodEngine.periodsBetween(from, to, config[0], config[1]));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("assign: dias ordenados e fora de ordem recebem o índice do período")
+    void assignMapsDaysToPeriods() {
+        PeriodCalendar calendar = PeriodCalendar.build(5, 15, HORIZON_START, HORIZON_END);
+        int[] days = {
+                (int) LocalDate.of(2024, 3, 5).toEpochDay(),
+                (int) LocalDate.of(2024, 3, 16).toEpochDay(),
+                (int) LocalDate.of(2024, 4, 15).toEpochDay(),
+                (int) LocalDate.of(2024, 3, 10).toEpochDay(),
+                (int) LocalDate.of(2030, 1, 10).toEpochDay()
+        };
+
+        int[] assigned = calendar.assign(days);
+
+        assertThat(calendar.period(assigned[0]).getStart()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(assigned[1]).isEqualTo(PeriodCalendar.NO_PERIOD);
+        assertThat(calendar.period(assigned[2]).getStart()).isEqualTo(LocalDate.of(2024, 4, 5));
+        assertThat(assigned[3]).isEqualTo(assigned[0]);
+        assertThat(assigned[4]).isEqualTo(PeriodCalendar.NO_PERIOD);
+    }
+}
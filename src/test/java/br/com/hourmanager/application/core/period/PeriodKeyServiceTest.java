@@ -0,0 +1,163 @@
+package br.com.hourmanager.application.core.period;
+
+import br.com.hourmanager.application.core.domains.SystemConfig;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PeriodKeyServiceTest {
+
+    private static final SystemConfig CONFIG_5_15 = SystemConfig.builder().closureStartDay(5).closureEndDay(15).build();
+
+    @Mock
+    private HourEntryRepository hourEntryRepository;
+
+    @Mock
+    private SystemConfigRepository systemConfigRepository;
+
+    private PeriodKeyService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PeriodKeyService(hourEntryRepository, systemConfigRepository,
+                new PeriodCalendarProvider(2, () -> LocalDate.of(2024, 6, 1)));
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.of(CONFIG_5_15));
+        when(hourEntryRepository.findMinEntryDate()).thenReturn(Optional.of(LocalDate.of(2024, 3, 1)));
+        when(hourEntryRepository.findMaxEntryDate()).thenReturn(Optional.of(LocalDate.of(2024, 4, 20)));
+    }
+
+    @Test
+    @DisplayName("Carimba cada período e limpa os dias sem fechamento, em ordem")
+    void stampsPeriodsAndClearsGaps() {
+        int changed = service.runBatch(1000);
+
+        assertThat(changed).isZero();
+        InOrder order = inOrder(hourEntryRepository);
+        order.verify(hourEntryRepository).clearPeriodStart(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 4), 1000);
+        order.verify(hourEntryRepository).stampPeriodStart(
+                LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 15), 1000);
+        order.verify(hourEntryRepository).clearPeriodStart(LocalDate.of(2024, 3, 16), LocalDate.of(2024, 4, 4), 1000);
+        order.verify(hourEntryRepository).stampPeriodStart(
+                LocalDate.of(2024, 4, 5), LocalDate.of(2024, 4, 5), LocalDate.of(2024, 4, 15), 1000);
+        order.verify(hourEntryRepository).clearPeriodStart(LocalDate.of(2024, 4, 16), LocalDate.of(2024, 4, 20), 1000);
+    }
+
+    @Test
+    @DisplayName("Chaves em dia só depois da passada de conferência sem alterações, e só após o commit")
+    void currentOnlyAfterCleanConfirmationPassCommits() {
+        service.runBatch(1000);
+        service.batchFinished(true);
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isFalse();
+
+        service.runBatch(1000);
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isFalse();
+
+        service.batchFinished(true);
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isTrue();
+        verify(hourEntryRepository, times(2)).findMinEntryDate();
+    }
+
+    @Test
+    @DisplayName("Lote cheio para no meio e o próximo continua do mesmo passo")
+    void resumesAfterFullBatch() {
+        when(hourEntryRepository.stampPeriodStart(eq(LocalDate.of(2024, 3, 5)), any(), any(), anyInt()))
+                .thenReturn(10)
+                .thenReturn(3)
+                .thenReturn(0);
+
+        assertThat(service.runBatch(10)).isEqualTo(10);
+        service.batchFinished(true);
+        verify(hourEntryRepository, never()).stampPeriodStart(eq(LocalDate.of(2024, 4, 5)), any(), any(), anyInt());
+
+        assertThat(service.runBatch(10)).isEqualTo(3);
+        service.batchFinished(true);
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isFalse();
+
+        assertThat(service.runBatch(10)).isZero();
+        service.batchFinished(true);
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Entrada gravada com chave antiga durante o re-key -> conferência a corrige e roda de novo")
+    void staleRowWrittenDuringRekey_isCaughtByNextPass() {
+        when(hourEntryRepository.stampPeriodStart(eq(LocalDate.of(2024, 4, 5)), any(), any(), anyInt()))
+                .thenReturn(0)
+                .thenReturn(1)
+                .thenReturn(0);
+
+        runPassCommitted();
+        runPassCommitted();
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isFalse();
+
+        runPassCommitted();
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Rollback do lote que fecharia o re-key -> chaves continuam pendentes e a passada recomeça")
+    void rollbackKeepsKeysPending() {
+        runPassCommitted();
+        service.runBatch(1000);
+
+        service.batchFinished(false);
+
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isFalse();
+        runPassCommitted();
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Dia ajustado (31 a 30 em fevereiro) fica no período anterior, como periodOf")
+    void clampedSharedDay_keyedToEarlierPeriod() {
+        SystemConfig config = SystemConfig.builder().closureStartDay(31).closureEndDay(30).build();
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.of(config));
+        when(hourEntryRepository.findMinEntryDate()).thenReturn(Optional.of(LocalDate.of(2025, 2, 20)));
+        when(hourEntryRepository.findMaxEntryDate()).thenReturn(Optional.of(LocalDate.of(2025, 3, 5)));
+
+        service.runBatch(1000);
+
+        LocalDate shared = LocalDate.of(2025, 2, 28);
+        verify(hourEntryRepository).stampPeriodStart(LocalDate.of(2025, 1, 31), LocalDate.of(2025, 2, 20), shared, 1000);
+        verify(hourEntryRepository).stampPeriodStart(shared, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 30), 1000);
+        assertThat(new PeriodCalendarProvider(2).forConfig(config).periodOf(shared).getStart())
+                .isEqualTo(LocalDate.of(2025, 1, 31));
+    }
+
+    @Test
+    @DisplayName("Pedido de re-key invalida as chaves já verificadas")
+    void requestRekeyInvalidates() {
+        runPassCommitted();
+        runPassCommitted();
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isTrue();
+
+        service.requestRekey();
+
+        assertThat(service.isCurrentFor(CONFIG_5_15)).isFalse();
+    }
+
+    private void runPassCommitted() {
+        service.runBatch(1000);
+        service.batchFinished(true);
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.hourmanager.application.core.projection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardProjectionCacheTest {
+
+    private static final LocalDate REFERENCE = LocalDate.of(2025, 2, 10);
+    private static final DashboardProjection PROJECTION = DashboardProjection.builder().build();
+
+    private final DashboardProjectionCache cache = new DashboardProjectionCache();
+
+    @Test
+    @DisplayName("Mesma chave devolve a projeção guardada e a mesma ETag")
+    void hitWithSameKey() {
+        DashboardProjectionCache.Key key = cache.currentKey(REFERENCE);
+        cache.put(key, PROJECTION);
+
+        DashboardProjectionCache.Key again = cache.currentKey(REFERENCE);
+
+        assertThat(cache.get(again)).containsSame(PROJECTION);
+        assertThat(cache.etagOf(again)).isEqualTo(cache.etagOf(key));
+    }
+
+    @Test
+    @DisplayName("Escrita de dados ou configuração muda a ETag e descarta as projeções")
+    void versionsInvalidate() {
+        DashboardProjectionCache.Key key = cache.currentKey(REFERENCE);
+        cache.put(key, PROJECTION);
+
+        cache.dataChanged();
+        DashboardProjectionCache.Key afterData = cache.currentKey(REFERENCE);
+        cache.configChanged();
+        DashboardProjectionCache.Key afterConfig = cache.currentKey(REFERENCE);
+
+        assertThat(cache.get(key)).isEmpty();
+        assertThat(cache.etagOf(afterData)).isNotEqualTo(cache.etagOf(key));
+        assertThat(cache.etagOf(afterConfig)).isNotEqualTo(cache.etagOf(afterData));
+    }
+
+    @Test
+    @DisplayName("Projeção calculada antes de uma escrita não é guardada")
+    void stalePutIgnored() {
+        DashboardProjectionCache.Key key = cache.currentKey(REFERENCE);
+        cache.dataChanged();
+
+        cache.put(key, PROJECTION);
+
+        assertThat(cache.get(key)).isEmpty();
+        assertThat(cache.get(cache.currentKey(REFERENCE))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Datas de referência diferentes têm ETags diferentes")
+    void referenceDateInEtag() {
+        assertThat(cache.etagOf(cache.currentKey(REFERENCE)))
+                .isNotEqualTo(cache.etagOf(cache.currentKey(REFERENCE.plusDays(1))));
+    }
+
+    @Test
+    @DisplayName("Seções pedidas diferentes têm ETags diferentes")
+    void fieldsInEtag() {
+        assertThat(cache.etagOf(cache.currentKey(REFERENCE)))
+                .isNotEqualTo(cache.etagOf(cache.currentKey(REFERENCE, ProjectionFields.parse("totals"))));
+    }
+
+    @Test
+    @DisplayName("Mudanças avisam os listeners com os dias afetados (configuração: todos)")
+    void notifiesChangeListeners() {
+        List<String> changes = new ArrayList<>();
+        cache.addChangeListener((from, to) -> changes.add(from + ".." + to));
+
+        cache.dataChanged(REFERENCE, REFERENCE);
+        cache.configChanged();
+
+        assertThat(changes).containsExactly(REFERENCE + ".." + REFERENCE, "null..null");
+    }
+}
@@ -0,0 +1,218 @@
+package br.com.hourmanager.application.core.projection;
+
+import br.com.hourmanager.application.core.calculation.PeriodCalculationResult;
+import br.com.hourmanager.application.core.calculation.PeriodCalculationService;
+import br.com.hourmanager.application.core.calculation.PeriodWeekSegments;
+import br.com.hourmanager.application.core.calculation.WeekInPeriod;
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.period.ClosurePeriodEngine;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.PeriodAdjustmentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Diferencial de ponta a ponta: o caminho atual (rollup diário → centésimos → projeção) deve produzir o mesmo
+ * {@link PeriodCalculationResult} e a mesma meta que o caminho anterior em BigDecimal sobre as entradas,
+ * reproduzido em {@link Legacy} como era antes da troca, em períodos, entradas, ajustes e expectativas aleatórios.
+ */
+class DashboardProjectionServiceDifferentialTest {
+
+    private static final int SAMPLES = 500;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+
+    @Test
+    @DisplayName("Totais, semanas e meta iguais aos do cálculo anterior em BigDecimal")
+    void matchesLegacyBigDecimalPath() {
+        Random random = new Random(5);
+        for (int i = 0; i < SAMPLES; i++) {
+            PeriodBounds bounds = ClosurePeriodEngine.computePeriodContaining(
+                    FIRST_DAY.plusDays(random.nextInt(1_000)), random.nextInt(31) + 1, random.nextInt(31) + 1);
+            long totalDays = ChronoUnit.DAYS.between(bounds.getStart(), bounds.getEnd()) + 1;
+            LocalDate reference = bounds.getStart().plusDays(random.nextInt((int) totalDays + 10) - 5);
+            List<HourEntry> entries = randomEntries(random, bounds, totalDays);
+            Optional<BigDecimal> adjustment = random.nextBoolean()
+                    ? Optional.of(BigDecimal.valueOf(random.nextInt(10_001) - 5_000, 2))
+                    : Optional.empty();
+            BigDecimal expectedWeeklyHours = switch (random.nextInt(10)) {
+                case 0 -> null;
+                case 1 -> BigDecimal.ZERO;
+                default -> BigDecimal.valueOf(random.nextInt(8_000) + 1, 2);
+            };
+            String sample = "amostra %d: %s, referência %s, esperado %s".formatted(i, bounds, reference, expectedWeeklyHours);
+
+            DailyHourTotalRepository dailyHourTotalRepository = mock(DailyHourTotalRepository.class);
+            PeriodAdjustmentRepository periodAdjustmentRepository = mock(PeriodAdjustmentRepository.class);
+            when(dailyHourTotalRepository.findBetween(bounds.getStart(), bounds.getEnd())).thenReturn(rollup(entries));
+            when(periodAdjustmentRepository.getAdjustment(bounds.getStart(), bounds.getEnd())).thenReturn(adjustment);
+            PeriodCalculationService calculation = new PeriodCalculationService(dailyHourTotalRepository, periodAdjustmentRepository);
+
+            PeriodCalculationResult result = calculation.computeWithWeeklyBreakdown(bounds, expectedWeeklyHours, null);
+            DashboardProjection projection = new DashboardProjectionService(calculation)
+                    .project(bounds, reference, expectedWeeklyHours, null);
+            Legacy.Outcome legacy = Legacy.project(bounds, reference, expectedWeeklyHours, entries, adjustment.orElse(BigDecimal.ZERO));
+
+            assertThat(result.getSummary().getTotalWorked()).as(sample).isEqualByComparingTo(legacy.totalWorked());
+            assertThat(result.getSummary().getTotalAdjusted()).as(sample).isEqualByComparingTo(legacy.totalAdjusted());
+            assertThat(result.getSummary().getBalance()).as(sample).isEqualByComparingTo(legacy.balance());
+            assertThat(result.getWeeks()).as(sample).hasSameSizeAs(legacy.weeks());
+            for (int w = 0; w < legacy.weeks().size(); w++) {
+                WeekInPeriod week = result.getWeeks().get(w);
+                Legacy.Week expected = legacy.weeks().get(w);
+                assertThat(week.getWeekStart()).as(sample).isEqualTo(expected.start());
+                assertThat(week.getWeekEnd()).as(sample).isEqualTo(expected.end());
+                assertThat(week.getTotalWorked()).as(sample).isEqualByComparingTo(expected.worked());
+                assertThat(week.getTotalAdjusted()).as(sample).isEqualByComparingTo(BigDecimal.ZERO);
+                assertThat(week.getBalance()).as(sample).isEqualByComparingTo(expected.worked());
+                assertThat(week.getHoursAvailable()).as(sample).isEqualByComparingTo(expected.available());
+                assertThat(week.getBaseWeeklyHours()).as(sample).isEqualByComparingTo(expected.baseWeeklyHours());
+                assertThat(week.getTotalSegmentHours()).as(sample).isEqualByComparingTo(expected.segmentHours());
+            }
+
+            assertThat(projection.getProgress().getDaysElapsed()).as(sample).isEqualTo(legacy.daysElapsed());
+            assertThat(projection.getTotals().getFullMonthMaxHours()).as(sample).isEqualByComparingTo(legacy.fullMonthMaxHours());
+            assertThat(projection.getTotals().getAvailableHoursInPeriod()).as(sample)
+                    .isEqualByComparingTo(legacy.availableHoursInPeriod());
+            Legacy.Goal expectedGoal = legacy.goal();
+            DashboardProjection.GoalProjectionInfo goal = projection.getGoalProjection();
+            if (expectedGoal == null) {
+                assertThat(goal).as(sample).isNull();
+                continue;
+            }
+            // Ritmo e meta com a mesma escala do JSON anterior (BigDecimal.ZERO sem dias decorridos)
+            assertThat(goal.getCurrentRatePerDay()).as(sample).isEqualTo(expectedGoal.ratePerDay());
+            assertThat(goal.getTargetHours()).as(sample).isEqualTo(expectedGoal.targetHours());
+            assertThat(goal.getProjectedBalanceAtEnd()).as(sample).isEqualByComparingTo(expectedGoal.projectedBalanceAtEnd());
+            assertThat(goal.getGoalStatus()).as(sample).isEqualTo(expectedGoal.status());
+        }
+    }
+
+    private static List<HourEntry> randomEntries(Random random, PeriodBounds bounds, long totalDays) {
+        int count = random.nextInt(4) == 0 ? 0 : random.nextInt(80) + 1;
+        List<HourEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(HourEntry.builder()
+                    .entryDate(bounds.getStart().plusDays(random.nextInt((int) totalDays)))
+                    .hours(BigDecimal.valueOf(random.nextInt(1_200) + 1, 2))
+                    .build());
+        }
+        return entries;
+    }
+
+    /** O que daily_hour_totals teria para essas entradas: soma e contagem por dia, ordenado por data. */
+    private static List<DailyHourTotal> rollup(List<HourEntry> entries) {
+        TreeMap<LocalDate, DailyHourTotal> byDay = new TreeMap<>();
+        for (HourEntry entry : entries) {
+            DailyHourTotal daily = byDay.computeIfAbsent(entry.getEntryDate(),
+                    date -> DailyHourTotal.builder().entryDate(date).hours(BigDecimal.ZERO).entryCount(0).build());
+            daily.setHours(daily.getHours().add(entry.getHours()));
+            daily.setEntryCount(daily.getEntryCount() + 1);
+        }
+        return List.copyOf(byDay.values());
+    }
+
+    /** Cálculo anterior à troca para centésimos: entradas em memória e contas em BigDecimal. */
+    private static final class Legacy {
+
+        private static final BigDecimal ZERO = BigDecimal.ZERO;
+        private static final int SCALE = 2;
+        private static final BigDecimal HOURS_IN_FULL_WEEK = new BigDecimal("168");
+        private static final BigDecimal HOURS_IN_FULL_MONTH = new BigDecimal("720");
+        private static final BigDecimal RISK_THRESHOLD = new BigDecimal("0.70");
+
+        record Week(LocalDate start, LocalDate end, BigDecimal worked, BigDecimal available,
+                    BigDecimal baseWeeklyHours, BigDecimal segmentHours) {}
+
+        record Goal(BigDecimal ratePerDay, BigDecimal projectedBalanceAtEnd, BigDecimal targetHours, GoalStatus status) {}
+
+        record Outcome(BigDecimal totalWorked, BigDecimal totalAdjusted, BigDecimal balance, List<Week> weeks,
+                       long daysElapsed, BigDecimal fullMonthMaxHours, BigDecimal availableHoursInPeriod, Goal goal) {}
+
+        static Outcome project(PeriodBounds bounds, LocalDate referenceDate, BigDecimal expectedWeeklyHours,
+                               List<HourEntry> entries, BigDecimal totalAdjusted) {
+            List<Week> weeks = new ArrayList<>();
+            for (PeriodWeekSegments.SegmentBounds seg : PeriodWeekSegments.segmentsWithin(bounds)) {
+                BigDecimal worked = entries.stream()
+                        .filter(e -> !e.getEntryDate().isBefore(seg.start()) && !e.getEntryDate().isAfter(seg.end()))
+                        .map(HourEntry::getHours)
+                        .reduce(ZERO, BigDecimal::add);
+                weeks.add(new Week(seg.start(), seg.end(), worked,
+                        hoursAvailable(expectedWeeklyHours, seg.start(), seg.end()),
+                        expectedWeeklyHours != null ? expectedWeeklyHours : ZERO,
+                        BigDecimal.valueOf(24 * (ChronoUnit.DAYS.between(seg.start(), seg.end()) + 1))));
+            }
+            BigDecimal totalWorked = entries.stream().map(HourEntry::getHours).reduce(ZERO, BigDecimal::add);
+            BigDecimal balance = totalWorked.add(totalAdjusted);
+
+            long totalDays = ChronoUnit.DAYS.between(bounds.getStart(), bounds.getEnd()) + 1;
+            long daysElapsed;
+            if (referenceDate.isBefore(bounds.getStart())) {
+                daysElapsed = 0;
+            } else if (referenceDate.isAfter(bounds.getEnd())) {
+                daysElapsed = totalDays;
+            } else {
+                daysElapsed = ChronoUnit.DAYS.between(bounds.getStart(), referenceDate) + 1;
+            }
+
+            BigDecimal totalAvailable = weeks.stream().map(Week::available).reduce(ZERO, BigDecimal::add);
+            BigDecimal fullMonthMaxHours = expectedWeeklyHours != null && expectedWeeklyHours.compareTo(ZERO) > 0
+                    ? expectedWeeklyHours.multiply(HOURS_IN_FULL_MONTH).divide(HOURS_IN_FULL_WEEK, SCALE, RoundingMode.HALF_UP)
+                    : ZERO;
+
+            return new Outcome(totalWorked, totalAdjusted, balance, weeks, daysElapsed, fullMonthMaxHours,
+                    totalAvailable.setScale(SCALE, RoundingMode.HALF_UP),
+                    goal(balance, daysElapsed, totalDays, totalAvailable, expectedWeeklyHours));
+        }
+
+        private static BigDecimal hoursAvailable(BigDecimal expectedWeeklyHours, LocalDate segStart, LocalDate segEnd) {
+            long segmentDays = ChronoUnit.DAYS.between(segStart, segEnd) + 1;
+            if (expectedWeeklyHours == null || expectedWeeklyHours.compareTo(ZERO) <= 0) {
+                return ZERO;
+            }
+            return expectedWeeklyHours
+                    .divide(HOURS_IN_FULL_WEEK, SCALE + 2, RoundingMode.HALF_UP)
+                    .multiply(BigDecimal.valueOf(24 * segmentDays))
+                    .setScale(SCALE, RoundingMode.HALF_UP);
+        }
+
+        private static Goal goal(BigDecimal currentBalance, long daysElapsed, long totalDays,
+                                 BigDecimal totalAvailableHours, BigDecimal expectedWeeklyHours) {
+            if (expectedWeeklyHours == null || expectedWeeklyHours.compareTo(ZERO) <= 0
+                    || totalAvailableHours == null || totalAvailableHours.compareTo(ZERO) <= 0) {
+                return null;
+            }
+            BigDecimal targetHours = totalAvailableHours.setScale(SCALE, RoundingMode.HALF_UP);
+            if (daysElapsed <= 0) {
+                return new Goal(ZERO, currentBalance, targetHours, GoalStatus.EM_RISCO);
+            }
+            BigDecimal ratePerDay = currentBalance.divide(BigDecimal.valueOf(daysElapsed), SCALE, RoundingMode.HALF_UP);
+            BigDecimal projectedBalanceAtEnd = ratePerDay.multiply(BigDecimal.valueOf(totalDays)).setScale(SCALE, RoundingMode.HALF_UP);
+            BigDecimal ratio = projectedBalanceAtEnd.divide(targetHours, 4, RoundingMode.HALF_UP);
+            GoalStatus status;
+            if (ratio.compareTo(BigDecimal.ONE) >= 0) {
+                status = GoalStatus.ATINGIVEL;
+            } else if (ratio.compareTo(RISK_THRESHOLD) >= 0) {
+                status = GoalStatus.EM_RISCO;
+            } else {
+                status = GoalStatus.IMPOSSIVEL;
+            }
+            return new Goal(ratePerDay, projectedBalanceAtEnd, targetHours, status);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package br.com.hourmanager.application.core.projection;
 
+import br.com.hourmanager.application.core.calculation.DailyHoursStatistics;
 import br.com.hourmanager.application.core.calculation.PeriodBalance;
 import br.com.hourmanager.application.core.calculation.PeriodCalculationResult;
 import br.com.hourmanager.application.core.calculation.PeriodCalculationService;
 import br.com.hourmanager.application.core.calculation.WeekInPeriod;
+import br.com.hourmanager.application.core.holidays.HolidayCalendar;
 import br.com.hourmanager.application.core.period.PeriodBounds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,10 +17,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +34,8 @@ class DashboardProjectionServiceTest {
     private static final LocalDate START = LocalDate.of(2025, 1, 21);
     private static final LocalDate END = LocalDate.of(2025, 2, 20);
     private static final PeriodBounds BOUNDS = PeriodBounds.builder().start(START).end(END).build();
+    /** 2025-01-21 a 2025-02-20 não tem feriado nacional. */
+    private static final HolidayCalendar NO_HOLIDAYS = HolidayCalendar.build(START, END, Map.of());
 
     @Mock
     private PeriodCalculationService periodCalculationService;
@@ -60,7 +69,7 @@ class DashboardProjectionServiceTest {
                         .build()
         );
 
-        DashboardProjection projection = service.project(BOUNDS, reference, null, Set.of(), Set.of());
+        DashboardProjection projection = service.project(BOUNDS, reference, null, NO_HOLIDAYS);
 
         assertThat(projection.getPeriod().getStart()).isEqualTo(START);
         assertThat(projection.getPeriod().getEnd()).isEqualTo(END);
@@ -90,7 +99,7 @@ class DashboardProjectionServiceTest {
                         .build()
         );
 
-        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 1, 15), null, Set.of(), Set.of());
+        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 1, 15), null, NO_HOLIDAYS);
 
         assertThat(projection.getProgress().getDaysElapsed()).isZero();
         assertThat(projection.getProgress().getPercentageElapsed()).isZero();
@@ -106,7 +115,7 @@ class DashboardProjectionServiceTest {
                         .build()
         );
 
-        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 2, 25), null, Set.of(), Set.of());
+        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 2, 25), null, NO_HOLIDAYS);
 
         assertThat(projection.getProgress().getDaysElapsed()).isEqualTo(31);
         assertThat(projection.getProgress().getPercentageElapsed()).isEqualTo(1.0);
@@ -125,7 +134,7 @@ class DashboardProjectionServiceTest {
                         .weeks(List.of(w1, w2))
                         .build()
         );
-        DashboardProjection projection = service.project(BOUNDS, reference, new BigDecimal("40"), Set.of(), Set.of());
+        DashboardProjection projection = service.project(BOUNDS, reference, new BigDecimal("40"), NO_HOLIDAYS);
 
         assertThat(projection.getGoalProjection()).isNotNull();
         assertThat(projection.getGoalProjection().getGoalStatus()).isEqualTo(GoalStatus.ATINGIVEL);
@@ -147,7 +156,7 @@ class DashboardProjectionServiceTest {
                         .build()
         );
         // projected ≈ 42/21*31 = 62. 62/80 = 0.775 → EM_RISCO
-        DashboardProjection projection = service.project(BOUNDS, reference, new BigDecimal("40"), Set.of(), Set.of());
+        DashboardProjection projection = service.project(BOUNDS, reference, new BigDecimal("40"), NO_HOLIDAYS);
 
         assertThat(projection.getGoalProjection()).isNotNull();
         assertThat(projection.getGoalProjection().getGoalStatus()).isEqualTo(GoalStatus.EM_RISCO);
@@ -166,12 +175,26 @@ class DashboardProjectionServiceTest {
                         .build()
         );
         // projected = 10/21*31 ≈ 14.76. Meta 80. 14.76/80 < 0.7
-        DashboardProjection projection = service.project(BOUNDS, reference, new BigDecimal("40"), Set.of(), Set.of());
+        DashboardProjection projection = service.project(BOUNDS, reference, new BigDecimal("40"), NO_HOLIDAYS);
 
         assertThat(projection.getGoalProjection()).isNotNull();
         assertThat(projection.getGoalProjection().getGoalStatus()).isEqualTo(GoalStatus.IMPOSSIVEL);
     }
 
+    @Test
+    @DisplayName("Com meta e referência antes do período: ritmo zero sem casas decimais e EM_RISCO")
+    void project_withGoal_noElapsedDays_zeroRate() {
+        when(periodCalculationService.compute(BOUNDS)).thenReturn(PeriodBalance.of(new BigDecimal("5"), BigDecimal.ZERO));
+        when(periodCalculationService.availableCenti(BOUNDS, new BigDecimal("40"))).thenReturn(17_714L);
+
+        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 1, 15), new BigDecimal("40"),
+                NO_HOLIDAYS, ProjectionFields.parse("goalProjection"));
+
+        assertThat(projection.getGoalProjection().getCurrentRatePerDay()).isEqualTo(BigDecimal.ZERO);
+        assertThat(projection.getGoalProjection().getProjectedBalanceAtEnd()).isEqualByComparingTo("5");
+        assertThat(projection.getGoalProjection().getGoalStatus()).isEqualTo(GoalStatus.EM_RISCO);
+    }
+
     @Test
     @DisplayName("Sem expectativa de horas: goalProjection é null")
     void project_withoutExpectedWeeklyHours_goalProjectionNull() {
@@ -181,7 +204,189 @@ class DashboardProjectionServiceTest {
                         .weeks(List.of())
                         .build()
         );
-        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 2, 10), null, Set.of(), Set.of());
+        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 2, 10), null, NO_HOLIDAYS);
+        assertThat(projection.getGoalProjection()).isNull();
+    }
+
+    @Test
+    @DisplayName("Dias da semana marcam feriado e override a partir do calendário")
+    void project_daysFlaggedFromHolidayCalendar() {
+        WeekInPeriod week = WeekInPeriod.builder()
+                .weekStart(LocalDate.of(2025, 1, 20))
+                .weekEnd(LocalDate.of(2025, 1, 26))
+                .totalWorked(BigDecimal.ZERO)
+                .totalAdjusted(BigDecimal.ZERO)
+                .balance(BigDecimal.ZERO)
+                .workingDaysCount(0)
+                .hoursAvailable(BigDecimal.ZERO)
+                .baseWeeklyHours(BigDecimal.ZERO)
+                .totalSegmentHours(new BigDecimal("168"))
+                .build();
+        when(periodCalculationService.computeWithWeeklyBreakdown(any(), any(), any())).thenReturn(
+                PeriodCalculationResult.builder()
+                        .summary(PeriodBalance.of(BigDecimal.ZERO, BigDecimal.ZERO))
+                        .weeks(List.of(week))
+                        .build()
+        );
+        HolidayCalendar holidays = HolidayCalendar.build(START, END, Map.of(LocalDate.of(2025, 1, 22), true));
+
+        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 2, 10), null, holidays);
+
+        List<DashboardProjection.DayInWeek> days = projection.getWeeks().get(0).getDays();
+        assertThat(days.get(2).getDate()).isEqualTo(LocalDate.of(2025, 1, 22));
+        assertThat(days.get(2).isHoliday()).isTrue();
+        assertThat(days.get(2).isUserOverride()).isTrue();
+        assertThat(days.get(1).isHoliday()).isFalse();
+        assertThat(days.get(1).isUserOverride()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Dias das semanas do período vêm do esqueleto: passado conforme a referência, mesma lista reaproveitada")
+    void project_reusesDaySkeletonAndOverlaysPast() {
+        WeekInPeriod segment = WeekInPeriod.builder()
+                .weekStart(LocalDate.of(2025, 1, 26))
+                .weekEnd(LocalDate.of(2025, 2, 1))
+                .totalWorked(BigDecimal.ZERO)
+                .totalAdjusted(BigDecimal.ZERO)
+                .balance(BigDecimal.ZERO)
+                .workingDaysCount(0)
+                .hoursAvailable(BigDecimal.ZERO)
+                .baseWeeklyHours(BigDecimal.ZERO)
+                .totalSegmentHours(new BigDecimal("168"))
+                .build();
+        when(periodCalculationService.computeWithWeeklyBreakdown(any(), any(), any())).thenReturn(
+                PeriodCalculationResult.builder()
+                        .summary(PeriodBalance.of(BigDecimal.ZERO, BigDecimal.ZERO))
+                        .weeks(List.of(segment))
+                        .build()
+        );
+        LocalDate reference = LocalDate.of(2025, 1, 29); // quarta: dom, seg e ter já passaram
+
+        List<DashboardProjection.DayInWeek> first = service.project(BOUNDS, reference, null, NO_HOLIDAYS)
+                .getWeeks().get(0).getDays();
+        List<DashboardProjection.DayInWeek> second = service.project(BOUNDS, reference, null, NO_HOLIDAYS)
+                .getWeeks().get(0).getDays();
+        List<DashboardProjection.DayInWeek> nextDay = service.project(BOUNDS, reference.plusDays(1), null, NO_HOLIDAYS)
+                .getWeeks().get(0).getDays();
+
+        assertThat(first).extracting(DashboardProjection.DayInWeek::isPast)
+                .containsExactly(true, true, true, false, false, false, false);
+        assertThat(first).extracting(DashboardProjection.DayInWeek::getWeekdayLabel)
+                .containsExactly("Dom", "Seg", "Ter", "Qua", "Qui", "Sex", "Sáb");
+        assertThat(second).isSameAs(first);
+        assertThat(nextDay).extracting(DashboardProjection.DayInWeek::isPast)
+                .containsExactly(true, true, true, true, false, false, false);
+    }
+
+    @Test
+    @DisplayName("Sem weeks nos fields: não monta o breakdown semanal e soma a disponibilidade direto")
+    void project_skipsWeeksWhenNotRequested() {
+        when(periodCalculationService.compute(BOUNDS)).thenReturn(PeriodBalance.of(new BigDecimal("20"), BigDecimal.ZERO));
+        when(periodCalculationService.availableCenti(BOUNDS, new BigDecimal("40"))).thenReturn(17_714L);
+
+        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 2, 10), new BigDecimal("40"),
+                NO_HOLIDAYS, ProjectionFields.parse("totals,goalProjection"));
+
+        assertThat(projection.getPeriod()).isNull();
+        assertThat(projection.getProgress()).isNull();
+        assertThat(projection.getWeeks()).isNull();
+        assertThat(projection.getTotals().getAvailableHoursInPeriod()).isEqualByComparingTo("177.14");
+        assertThat(projection.getGoalProjection().getTargetHours()).isEqualByComparingTo("177.14");
+        verify(periodCalculationService, never()).computeWithWeeklyBreakdown(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Só period e progress: nenhum cálculo de horas")
+    void project_periodAndProgressOnly() {
+        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 2, 10), new BigDecimal("40"),
+                NO_HOLIDAYS, ProjectionFields.parse("period,progress"));
+
+        assertThat(projection.getPeriod().getTotalDays()).isEqualTo(31);
+        assertThat(projection.getProgress().getDaysElapsed()).isEqualTo(21);
+        assertThat(projection.getTotals()).isNull();
         assertThat(projection.getGoalProjection()).isNull();
+        verifyNoInteractions(periodCalculationService);
+    }
+
+    @Test
+    @DisplayName("weeks sem weeks.days: semanas sem os dias")
+    void project_weeksWithoutDays() {
+        WeekInPeriod segment = WeekInPeriod.builder()
+                .weekStart(LocalDate.of(2025, 1, 26))
+                .weekEnd(LocalDate.of(2025, 2, 1))
+                .totalWorked(BigDecimal.ZERO)
+                .totalAdjusted(BigDecimal.ZERO)
+                .balance(BigDecimal.ZERO)
+                .workingDaysCount(0)
+                .hoursAvailable(BigDecimal.ZERO)
+                .baseWeeklyHours(BigDecimal.ZERO)
+                .totalSegmentHours(new BigDecimal("168"))
+                .build();
+        when(periodCalculationService.computeWithWeeklyBreakdown(any(), any(), any())).thenReturn(
+                PeriodCalculationResult.builder()
+                        .summary(PeriodBalance.of(BigDecimal.ZERO, BigDecimal.ZERO))
+                        .weeks(List.of(segment))
+                        .build()
+        );
+
+        DashboardProjection projection = service.project(BOUNDS, LocalDate.of(2025, 1, 29), null,
+                NO_HOLIDAYS, ProjectionFields.parse("weeks"));
+
+        assertThat(projection.getWeeks()).hasSize(1);
+        assertThat(projection.getWeeks().get(0).getDays()).isNull();
+        assertThat(projection.getTotals()).isNull();
+    }
+
+    @Test
+    @DisplayName("Cenários: um carregamento para o lote; horas por dia restante, overrides e ajuste hipotéticos")
+    void evaluateScenarios_sharesOneBaseState() {
+        when(periodCalculationService.compute(BOUNDS)).thenReturn(PeriodBalance.of(new BigDecimal("100"), BigDecimal.ZERO));
+        when(periodCalculationService.availableCenti(BOUNDS, new BigDecimal("40"))).thenReturn(17_714L);
+        LocalDate reference = LocalDate.of(2025, 2, 10); // segunda: restam 8 dias úteis (11 a 20 fev)
+
+        List<GoalScenarioResult> results = service.evaluateScenarios(BOUNDS, reference, new BigDecimal("40"), NO_HOLIDAYS, List.of(
+                GoalScenario.builder().id("6h").hoursPerRemainingDay(new BigDecimal("6")).build(),
+                GoalScenario.builder().id("12h-ponte").hoursPerRemainingDay(new BigDecimal("12"))
+                        .holidayOverrides(Map.of(LocalDate.of(2025, 2, 14), true, LocalDate.of(2025, 2, 15), true))
+                        .build(),
+                GoalScenario.builder().id("ajuste").adjustedHours(new BigDecimal("10")).build()));
+
+        assertThat(results).extracting(GoalScenarioResult::getId).containsExactly("6h", "12h-ponte", "ajuste");
+        assertThat(results.get(0).getRemainingWorkingDays()).isEqualTo(8);
+        assertThat(results.get(0).getGoalProjection().getProjectedBalanceAtEnd()).isEqualByComparingTo("148");
+        assertThat(results.get(0).getGoalProjection().getGoalStatus()).isEqualTo(GoalStatus.EM_RISCO);
+        assertThat(results.get(1).getRemainingWorkingDays()).isEqualTo(7); // sábado não conta
+        assertThat(results.get(1).getGoalProjection().getProjectedBalanceAtEnd()).isEqualByComparingTo("184");
+        assertThat(results.get(1).getGoalProjection().getGoalStatus()).isEqualTo(GoalStatus.ATINGIVEL);
+        assertThat(results.get(2).getBalance()).isEqualByComparingTo("110");
+        assertThat(results.get(2).getGoalProjection().getCurrentRatePerDay()).isEqualByComparingTo("5.24");
+        verify(periodCalculationService).compute(BOUNDS);
+    }
+
+    @Test
+    @DisplayName("Forecast: média por dia da semana nos dias restantes, com faixa de confiança")
+    void project_forecastFromHistory() {
+        DailyHoursStatistics statistics = mock(DailyHoursStatistics.class);
+        // 8h em média nos dias úteis (variância 1h²), nada no fim de semana; nível recente igual à média
+        double[] mean = {800, 800, 800, 800, 800, 0, 0};
+        double[] variance = {10_000, 10_000, 10_000, 10_000, 10_000, 0, 0};
+        long[] days = {10, 10, 10, 10, 10, 10, 10};
+        when(statistics.snapshot()).thenReturn(Optional.of(
+                new DailyHoursStatistics.Snapshot(days, mean, variance, 800 * 5 / 7.0)));
+        when(periodCalculationService.compute(BOUNDS)).thenReturn(PeriodBalance.of(new BigDecimal("100"), BigDecimal.ZERO));
+        when(periodCalculationService.availableCenti(BOUNDS, new BigDecimal("40"))).thenReturn(17_714L);
+        DashboardProjectionService withHistory = new DashboardProjectionService(periodCalculationService, statistics);
+
+        DashboardProjection projection = withHistory.project(BOUNDS, LocalDate.of(2025, 2, 10), new BigDecimal("40"),
+                NO_HOLIDAYS, ProjectionFields.parse("forecast"));
+
+        // 8 dias úteis restantes × 8h; faixa ±1,96 × √8 h
+        DashboardProjection.GoalForecastInfo forecast = projection.getForecast();
+        assertThat(forecast.getProjectedBalanceAtEnd()).isEqualByComparingTo("164");
+        assertThat(forecast.getLowerBound()).isEqualByComparingTo("158.46");
+        assertThat(forecast.getUpperBound()).isEqualByComparingTo("169.54");
+        assertThat(forecast.getGoalStatus()).isEqualTo(GoalStatus.EM_RISCO);
+        assertThat(forecast.getHistoryDays()).isEqualTo(70);
+        assertThat(projection.getTotals()).isNull();
     }
 }
@@ -0,0 +1,35 @@
+package br.com.hourmanager.application.core.projection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProjectionFieldsTest {
+
+    @Test
+    @DisplayName("Sem fields: projeção completa")
+    void emptyIsAll() {
+        assertThat(ProjectionFields.parse(null)).isEqualTo(ProjectionFields.ALL);
+        assertThat(ProjectionFields.parse(" ")).isEqualTo(ProjectionFields.ALL);
+    }
+
+    @Test
+    @DisplayName("weeks.days implica weeks; ordem e espaços não importam")
+    void weekDaysImpliesWeeks() {
+        ProjectionFields fields = ProjectionFields.parse(" weeks.days , totals");
+
+        assertThat(fields.includes(ProjectionFields.Section.WEEKS)).isTrue();
+        assertThat(fields.includes(ProjectionFields.Section.WEEK_DAYS)).isTrue();
+        assertThat(fields.includes(ProjectionFields.Section.PERIOD)).isFalse();
+        assertThat(fields).isEqualTo(ProjectionFields.parse("totals,weeks,weeks.days"));
+    }
+
+    @Test
+    @DisplayName("Campo desconhecido é rejeitado")
+    void unknownField() {
+        assertThatThrownBy(() -> ProjectionFields.parse("totals,foo"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
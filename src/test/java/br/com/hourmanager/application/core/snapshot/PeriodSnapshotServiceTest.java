@@ -0,0 +1,222 @@
+package br.com.hourmanager.application.core.snapshot;
+
+import br.com.hourmanager.application.core.calculation.PeriodBalance;
+import br.com.hourmanager.application.core.calculation.PeriodCalculationResult;
+import br.com.hourmanager.application.core.calculation.PeriodCalculationService;
+import br.com.hourmanager.application.core.domains.SystemConfig;
+import br.com.hourmanager.application.core.period.PeriodBounds;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.ports.output.repositories.PeriodSnapshotRepository;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PeriodSnapshotServiceTest {
+
+    @Mock
+    private SystemConfigRepository systemConfigRepository;
+
+    @Mock
+    private PeriodSnapshotRepository periodSnapshotRepository;
+
+    @Mock
+    private PeriodCalculationService periodCalculationService;
+
+    private PeriodSnapshotService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PeriodSnapshotService(systemConfigRepository, periodSnapshotRepository,
+                periodCalculationService, new PeriodCalendarProvider(10));
+        lenient().when(periodCalculationService.computeLive(any(), any())).thenReturn(PeriodCalculationResult.builder()
+                .summary(PeriodBalance.of(new BigDecimal("8"), BigDecimal.ZERO))
+                .weeks(List.of())
+                .build());
+    }
+
+    @Nested
+    @DisplayName("Congelamento dos períodos encerrados")
+    class FreezeClosedPeriods {
+
+        @Test
+        @DisplayName("Sem configuração -> nada congelado")
+        void noConfig() {
+            when(systemConfigRepository.findCurrent()).thenReturn(Optional.empty());
+
+            assertThat(service.freezeClosedPeriods(LocalDate.of(2025, 3, 10))).isZero();
+            verify(periodSnapshotRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Fechamento 21 a 20 -> congela o anterior e para no primeiro já congelado")
+        void crossMonth_stopsAtFrozen() {
+            config(21, 20);
+            frozen(LocalDate.of(2025, 1, 21), LocalDate.of(2025, 2, 20));
+
+            int frozen = service.freezeClosedPeriods(LocalDate.of(2025, 4, 1));
+
+            assertThat(frozen).isEqualTo(1);
+            assertThat(savedPeriods()).containsExactly(bounds(LocalDate.of(2025, 2, 21), LocalDate.of(2025, 3, 20)));
+        }
+
+        @Test
+        @DisplayName("Fechamento 5 a 25, hoje dentro do período -> período aberto nunca é congelado")
+        void gapConfig_insidePeriod_skipsOpenPeriod() {
+            config(5, 25);
+            frozen(LocalDate.of(2025, 1, 5), LocalDate.of(2025, 1, 25));
+
+            int frozen = service.freezeClosedPeriods(LocalDate.of(2025, 3, 10));
+
+            assertThat(frozen).isEqualTo(1);
+            assertThat(savedPeriods()).containsExactly(bounds(LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 25)));
+        }
+
+        @Test
+        @DisplayName("Fechamento 5 a 25, hoje em dia sem fechamento -> período do mês já encerrado é congelado")
+        void gapConfig_onGapDay_freezesMonthPeriod() {
+            config(5, 25);
+            frozen(LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 25));
+
+            int frozen = service.freezeClosedPeriods(LocalDate.of(2025, 3, 28));
+
+            assertThat(frozen).isEqualTo(1);
+            assertThat(savedPeriods()).containsExactly(bounds(LocalDate.of(2025, 3, 5), LocalDate.of(2025, 3, 25)));
+        }
+
+        @Test
+        @DisplayName("Nenhum snapshot -> recupera no máximo 12 períodos, do mais recente ao mais antigo")
+        void catchUp_isLimited() {
+            config(5, 25);
+            when(periodSnapshotRepository.find(any(), any())).thenReturn(Optional.empty());
+
+            int frozen = service.freezeClosedPeriods(LocalDate.of(2025, 3, 10));
+
+            List<PeriodBounds> saved = savedPeriods();
+            assertThat(frozen).isEqualTo(12);
+            assertThat(saved).hasSize(12);
+            assertThat(saved.get(0)).isEqualTo(bounds(LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 25)));
+            assertThat(saved.get(11)).isEqualTo(bounds(LocalDate.of(2024, 3, 5), LocalDate.of(2024, 3, 25)));
+            assertThat(saved).allSatisfy(p -> assertThat(p.getEnd()).isBefore(LocalDate.of(2025, 3, 10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Escritas retroativas")
+    class DateChanged {
+
+        private final LocalDate today = LocalDate.of(2025, 3, 10);
+
+        @Test
+        @DisplayName("Data em período encerrado e congelado -> recongela")
+        void frozenClosedPeriod_isRefrozen() {
+            config(5, 25);
+            frozen(LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 25));
+
+            service.onDateChanged(LocalDate.of(2025, 2, 10), today);
+
+            assertThat(savedPeriods()).containsExactly(bounds(LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 25)));
+        }
+
+        @Test
+        @DisplayName("Data em período encerrado sem snapshot -> nada é criado")
+        void notFrozen_isIgnored() {
+            config(5, 25);
+            when(periodSnapshotRepository.find(any(), any())).thenReturn(Optional.empty());
+
+            service.onDateChanged(LocalDate.of(2025, 2, 10), today);
+
+            verify(periodSnapshotRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Data no período aberto ou em dia sem fechamento -> nenhum snapshot consultado")
+        void openPeriodOrGapDay_isIgnored() {
+            config(5, 25);
+
+            service.onDateChanged(LocalDate.of(2025, 3, 6), today);
+            service.onDateChanged(LocalDate.of(2025, 2, 27), today);
+
+            verify(periodSnapshotRepository, never()).find(any(), any());
+            verify(periodSnapshotRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Lote de datas -> cada período congelado é recongelado uma vez")
+        void batch_refreezesEachFrozenPeriodOnce() {
+            config(5, 25);
+            frozen(LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 25));
+
+            service.onDatesChanged(List.of(
+                    LocalDate.of(2025, 2, 6),
+                    LocalDate.of(2025, 2, 20),
+                    LocalDate.of(2025, 1, 10),
+                    LocalDate.of(2025, 1, 28),
+                    LocalDate.of(2025, 3, 6)), today);
+
+            assertThat(savedPeriods()).containsExactly(bounds(LocalDate.of(2025, 2, 5), LocalDate.of(2025, 2, 25)));
+            verify(periodSnapshotRepository, times(2)).find(any(), any());
+        }
+    }
+
+    @Test
+    @DisplayName("invalidateAll -> remove todos os snapshots")
+    void invalidateAll_deletesEverything() {
+        service.invalidateAll();
+
+        verify(periodSnapshotRepository).deleteAll();
+    }
+
+    private void config(int closureStartDay, int closureEndDay) {
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.of(SystemConfig.builder()
+                .closureStartDay(closureStartDay)
+                .closureEndDay(closureEndDay)
+                .build()));
+    }
+
+    private void frozen(LocalDate start, LocalDate end) {
+        lenient().when(periodSnapshotRepository.find(any(), any())).thenReturn(Optional.empty());
+        when(periodSnapshotRepository.find(eq(start), eq(end))).thenReturn(Optional.of(PeriodSnapshot.builder()
+                .periodStart(start)
+                .periodEnd(end)
+                .totalWorked(BigDecimal.ZERO)
+                .totalAdjusted(BigDecimal.ZERO)
+                .weeks(List.of())
+                .frozenAt(Instant.EPOCH)
+                .build()));
+    }
+
+    private List<PeriodBounds> savedPeriods() {
+        ArgumentCaptor<PeriodSnapshot> captor = ArgumentCaptor.forClass(PeriodSnapshot.class);
+        verify(periodSnapshotRepository, atLeast(0)).save(captor.capture());
+        return captor.getAllValues().stream()
+                .map(s -> bounds(s.getPeriodStart(), s.getPeriodEnd()))
+                .toList();
+    }
+
+    private static PeriodBounds bounds(LocalDate start, LocalDate end) {
+        return PeriodBounds.builder().start(start).end(end).build();
+    }
+}
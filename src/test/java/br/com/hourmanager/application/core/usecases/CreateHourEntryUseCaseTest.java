@@ -0,0 +1,74 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import br.com.hourmanager.application.ports.input.data.HourEntryInputData;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CreateHourEntryUseCaseTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+    private static final LocalDate TUESDAY = LocalDate.of(2025, 3, 4);
+
+    @Mock
+    private HourEntryRepository hourEntryRepository;
+    @Mock
+    private DailyHourTotalRepository dailyHourTotalRepository;
+    @Mock
+    private PeriodSnapshotService periodSnapshotService;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @InjectMocks
+    private CreateHourEntryUseCase useCase;
+
+    @Test
+    @DisplayName("Lote grava tudo de uma vez e aplica um delta e um evento por dia")
+    void createAllAggregatesPerDay() {
+        when(hourEntryRepository.saveAll(any())).thenAnswer(invocation -> {
+            List<HourEntry> entries = invocation.getArgument(0);
+            entries.forEach(entry -> entry.setId(UUID.randomUUID()));
+            return entries;
+        });
+
+        List<HourEntry> created = useCase.createAll(List.of(
+                input(TUESDAY, "3"),
+                input(MONDAY, "4"),
+                input(TUESDAY, "2.5")));
+
+        assertThat(created).extracting(HourEntry::getEntryDate).containsExactly(TUESDAY, MONDAY, TUESDAY);
+        assertThat(created).allSatisfy(entry -> assertThat(entry.getId()).isNotNull());
+        verify(hourEntryRepository, times(1)).saveAll(any());
+        verify(dailyHourTotalRepository).applyDelta(MONDAY, new BigDecimal("4"), 1);
+        verify(dailyHourTotalRepository).applyDelta(TUESDAY, new BigDecimal("5.5"), 2);
+        verify(periodSnapshotService, times(1)).onDatesChanged(anyCollection(), any());
+        verify(domainEventPublisher).publish(new HourDomainEvent.HourEntryCreated(MONDAY, new BigDecimal("4")));
+        verify(domainEventPublisher).publish(new HourDomainEvent.HourEntryCreated(TUESDAY, new BigDecimal("5.5")));
+    }
+
+    private static HourEntryInputData input(LocalDate date, String hours) {
+        return HourEntryInputData.builder().entryDate(date).hours(new BigDecimal(hours)).build();
+    }
+}
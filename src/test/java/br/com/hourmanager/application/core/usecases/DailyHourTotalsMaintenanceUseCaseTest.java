@@ -0,0 +1,88 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.DailyHourTotal;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DailyHourTotalsMaintenanceUseCaseTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 1, 21);
+    private static final LocalDate END = LocalDate.of(2025, 2, 20);
+
+    @Mock
+    private HourEntryRepository hourEntryRepository;
+    @Mock
+    private DailyHourTotalRepository dailyHourTotalRepository;
+    @Mock
+    private PeriodSnapshotService periodSnapshotService;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @InjectMocks
+    private DailyHourTotalsMaintenanceUseCase useCase;
+
+    @Test
+    @DisplayName("Rebuild recria o rollup, descarta snapshots e avisa os derivados em memória")
+    void rebuild() {
+        when(dailyHourTotalRepository.rebuildAll()).thenReturn(30);
+
+        assertThat(useCase.rebuild()).isEqualTo(30);
+
+        InOrder order = inOrder(dailyHourTotalRepository, periodSnapshotService, domainEventPublisher);
+        order.verify(dailyHourTotalRepository).rebuildAll();
+        order.verify(periodSnapshotService).invalidateAll();
+        order.verify(domainEventPublisher).publish(new HourDomainEvent.DailyHourTotalsRebuilt());
+    }
+
+    @Test
+    @DisplayName("Rollup igual à soma direta -> sem inconsistências")
+    void consistent() {
+        when(hourEntryRepository.sumHoursByDayBetween(START, END)).thenReturn(List.of(total(START, "8", 1)));
+        when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(total(START, "8.00", 1)));
+
+        assertThat(useCase.findInconsistencies(START, END)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Horas, quantidade ou dia divergentes -> datas ordenadas")
+    void inconsistencies() {
+        LocalDate hoursDiffer = START.plusDays(1);
+        LocalDate countDiffers = START.plusDays(2);
+        LocalDate onlyInEntries = START.plusDays(3);
+        LocalDate onlyInRollup = START;
+        when(hourEntryRepository.sumHoursByDayBetween(START, END)).thenReturn(List.of(
+                total(hoursDiffer, "8", 1),
+                total(countDiffers, "8", 2),
+                total(onlyInEntries, "4", 1)));
+        when(dailyHourTotalRepository.findBetween(START, END)).thenReturn(List.of(
+                total(onlyInRollup, "3", 1),
+                total(hoursDiffer, "7", 1),
+                total(countDiffers, "8", 1)));
+
+        assertThat(useCase.findInconsistencies(START, END))
+                .containsExactly(onlyInRollup, hoursDiffer, countDiffers, onlyInEntries);
+    }
+
+    private static DailyHourTotal total(LocalDate date, String hours, int count) {
+        return DailyHourTotal.builder().entryDate(date).hours(new BigDecimal(hours)).entryCount(count).build();
+    }
+}
@@ -0,0 +1,74 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeleteHourEntryUseCaseTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 3);
+
+    @Mock
+    private HourEntryRepository hourEntryRepository;
+    @Mock
+    private DailyHourTotalRepository dailyHourTotalRepository;
+    @Mock
+    private PeriodSnapshotService periodSnapshotService;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @InjectMocks
+    private DeleteHourEntryUseCase useCase;
+
+    @Test
+    @DisplayName("Remoção desconta horas e uma entrada do rollup do dia e publica o evento")
+    void delete_appliesNegativeDelta() {
+        UUID id = UUID.randomUUID();
+        HourEntry entry = HourEntry.builder().id(id).entryDate(DAY).hours(new BigDecimal("7.5")).build();
+        when(hourEntryRepository.findById(id)).thenReturn(Optional.of(entry));
+
+        assertThat(useCase.delete(id)).isTrue();
+
+        verify(hourEntryRepository).deleteById(id);
+        verify(dailyHourTotalRepository).applyDelta(DAY, new BigDecimal("-7.5"), -1);
+        verify(periodSnapshotService).onDateChanged(eq(DAY), any());
+        verify(domainEventPublisher).publish(new HourDomainEvent.HourEntryDeleted(DAY, new BigDecimal("7.5")));
+    }
+
+    @Test
+    @DisplayName("Entrada inexistente -> false e rollup intocado")
+    void missing_returnsFalse() {
+        UUID id = UUID.randomUUID();
+        when(hourEntryRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThat(useCase.delete(id)).isFalse();
+
+        verify(hourEntryRepository, never()).deleteById(any());
+        verify(dailyHourTotalRepository, never()).applyDelta(any(), any(), anyInt());
+        verifyNoInteractions(periodSnapshotService, domainEventPublisher);
+    }
+}
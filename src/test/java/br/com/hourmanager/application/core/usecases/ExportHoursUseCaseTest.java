@@ -0,0 +1,138 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.domains.SystemConfig;
+import br.com.hourmanager.application.core.period.PeriodCalendarProvider;
+import br.com.hourmanager.application.core.period.PeriodKeyService;
+import br.com.hourmanager.application.ports.output.repositories.HourAdjustmentRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourEntryRepository;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportHoursUseCaseTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 3);
+    private static final LocalDate PERIOD_START = LocalDate.of(2025, 2, 21);
+    private static final LocalDate PERIOD_END = LocalDate.of(2025, 3, 20);
+
+    @Mock
+    private HourEntryRepository hourEntryRepository;
+    @Mock
+    private HourAdjustmentRepository hourAdjustmentRepository;
+    @Mock
+    private SystemConfigRepository systemConfigRepository;
+    @Mock
+    private PeriodKeyService periodKeyService;
+
+    private ExportHoursUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ExportHoursUseCase(hourEntryRepository, hourAdjustmentRepository, systemConfigRepository,
+                new PeriodCalendarProvider(10), periodKeyService);
+    }
+
+    @Test
+    @DisplayName("Período atual com re-key em dia -> lê pela chave period_start e fecha o cursor")
+    void currentPeriod_byPeriodKey() {
+        SystemConfig config = config();
+        when(periodKeyService.isCurrentFor(config)).thenReturn(true);
+        AtomicBoolean closed = new AtomicBoolean();
+        when(hourEntryRepository.streamByEntryDateBetween(PERIOD_START, PERIOD_START))
+                .thenReturn(Stream.of(entry(PERIOD_START)));
+        when(hourEntryRepository.streamByPeriodStart(PERIOD_START))
+                .thenReturn(Stream.of(entry(PERIOD_START), entry(TODAY)).onClose(() -> closed.set(true)));
+
+        List<HourEntry> sink = new ArrayList<>();
+        useCase.exportCurrentPeriodEntries(TODAY, sink::add);
+
+        assertThat(sink).extracting(HourEntry::getEntryDate).containsExactly(PERIOD_START, TODAY);
+        assertThat(closed).isTrue();
+        verify(hourEntryRepository, never()).streamByEntryDateBetween(PERIOD_START, PERIOD_END);
+    }
+
+    @Test
+    @DisplayName("Fechamento 31 a 30, dia ajustado 28/02 -> entradas dele entram no período que começa nele")
+    void currentPeriod_clampedStartDay_isIncluded() {
+        SystemConfig config = SystemConfig.builder().closureStartDay(31).closureEndDay(30).build();
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.of(config));
+        when(periodKeyService.isCurrentFor(config)).thenReturn(true);
+        LocalDate shared = LocalDate.of(2025, 2, 28);
+        // 28/02 tem a chave do período 31/01 a 28/02: a leitura pela chave de 28/02 não o traz
+        when(hourEntryRepository.streamByEntryDateBetween(shared, shared)).thenReturn(Stream.of(entry(shared)));
+        when(hourEntryRepository.streamByPeriodStart(shared)).thenReturn(Stream.of(entry(LocalDate.of(2025, 3, 10))));
+
+        List<HourEntry> sink = new ArrayList<>();
+        useCase.exportCurrentPeriodEntries(LocalDate.of(2025, 3, 10), sink::add);
+
+        assertThat(sink).extracting(HourEntry::getEntryDate).containsExactly(shared, LocalDate.of(2025, 3, 10));
+    }
+
+    @Test
+    @DisplayName("Período atual com re-key pendente -> lê pelo intervalo de datas do período")
+    void currentPeriod_byDateRange() {
+        SystemConfig config = config();
+        when(periodKeyService.isCurrentFor(config)).thenReturn(false);
+        when(hourEntryRepository.streamByEntryDateBetween(PERIOD_START, PERIOD_END)).thenReturn(Stream.of(entry(TODAY)));
+
+        List<HourEntry> sink = new ArrayList<>();
+        useCase.exportCurrentPeriodEntries(TODAY, sink::add);
+
+        assertThat(sink).hasSize(1);
+        verify(hourEntryRepository, never()).streamByPeriodStart(any());
+    }
+
+    @Test
+    @DisplayName("Sem configuração -> nada lido")
+    void currentPeriod_noConfig() {
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.empty());
+
+        List<HourEntry> sink = new ArrayList<>();
+        useCase.exportCurrentPeriodEntries(TODAY, sink::add);
+
+        assertThat(sink).isEmpty();
+        verify(hourEntryRepository, never()).streamByPeriodStart(any());
+        verify(hourEntryRepository, never()).streamByEntryDateBetween(any(), any());
+    }
+
+    @Test
+    @DisplayName("Intervalo ausente -> todas as entradas")
+    void entries_withoutRange_streamsAll() {
+        when(hourEntryRepository.streamAll()).thenReturn(Stream.of(entry(TODAY), entry(TODAY.plusDays(1))));
+
+        List<HourEntry> sink = new ArrayList<>();
+        useCase.exportEntries(null, null, sink::add);
+
+        assertThat(sink).hasSize(2);
+    }
+
+    private SystemConfig config() {
+        SystemConfig config = SystemConfig.builder().closureStartDay(21).closureEndDay(20).build();
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.of(config));
+        return config;
+    }
+
+    private static HourEntry entry(LocalDate date) {
+        return HourEntry.builder().entryDate(date).hours(new BigDecimal("8")).build();
+    }
+}
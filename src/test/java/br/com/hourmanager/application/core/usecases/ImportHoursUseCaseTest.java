@@ -0,0 +1,108 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.HourAdjustment;
+import br.com.hourmanager.application.core.domains.HourEntry;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import br.com.hourmanager.application.ports.input.ImportHoursInputGateway.ImportResult;
+import br.com.hourmanager.application.ports.input.data.HourAdjustmentInputData;
+import br.com.hourmanager.application.ports.input.data.HourEntryInputData;
+import br.com.hourmanager.application.ports.input.data.HourImportLine;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.DailyHourTotalRepository;
+import br.com.hourmanager.application.ports.output.repositories.HourBulkLoadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ImportHoursUseCaseTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 3);
+
+    @Mock
+    private HourBulkLoadRepository hourBulkLoadRepository;
+    @Mock
+    private DailyHourTotalRepository dailyHourTotalRepository;
+    @Mock
+    private PeriodSnapshotService periodSnapshotService;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    private final List<Integer> entryChunks = new ArrayList<>();
+
+    private ImportHoursUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        // O use case reaproveita a lista do lote: guarda só o tamanho de cada chamada
+        lenient().when(hourBulkLoadRepository.copyEntries(anyList())).thenAnswer(invocation -> {
+            List<HourEntry> chunk = invocation.getArgument(0);
+            entryChunks.add(chunk.size());
+            return (long) chunk.size();
+        });
+        lenient().when(hourBulkLoadRepository.copyAdjustments(anyList()))
+                .thenAnswer(invocation -> (long) invocation.<List<HourAdjustment>>getArgument(0).size());
+        useCase = new ImportHoursUseCase(hourBulkLoadRepository, dailyHourTotalRepository, periodSnapshotService,
+                domainEventPublisher, 2);
+    }
+
+    @Test
+    @DisplayName("Grava em lotes do tamanho configurado, relata as rejeitadas e recria o rollup uma vez")
+    void importsInChunks() {
+        ImportResult result = useCase.importLines(List.of(
+                entry(1), entry(2), rejected(3), entry(4), adjustment(5)).iterator());
+
+        assertThat(entryChunks).containsExactly(2, 1);
+        assertThat(result.entriesImported()).isEqualTo(3);
+        assertThat(result.adjustmentsImported()).isEqualTo(1);
+        assertThat(result.linesRejected()).isEqualTo(1);
+        assertThat(result.errors()).singleElement().satisfies(error -> assertThat(error.line()).isEqualTo(3));
+        verify(dailyHourTotalRepository).rebuildAll();
+        verify(periodSnapshotService).invalidateAll();
+        verify(domainEventPublisher).publish(any(HourDomainEvent.DailyHourTotalsRebuilt.class));
+    }
+
+    @Test
+    @DisplayName("Só ajustes: o rollup das entradas não é recriado")
+    void adjustmentsOnlySkipRebuild() {
+        ImportResult result = useCase.importLines(List.of(adjustment(1), adjustment(2)).iterator());
+
+        assertThat(result.adjustmentsImported()).isEqualTo(2);
+        verify(dailyHourTotalRepository, never()).rebuildAll();
+        verify(domainEventPublisher, never()).publish(any());
+    }
+
+    private static HourImportLine entry(long line) {
+        return HourImportLine.builder()
+                .lineNumber(line)
+                .entry(HourEntryInputData.builder().entryDate(DATE).hours(BigDecimal.ONE).build())
+                .build();
+    }
+
+    private static HourImportLine adjustment(long line) {
+        return HourImportLine.builder()
+                .lineNumber(line)
+                .adjustment(HourAdjustmentInputData.builder().adjustmentDate(DATE).deltaHours(BigDecimal.TEN).build())
+                .build();
+    }
+
+    private static HourImportLine rejected(long line) {
+        return HourImportLine.builder().lineNumber(line).errors(List.of("hours is required")).build();
+    }
+}
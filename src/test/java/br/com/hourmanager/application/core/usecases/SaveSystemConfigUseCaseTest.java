@@ -0,0 +1,92 @@
+package br.com.hourmanager.application.core.usecases;
+
+import br.com.hourmanager.application.core.domains.SystemConfig;
+import br.com.hourmanager.application.core.events.HourDomainEvent;
+import br.com.hourmanager.application.core.snapshot.PeriodSnapshotService;
+import br.com.hourmanager.application.ports.input.data.SystemConfigInputData;
+import br.com.hourmanager.application.ports.output.events.DomainEventPublisher;
+import br.com.hourmanager.application.ports.output.repositories.SystemConfigRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SaveSystemConfigUseCaseTest {
+
+    @Mock
+    private SystemConfigRepository systemConfigRepository;
+    @Mock
+    private PeriodSnapshotService periodSnapshotService;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    @InjectMocks
+    private SaveSystemConfigUseCase useCase;
+
+    @Test
+    @DisplayName("Dias de fechamento mudaram -> snapshots descartados na transação e evento pede re-key")
+    void closureDaysChanged_invalidatesSnapshotsAndPublishes() {
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.of(existing(21, 20)));
+
+        useCase.save(input(1, 31));
+
+        verify(systemConfigRepository).save(any());
+        verify(periodSnapshotService).invalidateAll();
+        verify(domainEventPublisher).publish(new HourDomainEvent.SystemConfigSaved(true));
+    }
+
+    @Test
+    @DisplayName("Só horas esperadas mudaram -> snapshots mantidos e evento sem re-key")
+    void sameClosureDays_keepsSnapshots() {
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.of(existing(21, 20)));
+
+        useCase.save(input(21, 20));
+
+        verify(periodSnapshotService, never()).invalidateAll();
+        verify(domainEventPublisher).publish(new HourDomainEvent.SystemConfigSaved(false));
+    }
+
+    @Test
+    @DisplayName("Primeira configuração -> evento pede re-key")
+    void firstConfig_publishesClosureDaysChanged() {
+        when(systemConfigRepository.findCurrent()).thenReturn(Optional.empty());
+
+        useCase.save(input(21, 20));
+
+        verify(systemConfigRepository).save(any());
+        verifyNoInteractions(periodSnapshotService);
+        verify(domainEventPublisher).publish(new HourDomainEvent.SystemConfigSaved(true));
+    }
+
+    private static SystemConfig existing(int start, int end) {
+        return SystemConfig.builder()
+                .id(UUID.randomUUID())
+                .closureStartDay(start)
+                .closureEndDay(end)
+                .expectedWeeklyHours(new BigDecimal("40"))
+                .createdAt(Instant.parse("2025-01-01T00:00:00Z"))
+                .build();
+    }
+
+    private static SystemConfigInputData input(int start, int end) {
+        return SystemConfigInputData.builder()
+                .closureStartDay(start)
+                .closureEndDay(end)
+                .expectedWeeklyHours(new BigDecimal("44"))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.hourmanager.config.infra;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionalGatewaysTest {
+
+    public interface Gateway {
+        String write(String value);
+
+        String findValue();
+    }
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleTransactionStatus status = new SimpleTransactionStatus();
+
+    @Test
+    @DisplayName("Método comum -> transação REQUIRED de escrita, commit no fim")
+    void write_commits() {
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        Gateway gateway = TransactionalGateways.transactional(Gateway.class, gateway(), transactionManager, "find*");
+
+        assertThat(gateway.write("a")).isEqualTo("ok:a");
+
+        TransactionDefinition definition = definition();
+        assertThat(definition.getPropagationBehavior()).isEqualTo(TransactionDefinition.PROPAGATION_REQUIRED);
+        assertThat(definition.isReadOnly()).isFalse();
+        verify(transactionManager).commit(status);
+    }
+
+    @Test
+    @DisplayName("Método listado -> transação somente leitura")
+    void listedMethod_isReadOnly() {
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        Gateway gateway = TransactionalGateways.transactional(Gateway.class, gateway(), transactionManager, "find*");
+
+        gateway.findValue();
+
+        assertThat(definition().isReadOnly()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Exceção não verificada -> rollback e exceção propagada")
+    void runtimeException_rollsBack() {
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        Gateway gateway = TransactionalGateways.transactional(Gateway.class, gateway(), transactionManager);
+
+        assertThatThrownBy(() -> gateway.write(null)).isInstanceOf(IllegalArgumentException.class);
+
+        verify(transactionManager).rollback(status);
+        verify(transactionManager, never()).commit(any());
+    }
+
+    private TransactionDefinition definition() {
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        return definition.getValue();
+    }
+
+    private static Gateway gateway() {
+        return new Gateway() {
+            @Override
+            public String write(String value) {
+                if (value == null) {
+                    throw new IllegalArgumentException("value");
+                }
+                return "ok:" + value;
+            }
+
+            @Override
+            public String findValue() {
+                return "value";
+            }
+        };
+    }
+}